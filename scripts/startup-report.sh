@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+#
+# Compara o tempo de startup da imagem atual (AOT + AppCDS + jar em camadas)
+# com a imagem de uma referência anterior do git (ex.: antes do fast-start).
+#
+# Uso:
+#   scripts/startup-report.sh [REF_BASELINE] [EXECUCOES]
+#
+# Pré-requisitos:
+#   - Docker
+#   - Postgres/RabbitMQ do compose.yaml rodando (docker compose up -d)
+#   - Variáveis GITHUB_*, GOOGLE_* e OPENAI_API_KEY exportadas
+#
+# Saída:
+#   build/reports/startup-report.md com o tempo reportado pelo Spring
+#   ("Started SkillBridgeApplication in X seconds") de cada execução.
+
+set -euo pipefail
+
+BASELINE_REF="${1:-master}"
+RUNS="${2:-5}"
+REPORT_DIR="build/reports"
+REPORT="${REPORT_DIR}/startup-report.md"
+
+mkdir -p "${REPORT_DIR}"
+
+echo ">> Construindo imagem baseline a partir de '${BASELINE_REF}'"
+git archive --format=tar "${BASELINE_REF}" | docker build -q -t skillbridge:baseline - > /dev/null
+
+echo ">> Construindo imagem fast-start (working tree)"
+docker build -q --build-arg AOT_PROFILES=dev -t skillbridge:faststart . > /dev/null
+
+run_once() {
+    local image="$1"
+    local name="skillbridge-startup-$$"
+    docker run -d --rm --name "${name}" --network host \
+        -e ACTIVE_PROFILE=dev \
+        -e GITHUB_CLIENT_ID -e GITHUB_CLIENT_SECRET \
+        -e GOOGLE_CLIENT_ID -e GOOGLE_CLIENT_SECRET \
+        -e OPENAI_API_KEY \
+        "${image}" > /dev/null
+
+    local seconds=""
+    for _ in $(seq 1 120); do
+        seconds=$(docker logs "${name}" 2>&1 \
+            | sed -n 's/.*Started SkillBridgeApplication in \([0-9.]*\) seconds.*/\1/p' | head -n1)
+        [ -n "${seconds}" ] && break
+        sleep 1
+    done
+    docker stop "${name}" > /dev/null 2>&1 || true
+    echo "${seconds:-timeout}"
+}
+
+{
+    echo "# Relatório de startup"
+    echo
+    echo "Baseline: \`${BASELINE_REF}\` — execuções por imagem: ${RUNS}"
+    echo
+    echo "| Execução | baseline (s) | fast-start (s) |"
+    echo "|---------:|-------------:|---------------:|"
+    for i in $(seq 1 "${RUNS}"); do
+        echo "| ${i} | $(run_once skillbridge:baseline) | $(run_once skillbridge:faststart) |"
+    done
+} | tee "${REPORT}"
+
+echo
+echo ">> Relatório salvo em ${REPORT}"
@@ -3,6 +3,7 @@ package br.com.fiap.SkillBridge;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * ============================================================
@@ -16,6 +17,8 @@ import org.springframework.cache.annotation.EnableCaching;
  *   da anotação {@link SpringBootApplication}.
  * - Habilita o mecanismo de cache com {@link EnableCaching},
  *   permitindo o uso de anotações como @Cacheable, @CacheEvict, etc.
+ * - Habilita tarefas agendadas com {@link EnableScheduling}
+ *   (ex.: manutenção das partições de candidatura).
  *
  * Fluxo de inicialização:
  * - Ao executar o método main:
@@ -26,6 +29,7 @@ import org.springframework.cache.annotation.EnableCaching;
  */
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class SkillBridgeApplication {
 
     /**
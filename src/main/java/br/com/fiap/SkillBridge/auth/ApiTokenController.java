@@ -0,0 +1,36 @@
+package br.com.fiap.SkillBridge.auth;
+
+import br.com.fiap.SkillBridge.dto.response.ApiTokenResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Troca da sessão web (login OAuth2) por um token da API stateless.
+ *
+ *  POST /auth/api-token → { accessToken, tokenType, expiresIn }
+ *
+ * Fica na cadeia com sessão (exige login e token CSRF); o token devolvido
+ * é usado nas rotas /api/** com "Authorization: Bearer ...".
+ */
+@RestController
+public class ApiTokenController {
+
+    private final ApiTokenService apiTokenService;
+
+    public ApiTokenController(ApiTokenService apiTokenService) {
+        this.apiTokenService = apiTokenService;
+    }
+
+    @PostMapping("/auth/api-token")
+    public ResponseEntity<ApiTokenResponse> issue(@AuthenticationPrincipal SessionUser user) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(apiTokenService.issue(user));
+    }
+}
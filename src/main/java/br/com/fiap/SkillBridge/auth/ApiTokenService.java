@@ -0,0 +1,62 @@
+package br.com.fiap.SkillBridge.auth;
+
+import br.com.fiap.SkillBridge.dto.response.ApiTokenResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Emissão dos tokens da API stateless (JWT HS256, chave em app.api.jwt.secret).
+ *
+ * O subject é o mesmo identificador do principal da sessão (id do GitHub /
+ * sub do Google), então limites por usuário do chat valem igual nos dois
+ * caminhos. Os campos de perfil vão como claims para a API não precisar
+ * de sessão nem de consulta ao provedor.
+ */
+@Service
+public class ApiTokenService {
+
+    public static final String SCOPE = "api";
+
+    private final JwtEncoder jwtEncoder;
+    private final String issuer;
+    private final Duration ttl;
+
+    public ApiTokenService(JwtEncoder jwtEncoder,
+                           @Value("${app.api.jwt.issuer:skillbridge}") String issuer,
+                           @Value("${app.api.jwt.ttl:PT1H}") Duration ttl) {
+        this.jwtEncoder = jwtEncoder;
+        this.issuer = issuer;
+        this.ttl = ttl;
+    }
+
+    public ApiTokenResponse issue(SessionUser user) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(user.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim("scope", SCOPE);
+        putIfPresent(claims, "name", user.getDisplayName());
+        putIfPresent(claims, "login", user.getLogin());
+        putIfPresent(claims, "email", user.getEmail());
+
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims.build())).getTokenValue();
+        return new ApiTokenResponse(token, "Bearer", ttl.toSeconds());
+    }
+
+    private static void putIfPresent(JwtClaimsSet.Builder claims, String name, String value) {
+        if (value != null) {
+            claims.claim(name, value);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.fiap.SkillBridge.auth;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * SecurityContextRepository que troca o OAuth2User do provedor por um
+ * {@link SessionUser} antes de gravar o contexto na sessão.
+ *
+ * Só age no login (quando o principal ainda não é compacto); nas demais
+ * requisições apenas delega. O tamanho serializado do principal fica em
+ * "skillbridge.session.principal.size" (bytes), para acompanhar o custo
+ * por sessão no store (JDBC ou memória).
+ */
+@Slf4j
+public class CompactPrincipalSecurityContextRepository implements SecurityContextRepository {
+
+    private final SecurityContextRepository delegate;
+    private final DistributionSummary principalSize;
+
+    public CompactPrincipalSecurityContextRepository(SecurityContextRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.principalSize = DistributionSummary.builder("skillbridge.session.principal.size")
+                .description("Tamanho serializado do principal gravado na sessão")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return delegate.loadContext(requestResponseHolder);
+    }
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return delegate.loadDeferredContext(request);
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        delegate.saveContext(compact(context), request, response);
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return delegate.containsContext(request);
+    }
+
+    private SecurityContext compact(SecurityContext context) {
+        Authentication authentication = context.getAuthentication();
+        if (!(authentication instanceof OAuth2AuthenticationToken token)
+                || token.getPrincipal() instanceof SessionUser) {
+            return context;
+        }
+        SessionUser user = SessionUser.from(token.getPrincipal());
+        OAuth2AuthenticationToken compact = new OAuth2AuthenticationToken(
+                user, user.getAuthorities(), token.getAuthorizedClientRegistrationId());
+        compact.setDetails(token.getDetails());
+        principalSize.record(serializedSize(user));
+        return new SecurityContextImpl(compact);
+    }
+
+    static int serializedSize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            log.debug("Não foi possível medir o principal da sessão", e);
+            return 0;
+        }
+        return bytes.size();
+    }
+}
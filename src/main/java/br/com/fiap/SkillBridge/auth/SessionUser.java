@@ -0,0 +1,179 @@
+package br.com.fiap.SkillBridge.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Principal compacto guardado na sessão no lugar do OAuth2User do provedor.
+ *
+ * O DefaultOAuth2User/OidcUser carrega todos os atributos do GitHub/Google
+ * (dezenas de campos, URLs da API, id token) e as authorities repetem esse
+ * mapa. Aqui ficam só os campos usados pela aplicação, com tamanho máximo,
+ * para que cada sessão serializada tenha custo previsível.
+ *
+ * getAttributes() continua respondendo "login", "email", "name",
+ * "avatar_url" e "picture" para código que ainda lê atributos.
+ */
+public final class SessionUser implements OAuth2User, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final int MAX_NAME = 128;
+    static final int MAX_EMAIL = 254;
+    static final int MAX_URL = 512;
+    static final int MAX_AUTHORITIES = 16;
+
+    private final String name;
+    private final String login;
+    private final String displayName;
+    private final String email;
+    private final String avatarUrl;
+    private final String[] authorities;
+
+    private transient Map<String, Object> attributes;
+    private transient List<GrantedAuthority> grantedAuthorities;
+
+    private SessionUser(String name, String login, String displayName, String email,
+                        String avatarUrl, String[] authorities) {
+        this.name = name;
+        this.login = login;
+        this.displayName = displayName;
+        this.email = email;
+        this.avatarUrl = avatarUrl;
+        this.authorities = authorities;
+    }
+
+    /**
+     * Reduz o usuário do provedor aos campos usados pela aplicação
+     * ("avatar_url"/"login" do GitHub, "picture" do Google).
+     */
+    public static SessionUser from(OAuth2User user) {
+        if (user instanceof SessionUser compact) {
+            return compact;
+        }
+        String login = limit(attribute(user, "login"), MAX_NAME);
+        String email = limit(attribute(user, "email"), MAX_EMAIL);
+        String displayName = limit(attribute(user, "name"), MAX_NAME);
+        if (displayName == null) {
+            displayName = login != null ? login : email;
+        }
+        String avatar = attribute(user, "avatar_url");
+        if (avatar == null) {
+            avatar = attribute(user, "picture");
+        }
+        return new SessionUser(limit(user.getName(), MAX_NAME), login, displayName, email,
+                limit(avatar, MAX_URL), authorityNames(user.getAuthorities()));
+    }
+
+    // =========================================================================
+    // 1. Campos usados pelas telas
+    // =========================================================================
+
+    public String getLogin() {
+        return login;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    // =========================================================================
+    // 2. Contrato OAuth2User
+    // =========================================================================
+
+    /**
+     * Identificador do provedor (id do GitHub / sub do Google), o mesmo do
+     * usuário original: chaves de rate limit e auditoria não mudam.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        Map<String, Object> result = attributes;
+        if (result == null) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            putIfPresent(map, "login", login);
+            putIfPresent(map, "email", email);
+            putIfPresent(map, "name", displayName);
+            putIfPresent(map, "avatar_url", avatarUrl);
+            putIfPresent(map, "picture", avatarUrl);
+            result = Collections.unmodifiableMap(map);
+            attributes = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        List<GrantedAuthority> result = grantedAuthorities;
+        if (result == null) {
+            List<GrantedAuthority> list = new ArrayList<>(authorities.length);
+            for (String authority : authorities) {
+                list.add(new SimpleGrantedAuthority(authority));
+            }
+            result = Collections.unmodifiableList(list);
+            grantedAuthorities = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionUser[name=" + name + ", login=" + login + "]";
+    }
+
+    // =========================================================================
+    // 3. Auxiliares
+    // =========================================================================
+
+    private static String[] authorityNames(Collection<? extends GrantedAuthority> granted) {
+        // OAuth2UserAuthority/OidcUserAuthority guardam o mapa de atributos inteiro:
+        // só o nome da authority vai para a sessão
+        return granted.stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null)
+                .distinct()
+                .limit(MAX_AUTHORITIES)
+                .toArray(String[]::new);
+    }
+
+    private static String attribute(OAuth2User user, String key) {
+        Object value = user.getAttribute(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static String limit(String value, int max) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private static void putIfPresent(Map<String, Object> map, String key, Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+}
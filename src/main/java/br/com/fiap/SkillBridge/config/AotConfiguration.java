@@ -0,0 +1,162 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.auth.SessionUser;
+import br.com.fiap.SkillBridge.dto.CandidaturaDTO;
+import br.com.fiap.SkillBridge.dto.request.ChatRequest;
+import br.com.fiap.SkillBridge.dto.request.VagaRequest;
+import br.com.fiap.SkillBridge.dto.response.ApiTokenResponse;
+import br.com.fiap.SkillBridge.dto.response.ChatResponse;
+import br.com.fiap.SkillBridge.dto.response.VagaFunil;
+import br.com.fiap.SkillBridge.dto.response.VagaOption;
+import br.com.fiap.SkillBridge.dto.response.VagaResponse;
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.models.Candidatura;
+import br.com.fiap.SkillBridge.models.Curriculo;
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.cdc.PostgresCdcReader;
+import br.com.fiap.SkillBridge.services.projection.ProjectionEngine;
+import org.springframework.aot.AotDetector;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Configurações ligadas ao startup rápido (Spring AOT + AppCDS) e ao
+ * build nativo opcional com GraalVM.
+ *
+ * - {@link SkillBridgeRuntimeHints}: registra reflexão/recursos que o
+ *   GraalVM não consegue descobrir sozinho (DTOs serializados pelo Jackson,
+ *   entidades Lombok lidas pelo Thymeleaf, PDFs e bundles de mensagens).
+ * - {@link #flywayMigrationStrategy}: no "training run" do AppCDS não há
+ *   banco disponível. Como as condições ficam fixas no build AOT, não dá
+ *   para simplesmente desligar o Flyway por propriedade; a estratégia
+ *   abaixo pula o migrate só quando app.startup.training-run=true.
+ * - {@link #aotSwitchGuard}: com AOT, os interruptores por propriedade
+ *   (CDC_ENABLED, CACHE_DISTRIBUTED, PROJECTION_ENABLED, SESSION_STORE,
+ *   EVENTS_BUS, ...) valem como foram no build; a aplicação não sobe se o
+ *   valor em runtime contradisser o que foi compilado.
+ */
+@Configuration
+@ImportRuntimeHints(AotConfiguration.SkillBridgeRuntimeHints.class)
+public class AotConfiguration {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.startup.training-run:false}") boolean trainingRun) {
+        return flyway -> {
+            if (!trainingRun) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    /**
+     * Falha o startup quando um interruptor lido em runtime não bate com os
+     * beans que o AOT registrou no build (ex.: imagem gerada com CDC
+     * desligado e CDC_ENABLED=true no deploy). Sem AOT as condições são
+     * avaliadas na subida e os dois lados sempre concordam.
+     */
+    @Bean
+    public static SmartInitializingSingleton aotSwitchGuard(Environment environment,
+                                                            ListableBeanFactory beanFactory) {
+        return () -> {
+            if (!AotDetector.useGeneratedArtifacts()) {
+                return;
+            }
+            List<String> mismatches = new ArrayList<>();
+            for (AotSwitch s : AOT_SWITCHES) {
+                boolean wanted = s.wanted().test(environment);
+                boolean built = beanFactory.getBeanNamesForType(s.beanType(), false, false).length > 0;
+                if (wanted != built) {
+                    mismatches.add(s.property() + "=" + environment.getProperty(s.property())
+                            + " (build AOT: " + (built ? "ligado" : "desligado") + ")");
+                }
+            }
+            if (!mismatches.isEmpty()) {
+                throw new IllegalStateException("Configuração em runtime diferente da usada no build AOT: "
+                        + String.join(", ", mismatches)
+                        + ". Gere a imagem com os mesmos valores (build args do Dockerfile).");
+            }
+        };
+    }
+
+    /**
+     * Interruptor decidido por @ConditionalOnProperty e o bean que ele registra.
+     */
+    private record AotSwitch(String property, Predicate<Environment> wanted, Class<?> beanType) {
+    }
+
+    private static final List<AotSwitch> AOT_SWITCHES = List.of(
+            new AotSwitch("app.cdc.enabled",
+                    env -> is(env, "app.cdc.enabled", "true"), PostgresCdcReader.class),
+            new AotSwitch("app.cache.distributed.enabled",
+                    env -> is(env, "app.cache.distributed.enabled", "true"), DistributedCacheConfiguration.class),
+            new AotSwitch("app.projection.enabled",
+                    env -> is(env, "app.projection.enabled", "true"), ProjectionEngine.class),
+            new AotSwitch("app.session.store",
+                    env -> is(env, "app.session.store", "memory"), InMemorySessionConfiguration.class),
+            new AotSwitch("app.events.bus",
+                    env -> is(env, "app.events.bus", "in-process"), InProcessEventBusConfiguration.class),
+            new AotSwitch("app.rabbit.enabled",
+                    env -> !env.containsProperty("app.rabbit.enabled") || is(env, "app.rabbit.enabled", "true"),
+                    RabbitConfig.class),
+            new AotSwitch("app.datasource.replica-urls",
+                    env -> env.containsProperty("app.datasource.replica-urls")
+                            && !is(env, "app.datasource.replica-urls", "false"),
+                    ReadReplicaDataSourceConfiguration.class)
+    );
+
+    private static boolean is(Environment environment, String property, String value) {
+        return value.equalsIgnoreCase(environment.getProperty(property, "").trim());
+    }
+
+    static class SkillBridgeRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            Class<?>[] types = {
+                    VagaEventDto.class,
+                    Vaga.class,
+                    Candidatura.class,
+                    Curriculo.class,
+                    CandidaturaDTO.class,
+                    VagaRequest.class,
+                    VagaResponse.class,
+                    ChatRequest.class,
+                    ChatResponse.class,
+                    VagaOption.class,
+                    VagaFunil.class,
+                    SessionUser.class,
+                    ApiTokenResponse.class
+            };
+            for (Class<?> type : types) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            // principal gravado na sessão (serialização Java do Spring Session)
+            hints.serialization().registerType(SessionUser.class);
+
+            hints.resources().registerPattern("doc/*.pdf");
+            hints.resources().registerResourceBundle("messages");
+            hints.resources().registerResourceBundle("ValidationMessages");
+            // lidos como .properties pelo PrecompiledMessageSource
+            hints.resources().registerPattern("messages*.properties");
+            hints.resources().registerPattern("ValidationMessages*.properties");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.auth.ApiTokenService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
+import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+
+/**
+ * Cadeia de segurança da API stateless (/api/**), separada da cadeia web.
+ *
+ * - Autenticação só por "Authorization: Bearer {jwt}" (HS256), validado
+ *   localmente: assinatura, expiração e emissor. Sem sessão, sem CSRF,
+ *   sem request cache e sem redirect para o login (401/403 em JSON).
+ * - Tokens emitidos por POST /auth/api-token (ApiTokenService) para quem
+ *   já está logado pela cadeia com sessão ({@link SecurityConfiguration}).
+ * - 401 (token ausente/inválido) e 403 (sem o escopo) respondem JSON
+ *   {"error": ...}, mantendo o WWW-Authenticate padrão do resource server.
+ * - Chave em app.api.jwt.secret (mínimo 32 bytes). Sem ela, só no perfil
+ *   dev (e no training run do AppCDS) é gerada uma chave aleatória no
+ *   startup; em qualquer outro perfil a aplicação não sobe.
+ */
+@Slf4j
+@Configuration
+public class ApiSecurityConfiguration {
+
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final AuthenticationEntryPoint UNAUTHORIZED = new BearerTokenAuthenticationEntryPoint();
+    private static final AccessDeniedHandler FORBIDDEN = new BearerTokenAccessDeniedHandler();
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http, JwtDecoder apiJwtDecoder) throws Exception {
+        AuthenticationEntryPoint unauthorized = (request, response, e) -> {
+            UNAUTHORIZED.commence(request, response, e);
+            writeError(response, "Token ausente, inválido ou expirado");
+        };
+        AccessDeniedHandler forbidden = (request, response, e) -> {
+            FORBIDDEN.handle(request, response, e);
+            writeError(response, "Token sem permissão para este recurso");
+        };
+
+        http
+                .securityMatcher("/api/**")
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasAuthority("SCOPE_" + ApiTokenService.SCOPE)
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.decoder(apiJwtDecoder))
+                        .authenticationEntryPoint(unauthorized)
+                        .accessDeniedHandler(forbidden))
+                // também para requisições sem Bearer (anônimas)
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(unauthorized)
+                        .accessDeniedHandler(forbidden))
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache
+                        .requestCache(new NullRequestCache()))
+                .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    @Bean
+    public SecretKey apiJwtKey(@Value("${app.api.jwt.secret:}") String secret,
+                               @Value("${app.startup.training-run:false}") boolean trainingRun,
+                               Environment environment) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secret.isBlank()) {
+            if (!trainingRun && !environment.acceptsProfiles(Profiles.of("dev"))) {
+                throw new IllegalStateException("app.api.jwt.secret (API_JWT_SECRET) é obrigatório fora do perfil dev");
+            }
+            log.warn("[API] app.api.jwt.secret não definido: usando chave aleatória (tokens inválidos após restart)");
+            bytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(bytes);
+        } else if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.api.jwt.secret precisa de pelo menos " + MIN_SECRET_BYTES + " bytes");
+        }
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtDecoder apiJwtDecoder(SecretKey apiJwtKey,
+                                    @Value("${app.api.jwt.issuer:skillbridge}") String issuer) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(apiJwtKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+
+    @Bean
+    public JwtEncoder apiJwtEncoder(SecretKey apiJwtKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(apiJwtKey));
+    }
+
+    /**
+     * Corpo JSON dos erros de autenticação/autorização (status e
+     * WWW-Authenticate já definidos pelos handlers padrão).
+     */
+    private static void writeError(HttpServletResponse response, String message) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.fiap.SkillBridge.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * Integração entre o Spring Cache e o cache de segundo nível do Hibernate.
+ *
+ * O Spring Boot cria um único javax.cache.CacheManager (JCache/Ehcache) a partir
+ * de spring.cache.jcache.config (ehcache.xml). Aqui esse MESMO CacheManager é
+ * entregue ao Hibernate, para que as regiões "vaga" e de query cache fiquem
+ * no mesmo lugar (e com os mesmos limites) que os caches do Spring.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+}
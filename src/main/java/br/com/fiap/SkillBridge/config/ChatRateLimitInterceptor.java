@@ -0,0 +1,61 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.services.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+
+/**
+ * Limite de taxa do /chat/api por usuário (token bucket).
+ *
+ * Roda antes do controller (e antes de ler/validar o JSON): quando o balde
+ * do usuário está vazio, responde 429 com Retry-After e um corpo fixo no
+ * formato do ChatResponse, sem tocar no AIService.
+ */
+public class ChatRateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketRateLimiter limiter;
+    private final Counter rejected;
+
+    public ChatRateLimitInterceptor(TokenBucketRateLimiter limiter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.rejected = Counter.builder("skillbridge.chat.rate_limited")
+                .description("Requisições do chat recusadas pelo limite por usuário")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        TokenBucketRateLimiter.Decision decision = limiter.tryAcquire(principalKey(request));
+        if (decision.allowed()) {
+            return true;
+        }
+
+        rejected.increment();
+        long seconds = Math.max(1, (decision.retryAfterNanos() + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"reply\":\"Muitas perguntas em sequência. Tente novamente em "
+                + seconds + " s.\"}");
+        return false;
+    }
+
+    /**
+     * Chave do usuário no limite e na fila justa do LLM (ChatController e
+     * ChatApiController): nome do principal ou "ip:" + endereço remoto.
+     */
+    public static String principalKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -2,7 +2,6 @@ package br.com.fiap.SkillBridge.config;
 
 import br.com.fiap.SkillBridge.models.Vaga;
 import br.com.fiap.SkillBridge.repositorys.VagaRepository;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,7 +15,8 @@ import java.util.List;
  * Responsável por popular a base de dados com registros
  * iniciais (seed) para a entidade {@link Vaga}.
  *
- * Quando a aplicação sobe:
+ * Quando a aplicação sobe (fase "seed" do {@link StartupWarmup},
+ * executada em background após o ApplicationReadyEvent):
  * - Verifica se a tabela de vagas está vazia.
  * - Caso esteja, insere algumas vagas de exemplo para
  *   facilitar testes da SkillBridge (listagens, filtros, etc.).
@@ -47,13 +47,14 @@ public class DatabaseSeeder {
     //  MÉTODO DE INICIALIZAÇÃO (SEED)
     // =========================================================
     /**
-     * Executado automaticamente após o contexto Spring ser inicializado.
+     * Executado pelo {@link StartupWarmup} depois que o contexto Spring
+     * sobe, fora da thread de inicialização (antes era um @PostConstruct
+     * que segurava o startup com uma consulta ao banco).
      *
      * Lógica:
      * - Se já houver vagas cadastradas, nenhum seed é aplicado.
      * - Se não houver, são criadas 3 vagas de exemplo.
      */
-    @PostConstruct
     public void init() {
         long totalVagas = vagaRepository.count();
 
@@ -0,0 +1,72 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.services.cache.BroadcastingCacheManager;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.cache.RabbitInvalidationTransport;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modo de cache distribuído (vários nós atrás do balanceador).
+ *
+ * Ativado com app.cache.distributed.enabled=true (requer RabbitMQ):
+ *  - cada nó continua com seus caches locais (near cache);
+ *  - o CacheManager do Spring é decorado para publicar evict/clear;
+ *  - as invalidações vão pelo exchange de vagas (app.messaging.exchange)
+ *    com a routing key app.cache.distributed.routing-key, numa fila
+ *    anônima por nó.
+ *
+ * Sem o RabbitMQ habilitado não há transporte e cada nó fica isolado,
+ * como no modo padrão.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.distributed.enabled", havingValue = "true")
+public class DistributedCacheConfiguration {
+
+    @Bean
+    static BeanPostProcessor broadcastingCacheManagerPostProcessor(ObjectProvider<CacheInvalidationBus> bus) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof BroadcastingCacheManager)) {
+                    return new BroadcastingCacheManager(cacheManager, bus.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue,
+                                            TopicExchange vagaExchange,
+                                            @Value("${app.cache.distributed.routing-key:cache.invalidation}") String routingKey) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(vagaExchange).with(routingKey);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+    public RabbitInvalidationTransport rabbitInvalidationTransport(
+            RabbitTemplate rabbitTemplate,
+            @Value("${app.messaging.exchange}") String exchange,
+            @Value("${app.cache.distributed.routing-key:cache.invalidation}") String routingKey) {
+        return new RabbitInvalidationTransport(rabbitTemplate, exchange, routingKey);
+    }
+}
@@ -1,24 +1,28 @@
 package br.com.fiap.SkillBridge.config;
-import org.springframework.context.MessageSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
+import java.util.List;
 import java.util.Locale;
 
 @Configuration
 public class I18nConfiguration implements WebMvcConfigurer {
 
+    static final Locale DEFAULT_LOCALE = new Locale("pt", "BR");
+
+    // Bundles pré-carregados (messages + ValidationMessages do Bean Validation)
     @Bean
-    MessageSource messageSource(){
-        var messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasename("messages");
-        return messageSource;
+    PrecompiledMessageSource messageSource(@Value("${app.i18n.basenames:messages,ValidationMessages}") List<String> basenames,
+                                           MeterRegistry meterRegistry){
+        return new PrecompiledMessageSource(basenames, DEFAULT_LOCALE, meterRegistry);
     }
 
     @Bean
@@ -30,13 +34,15 @@ public class I18nConfiguration implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(localeChangeInterceptor());
+        // ?lang= grava o idioma na sessão: fora da API stateless
+        registry.addInterceptor(localeChangeInterceptor())
+                .excludePathPatterns("/api/**");
     }
 
     @Bean
     LocaleResolver localeResolver(){
         var localeResolver = new SessionLocaleResolver();
-        localeResolver.setDefaultLocale(new Locale("pt", "BR"));
+        localeResolver.setDefaultLocale(DEFAULT_LOCALE);
         return localeResolver;
     }
 }
\ No newline at end of file
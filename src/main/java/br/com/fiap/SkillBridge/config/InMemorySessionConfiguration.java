@@ -0,0 +1,60 @@
+package br.com.fiap.SkillBridge.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store de sessões em memória ({@code app.session.store=memory}).
+ *
+ * Para desenvolvimento ou instância única sem banco de sessões. Com este
+ * SessionRepository declarado, o Spring Boot não configura o store JDBC
+ * (padrão, {@code app.session.store=jdbc}). As sessões expiradas são
+ * varridas periodicamente; a quantidade fica em "skillbridge.session.active".
+ */
+@Slf4j
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(name = "app.session.store", havingValue = "memory")
+public class InMemorySessionConfiguration {
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    @Bean
+    public MapSessionRepository sessionRepository(MeterRegistry meterRegistry,
+                                                  @Value("${spring.session.timeout:30m}") Duration timeout) {
+        MapSessionRepository repository = new MapSessionRepository(sessions);
+        repository.setDefaultMaxInactiveInterval(timeout != null ? timeout : MapSession.DEFAULT_MAX_INACTIVE_INTERVAL);
+        Gauge.builder("skillbridge.session.active", sessions, Map::size)
+                .description("Sessões HTTP mantidas no store em memória")
+                .register(meterRegistry);
+        return repository;
+    }
+
+    /**
+     * O MapSessionRepository só descarta sessões expiradas quando elas são
+     * lidas; sem esta varredura, sessões abandonadas ficariam no heap.
+     */
+    @Scheduled(fixedDelayString = "${app.session.memory.sweep-interval:PT1M}")
+    public void sweepExpired() {
+        int before = sessions.size();
+        sessions.values().removeIf(Session::isExpired);
+        int removed = before - sessions.size();
+        if (removed > 0) {
+            log.debug("[Sessões] {} sessão(ões) expirada(s) removida(s)", removed);
+        }
+    }
+}
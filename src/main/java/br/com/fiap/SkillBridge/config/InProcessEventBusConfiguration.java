@@ -0,0 +1,32 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.events.VagaEventHandler;
+import br.com.fiap.SkillBridge.services.messaging.InProcessEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Modo de eventos sem broker ({@code app.events.bus=in-process}).
+ *
+ * Os eventos de vaga passam a ser entregues aos {@link VagaEventHandler}
+ * pelo ring buffer da própria JVM. Marcado como @Primary para prevalecer
+ * sobre o RabbitProducerService caso o RabbitMQ continue habilitado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.events.bus", havingValue = "in-process")
+public class InProcessEventBusConfiguration {
+
+    @Bean
+    @Primary
+    public InProcessEventBus inProcessEventBus(ObjectProvider<VagaEventHandler> handlers,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.events.in-process.buffer-size:65536}") int bufferSize,
+                                               @Value("${app.events.in-process.drain-timeout-ms:5000}") long drainTimeoutMs) {
+        return new InProcessEventBus(bufferSize, drainTimeoutMs, handlers.orderedStream().toList(), meterRegistry);
+    }
+}
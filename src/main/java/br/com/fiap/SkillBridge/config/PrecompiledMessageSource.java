@@ -0,0 +1,338 @@
+package br.com.fiap.SkillBridge.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PropertyResourceBundle;
+
+/**
+ * MessageSource com todos os bundles pré-carregados em memória.
+ *
+ * Estrutura (um snapshot imutável, trocado atomicamente):
+ *  - índice único código → posição (int), compartilhado entre os idiomas;
+ *  - por idioma, arrays densos com o texto bruto e o MessageFormat já
+ *    compilado de cada posição (null quando o código não existe no idioma
+ *    ou o texto não é um padrão válido, ex.: {max} do Bean Validation).
+ *
+ * Resolução por requisição:
+ *  - sem argumentos: uma consulta no índice + leitura no array, sem
+ *    alocação (texto devolvido como está, igual ao ResourceBundleMessageSource);
+ *  - com argumentos: formata com o MessageFormat pré-compilado
+ *    (sincronizado na instância, como o Spring faz);
+ *  - idioma: exato → mesmo idioma de outro país → bundle sem sufixo →
+ *    idioma padrão da aplicação.
+ *
+ * Hot reload: {@link #reload()} relê os .properties e só publica o novo
+ * snapshot se algo mudou; requisições em andamento continuam com o anterior.
+ * Agendado por app.i18n.reload-cron ("-" = desligado).
+ */
+@Slf4j
+public class PrecompiledMessageSource implements MessageSource {
+
+    private final List<String> basenames;
+    private final Locale defaultLocale;
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final Counter reloads;
+
+    private volatile Snapshot snapshot;
+
+    public PrecompiledMessageSource(List<String> basenames, Locale defaultLocale, MeterRegistry meterRegistry) {
+        this.basenames = List.copyOf(basenames);
+        this.defaultLocale = defaultLocale;
+        this.snapshot = load();
+
+        this.reloads = Counter.builder("skillbridge.i18n.reloads")
+                .description("Recargas dos bundles de mensagens que trocaram o snapshot")
+                .register(meterRegistry);
+        Gauge.builder("skillbridge.i18n.codes", this, source -> source.snapshot.codes.size())
+                .description("Códigos de mensagem distintos carregados")
+                .register(meterRegistry);
+    }
+
+    // =========================================================================
+    // 1. MessageSource
+    // =========================================================================
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        String message = resolve(snapshot, code, args, locale);
+        if (message != null) {
+            return message;
+        }
+        return defaultMessage == null || args == null || args.length == 0
+                ? defaultMessage
+                : new MessageFormat(defaultMessage, localeOrDefault(locale)).format(resolveArgs(args, locale));
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        String message = resolve(snapshot, code, args, locale);
+        if (message == null) {
+            throw new NoSuchMessageException(code, localeOrDefault(locale));
+        }
+        return message;
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        Snapshot s = snapshot;
+        String[] codes = resolvable.getCodes();
+        if (codes != null) {
+            for (String code : codes) {
+                String message = resolve(s, code, resolvable.getArguments(), locale);
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+        String defaultMessage = resolvable.getDefaultMessage();
+        if (defaultMessage != null) {
+            Object[] args = resolvable.getArguments();
+            return args == null || args.length == 0
+                    ? defaultMessage
+                    : new MessageFormat(defaultMessage, localeOrDefault(locale)).format(resolveArgs(args, locale));
+        }
+        throw new NoSuchMessageException(codes != null && codes.length > 0 ? codes[codes.length - 1] : "",
+                localeOrDefault(locale));
+    }
+
+    // =========================================================================
+    // 2. Hot reload
+    // =========================================================================
+
+    /**
+     * Relê os bundles e troca o snapshot se o conteúdo mudou.
+     *
+     * @return true se um novo snapshot foi publicado
+     */
+    @Scheduled(cron = "${app.i18n.reload-cron:-}")
+    public boolean reload() {
+        Snapshot fresh = load();
+        if (fresh.raw.equals(snapshot.raw)) {
+            return false;
+        }
+        snapshot = fresh;
+        reloads.increment();
+        log.info("Mensagens i18n recarregadas: {} códigos, idiomas {}", fresh.codes.size(), fresh.raw.keySet());
+        return true;
+    }
+
+    // =========================================================================
+    // 3. Resolução
+    // =========================================================================
+
+    private String resolve(Snapshot s, String code, Object[] args, Locale locale) {
+        if (code == null) {
+            return null;
+        }
+        Integer index = s.codes.get(code);
+        if (index == null) {
+            return null;
+        }
+        Bundle bundle = s.bundleFor(localeOrDefault(locale));
+        if (bundle == null) {
+            return null;
+        }
+        String pattern = bundle.patterns[index];
+        if (pattern == null || args == null || args.length == 0) {
+            return pattern;
+        }
+        MessageFormat format = bundle.formats[index];
+        if (format == null) {
+            return pattern;
+        }
+        Object[] resolved = resolveArgs(args, locale);
+        synchronized (format) {
+            return format.format(resolved);
+        }
+    }
+
+    /**
+     * Argumentos que também são mensagens (ex.: nome do campo em erros de
+     * validação) são resolvidos; os demais passam direto, sem cópia.
+     */
+    private Object[] resolveArgs(Object[] args, Locale locale) {
+        Object[] resolved = args;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof MessageSourceResolvable nested) {
+                if (resolved == args) {
+                    resolved = args.clone();
+                }
+                resolved[i] = getMessage(nested, locale);
+            }
+        }
+        return resolved;
+    }
+
+    private Locale localeOrDefault(Locale locale) {
+        return locale != null ? locale : defaultLocale;
+    }
+
+    // =========================================================================
+    // 4. Carga dos bundles
+    // =========================================================================
+
+    private Snapshot load() {
+        // idioma → código → texto; o primeiro basename vence em códigos repetidos
+        Map<Locale, Map<String, String>> raw = new LinkedHashMap<>();
+        for (String basename : basenames) {
+            try {
+                for (Resource resource : resolver.getResources("classpath*:" + basename + "*.properties")) {
+                    Locale locale = localeOf(basename, resource.getFilename());
+                    if (locale == null) {
+                        continue;
+                    }
+                    Map<String, String> messages = raw.computeIfAbsent(locale, l -> new HashMap<>());
+                    try (InputStream in = resource.getInputStream()) {
+                        // PropertyResourceBundle: UTF-8, com fallback para ISO-8859-1
+                        PropertyResourceBundle bundle = new PropertyResourceBundle(in);
+                        for (String key : Collections.list(bundle.getKeys())) {
+                            messages.putIfAbsent(key, bundle.getString(key));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao carregar bundle " + basename, e);
+            }
+        }
+        return Snapshot.of(raw, defaultLocale);
+    }
+
+    /**
+     * "messages_pt_BR.properties" → pt_BR; "messages.properties" → ROOT;
+     * null se o arquivo for de outro basename (ex.: "messagesFoo").
+     */
+    static Locale localeOf(String basename, String filename) {
+        if (filename == null || !filename.startsWith(basename) || !filename.endsWith(".properties")) {
+            return null;
+        }
+        String suffix = filename.substring(basename.length(), filename.length() - ".properties".length());
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        if (suffix.charAt(0) != '_') {
+            return null;
+        }
+        String[] parts = suffix.substring(1).split("_", 3);
+        return switch (parts.length) {
+            case 1 -> new Locale(parts[0]);
+            case 2 -> new Locale(parts[0], parts[1]);
+            default -> new Locale(parts[0], parts[1], parts[2]);
+        };
+    }
+
+    /**
+     * Textos de um idioma, indexados pela posição do código no snapshot.
+     */
+    private static final class Bundle {
+        final String[] patterns;
+        final MessageFormat[] formats;
+
+        Bundle(String[] patterns, MessageFormat[] formats) {
+            this.patterns = patterns;
+            this.formats = formats;
+        }
+    }
+
+    private static final class Snapshot {
+        final Map<Locale, Map<String, String>> raw;
+        final Map<String, Integer> codes;
+        final Map<Locale, Bundle> byLocale;
+        final Map<String, Bundle> byLanguage;
+        final Bundle fallback;
+
+        private Snapshot(Map<Locale, Map<String, String>> raw, Map<String, Integer> codes,
+                         Map<Locale, Bundle> byLocale, Map<String, Bundle> byLanguage, Bundle fallback) {
+            this.raw = raw;
+            this.codes = codes;
+            this.byLocale = byLocale;
+            this.byLanguage = byLanguage;
+            this.fallback = fallback;
+        }
+
+        Bundle bundleFor(Locale locale) {
+            Bundle bundle = byLocale.get(locale);
+            if (bundle == null) {
+                bundle = byLanguage.get(locale.getLanguage());
+            }
+            return bundle != null ? bundle : fallback;
+        }
+
+        static Snapshot of(Map<Locale, Map<String, String>> raw, Locale defaultLocale) {
+            Map<String, Integer> codes = new HashMap<>();
+            raw.values().forEach(messages -> messages.keySet()
+                    .forEach(code -> codes.putIfAbsent(code, codes.size())));
+
+            Map<String, String> root = raw.getOrDefault(Locale.ROOT, Map.of());
+            Map<Locale, Bundle> byLocale = new HashMap<>();
+            Map<String, Bundle> byLanguage = new HashMap<>();
+            for (Map.Entry<Locale, Map<String, String>> entry : raw.entrySet()) {
+                Locale locale = entry.getKey();
+                String[] patterns = new String[codes.size()];
+                MessageFormat[] formats = new MessageFormat[codes.size()];
+                // bundle sem sufixo completa os códigos que faltam no idioma
+                fill(root, locale, codes, patterns, formats);
+                fill(entry.getValue(), locale, codes, patterns, formats);
+
+                Bundle bundle = new Bundle(patterns, formats);
+                byLocale.put(locale, bundle);
+                if (!locale.getLanguage().isEmpty()) {
+                    byLanguage.putIfAbsent(locale.getLanguage(), bundle);
+                }
+            }
+            // o país do idioma padrão tem preferência sobre outros países
+            Bundle preferred = byLocale.get(defaultLocale);
+            if (preferred != null) {
+                byLanguage.put(defaultLocale.getLanguage(), preferred);
+            }
+
+            Bundle fallback = byLocale.get(Locale.ROOT);
+            if (fallback == null) {
+                fallback = preferred != null ? preferred : byLanguage.get(defaultLocale.getLanguage());
+            }
+
+            Map<Locale, Map<String, String>> frozen = new HashMap<>();
+            raw.forEach((locale, messages) -> frozen.put(locale, Map.copyOf(messages)));
+            return new Snapshot(Map.copyOf(frozen), Map.copyOf(codes),
+                    Map.copyOf(byLocale), Map.copyOf(byLanguage), fallback);
+        }
+
+        private static void fill(Map<String, String> messages, Locale locale, Map<String, Integer> codes,
+                                 String[] patterns, MessageFormat[] formats) {
+            messages.forEach((code, pattern) -> {
+                int index = Objects.requireNonNull(codes.get(code));
+                patterns[index] = pattern;
+                formats[index] = compile(pattern, locale);
+            });
+        }
+
+        private static MessageFormat compile(String pattern, Locale locale) {
+            try {
+                return new MessageFormat(pattern, locale);
+            } catch (IllegalArgumentException e) {
+                // ex.: "{max}" do Bean Validation; interpolado depois pelo Hibernate Validator
+                return null;
+            }
+        }
+    }
+}
@@ -5,11 +5,21 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import br.com.fiap.SkillBridge.services.messaging.FailedMessageHandler;
+import br.com.fiap.SkillBridge.services.messaging.RetryPolicy;
+import br.com.fiap.SkillBridge.services.messaging.VagaEventMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
 public class RabbitConfig {
@@ -23,6 +33,21 @@ public class RabbitConfig {
     @Value("${app.messaging.routing-key}")
     private String routingKey;
 
+    @Value("${app.messaging.retry.initial-interval:1s}")
+    private Duration retryInitialInterval;
+
+    @Value("${app.messaging.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${app.messaging.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${app.messaging.dead-letter.exchange:vaga.events.dlx}")
+    private String deadLetterExchange;
+
+    @Value("${app.messaging.dead-letter.queue:vaga.events.dlq}")
+    private String deadLetterQueue;
+
     @Bean
     public TopicExchange vagaExchange() {
         return new TopicExchange(exchangeName);
@@ -38,14 +63,63 @@ public class RabbitConfig {
         return BindingBuilder.bind(vagaQueue).to(vagaExchange).with(routingKey);
     }
 
+    // -----------------------------------------------------
+    //  Retry com backoff + dead-letter
+    // -----------------------------------------------------
+    // A fila principal continua sem argumentos (redeclarar com x-dead-letter-*
+    // falharia em brokers onde ela já existe); quem desvia as mensagens que
+    // falharam é o FailedMessageHandler.
+
+    @Bean
+    public RetryPolicy vagaEventsRetryPolicy() {
+        return RetryPolicy.exponential(queueName, retryInitialInterval, retryMultiplier, retryMaxAttempts,
+                deadLetterExchange, deadLetterQueue);
+    }
+
+    /**
+     * Uma fila de espera por intervalo de backoff: TTL da fila e, ao vencer,
+     * dead-letter de volta para a fila principal (exchange padrão).
+     */
+    @Bean
+    public Declarables vagaEventsRetryTopology(RetryPolicy vagaEventsRetryPolicy) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (Duration delay : vagaEventsRetryPolicy.delays()) {
+            declarables.add(QueueBuilder.durable(vagaEventsRetryPolicy.retryQueueName(delay))
+                    .ttl((int) delay.toMillis())
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(queueName)
+                    .build());
+        }
+        DirectExchange dlx = new DirectExchange(deadLetterExchange);
+        Queue dlq = QueueBuilder.durable(deadLetterQueue).build();
+        declarables.add(dlx);
+        declarables.add(dlq);
+        declarables.add(BindingBuilder.bind(dlq).to(dlx).with(queueName));
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public FailedMessageHandler failedMessageHandler(RabbitTemplate rabbitTemplate,
+                                                     RetryPolicy vagaEventsRetryPolicy,
+                                                     MeterRegistry meterRegistry) {
+        return new FailedMessageHandler(rabbitTemplate, vagaEventsRetryPolicy, meterRegistry);
+    }
+
+    @Value("${app.messaging.codec:json}")
+    private String codec;
+
+    /**
+     * JSON por padrão; com app.messaging.codec=binary os VagaEventDto saem no
+     * formato binário compacto. Recebe os dois formatos em qualquer caso.
+     */
     @Bean
-    public Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter() {
+        return new VagaEventMessageConverter(new Jackson2JsonMessageConverter(), "binary".equalsIgnoreCase(codec));
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
-                                         Jackson2JsonMessageConverter converter) {
+                                         MessageConverter converter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(converter);
         return template;
@@ -54,10 +128,17 @@ public class RabbitConfig {
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            Jackson2JsonMessageConverter converter) {
+            MessageConverter converter,
+            FailedMessageHandler failedMessageHandler) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(converter);
+        // Falhas fora do método do listener (ex.: conversão): sem retry local,
+        // direto para o FailedMessageHandler (retry atrasado ou DLQ)
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(failedMessageHandler)
+                .build());
         factory.setConcurrentConsumers(1);
         factory.setMaxConcurrentConsumers(5);
         return factory;
@@ -0,0 +1,59 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.services.ratelimit.FairShareGate;
+import br.com.fiap.SkillBridge.services.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Proteção do chat com IA contra abuso e "vizinho barulhento".
+ *
+ * Duas camadas:
+ *  - {@link ChatRateLimitInterceptor}: token bucket por usuário em /chat/api
+ *    e /api/chat (app.chat.rate-limit.*), com 429 + Retry-After.
+ *  - {@link FairShareGate} "llmGate": limita as chamadas simultâneas ao
+ *    ChatClient e ordena a espera por fila justa ponderada entre usuários
+ *    (app.chat.llm.*). Pesos opcionais por principal em app.chat.llm.weights
+ *    (ex.: {'12345': 2}).
+ */
+@Configuration
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final TokenBucketRateLimiter chatRateLimiter;
+
+    public RateLimitConfiguration(MeterRegistry meterRegistry,
+                                  @Value("${app.chat.rate-limit.capacity:10}") double capacity,
+                                  @Value("${app.chat.rate-limit.refill-per-minute:20}") double refillPerMinute,
+                                  @Value("${app.chat.rate-limit.stripes:64}") int stripes,
+                                  @Value("${app.chat.rate-limit.max-keys-per-stripe:4096}") int maxKeysPerStripe) {
+        this.meterRegistry = meterRegistry;
+        this.chatRateLimiter = new TokenBucketRateLimiter(capacity, refillPerMinute / 60d, stripes, maxKeysPerStripe);
+    }
+
+    @Bean
+    public FairShareGate llmGate(@Value("${app.chat.llm.max-concurrent:4}") int maxConcurrent,
+                                 @Value("${app.chat.llm.queue-capacity:100}") int queueCapacity,
+                                 @Value("${app.chat.llm.max-wait-ms:20000}") long maxWaitMs,
+                                 @Value("#{${app.chat.llm.weights:{:}}}") Map<String, Integer> weights) {
+        FairShareGate gate = new FairShareGate(maxConcurrent, queueCapacity, Duration.ofMillis(maxWaitMs), weights);
+        Gauge.builder("skillbridge.chat.llm.queued", gate, FairShareGate::queued)
+                .description("Perguntas aguardando vaga para chamar o LLM")
+                .register(meterRegistry);
+        return gate;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ChatRateLimitInterceptor(chatRateLimiter, meterRegistry))
+                .addPathPatterns("/chat/api", "/api/chat");
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.fiap.SkillBridge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Camada de acesso a dados com réplicas de leitura.
+ *
+ * Ativada somente quando {@code app.datasource.replica-urls} está definida
+ * (lista separada por vírgula). Sem ela, o Spring Boot continua criando o
+ * DataSource padrão, com o mesmo tuning de {@code spring.datasource.hikari.*}.
+ *
+ * Estrutura:
+ *  - Pool "primary": configurado por spring.datasource.* / spring.datasource.hikari.*
+ *    (escritas, transações curtas).
+ *  - Pools "replica-N": uma URL por réplica, configurados por
+ *    app.datasource.replica.hikari.* (leituras, listagens, chat).
+ *  - {@link ReadReplicaRoutingDataSource} escolhe o pool conforme o readOnly da
+ *    transação, embrulhado em {@link LazyConnectionDataSourceProxy}.
+ *
+ * Métricas:
+ *  - Todos os pools publicam hikaricp.connections.* (ativas, ociosas, pendentes,
+ *    tempo de espera/uso) no Micrometer, com a tag "pool" = nome do pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica-urls")
+public class ReadReplicaDataSourceConfiguration {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.datasource.replica-urls}") List<String> replicaUrls) {
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        // -----------------------------------------------------
+        //  Primário
+        // -----------------------------------------------------
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadReplicaRoutingDataSource.PRIMARY, primary);
+
+        // -----------------------------------------------------
+        //  Réplicas (mesmas credenciais do primário por padrão)
+        // -----------------------------------------------------
+        String username = environment.getProperty("app.datasource.replica.username", properties.determineUsername());
+        String password = environment.getProperty("app.datasource.replica.password", properties.determinePassword());
+
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String poolName = ReadReplicaRoutingDataSource.REPLICA_PREFIX + (i + 1);
+
+            HikariDataSource replica = new HikariDataSource();
+            // Mesmo tuning de driver (prepareThreshold etc.) do primário...
+            binder.bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                    .ifBound(driverProps -> driverProps.forEach(replica::addDataSourceProperty));
+            // ...e dimensionamento próprio para carga de leitura
+            binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+            // driver inferido pela URL (jdbc:postgresql://..., o mesmo do primário)
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setReadOnly(true);
+            replica.setPoolName(poolName);
+            replica.setMetricsTrackerFactory(metrics);
+
+            targets.put(poolName, replica);
+        }
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaUrls.size());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        log.info("DataSource com roteamento de leitura: primário + {} réplica(s)", replicaUrls.size());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
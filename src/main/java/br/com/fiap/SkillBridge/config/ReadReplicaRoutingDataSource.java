@@ -0,0 +1,68 @@
+package br.com.fiap.SkillBridge.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DataSource de roteamento primário / réplicas de leitura.
+ *
+ * Regra:
+ *  - Transação marcada com @Transactional(readOnly = true) → uma das réplicas,
+ *    escolhida em round-robin;
+ *  - Qualquer outro caso (escrita, sem transação, Flyway) → primário;
+ *  - Leituras dentro de {@link #onPrimary} → primário, mesmo em transação
+ *    readOnly. Usado pelas consultas que alimentam caches compartilhados
+ *    (cache "vagas", snapshot de opções, ETag/cards da listagem): lidas de
+ *    uma réplica atrasada logo depois de uma escrita, guardariam dados
+ *    anteriores a ela até a próxima escrita.
+ *
+ * Importante:
+ *  - Precisa ficar atrás de um LazyConnectionDataSourceProxy. O JpaTransactionManager
+ *    pede a conexão no início da transação, ANTES de marcar o flag readOnly no
+ *    TransactionSynchronizationManager; com o proxy "lazy", a conexão física só é
+ *    obtida no primeiro statement, quando o flag já está correto.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final int replicaCount;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(int replicaCount) {
+        this.replicaCount = replicaCount;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PRIMARY_READS.get() != null) {
+            return PRIMARY;
+        }
+        int index = Math.floorMod(next.getAndIncrement(), replicaCount);
+        return REPLICA_PREFIX + (index + 1);
+    }
+
+    /**
+     * Executa a leitura no primário. Precisa envolver a primeira consulta da
+     * transação: a conexão física é escolhida nela e vale até o fim.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (PRIMARY_READS.get() != null) {
+            return read.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+}
@@ -1,26 +1,49 @@
 package br.com.fiap.SkillBridge.config;
 
+import br.com.fiap.SkillBridge.auth.CompactPrincipalSecurityContextRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.DelegatingSecurityContextRepository;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import java.util.List;
 
 /**
  * Configuração central de segurança da aplicação.
  *
  * - Autenticação via OAuth2 Login (GitHub / Google)
  * - Controle de acesso às rotas
+ * - Rotas de operação (/admin/**) só para os usuários de app.admin.users
+ *   (login do GitHub ou email do Google)
  * - Tratamento de logout
+ * - Sessão guarda só um principal compacto (SessionUser: nome, email,
+ *   avatar), no store configurado em app.session.store
  * - Exceção de CSRF para o endpoint de chat (/chat/api),
  *   que é chamado via AJAX pelo frontend.
+ * - /api/** NÃO passa por aqui: tem cadeia própria, stateless, com JWT
+ *   (ApiSecurityConfiguration, @Order(1)); esta cadeia atende o restante.
  */
 @Configuration
 public class SecurityConfiguration {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   SecurityContextRepository securityContextRepository,
+                                                   @Value("${app.admin.users:}") List<String> adminUsers) throws Exception {
 
         http
+                .securityContext(context -> context
+                        .securityContextRepository(securityContextRepository))
+
                 // ------------------------------------------------------------
                 // 1) Autorização de requests
                 // ------------------------------------------------------------
@@ -31,6 +54,12 @@ public class SecurityConfiguration {
                                 "/error"
                         ).permitAll()
 
+                        // Probes de liveness/readiness (Actuator)
+                        .requestMatchers(
+                                "/actuator/health",
+                                "/actuator/health/**"
+                        ).permitAll()
+
                         // Recursos estáticos (CSS, JS, imagens, etc.)
                         .requestMatchers(
                                 "/css/**",
@@ -39,6 +68,10 @@ public class SecurityConfiguration {
                                 "/webjars/**"
                         ).permitAll()
 
+                        // Operação (DLQ etc.): só administradores
+                        .requestMatchers("/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(authentication.get(), adminUsers)))
+
                         // Qualquer outra rota exige usuário autenticado
                         .anyRequest().authenticated()
                 )
@@ -77,4 +110,27 @@ public class SecurityConfiguration {
 
         return http.build();
     }
+
+    /**
+     * Mesmos repositórios do padrão (atributo da request + sessão),
+     * trocando o OAuth2User do provedor pelo SessionUser ao gravar.
+     */
+    @Bean
+    public SecurityContextRepository securityContextRepository(MeterRegistry meterRegistry) {
+        return new CompactPrincipalSecurityContextRepository(
+                new DelegatingSecurityContextRepository(
+                        new RequestAttributeSecurityContextRepository(),
+                        new HttpSessionSecurityContextRepository()),
+                meterRegistry);
+    }
+
+    private static boolean isAdmin(Authentication authentication, List<String> adminUsers) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof OAuth2User user)) {
+            return false;
+        }
+        Object login = user.getAttribute("login");
+        Object email = user.getAttribute("email");
+        return (login != null && adminUsers.contains(login.toString()))
+                || (email != null && adminUsers.contains(email.toString()));
+    }
 }
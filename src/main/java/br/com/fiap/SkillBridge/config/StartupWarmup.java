@@ -0,0 +1,218 @@
+package br.com.fiap.SkillBridge.config;
+
+import br.com.fiap.SkillBridge.services.VagaOptionService;
+import br.com.fiap.SkillBridge.services.VagaService;
+import br.com.fiap.SkillBridge.services.pdf.PdfCorpusIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ============================================================
+ *  COMPONENTE: StartupWarmup
+ * ============================================================
+ * Orquestra o "aquecimento" da aplicação DEPOIS que o contexto
+ * Spring sobe, sem bloquear a inicialização.
+ *
+ * Fases (executadas em background, em paralelo quando possível):
+ * - seed        → DatabaseSeeder (crítica)
+ * - vagas-cache → pré-carrega o cache "vagas" (crítica, depende do seed)
+ * - vaga-options → snapshot id/título dos dropdowns (crítica, depende do seed)
+ * - pdf-corpus  → carrega/indexa os PDFs da IA (não crítica)
+ *
+ * Integração com readiness:
+ * - Enquanto as fases críticas não terminam, o {@link WarmupHealthIndicator}
+ *   reporta OUT_OF_SERVICE e o grupo "readiness" do Actuator fica fora do ar,
+ *   então o balanceador só envia tráfego com os caches principais quentes.
+ * - Fases não críticas continuam em background e aparecem apenas como
+ *   detalhe no health.
+ *
+ * Falhas:
+ * - Fase crítica que falha (ex.: banco ainda subindo) é repetida com
+ *   backoff exponencial (app.warmup.retry.*); o erro da última tentativa
+ *   aparece no health enquanto isso. Esgotadas as tentativas, fica FAILED
+ *   e a instância segue fora da readiness.
+ *
+ * Métricas:
+ * - Duração de cada fase em "skillbridge.warmup.phase" (tag "phase"),
+ *   além do log ao final de cada fase.
+ */
+@Slf4j
+@Component
+public class StartupWarmup {
+
+    public enum PhaseStatus { PENDING, RUNNING, DONE, FAILED }
+
+    /**
+     * Estado de uma fase, exposto no health indicator.
+     */
+    public record PhaseState(PhaseStatus status, boolean critical, Duration duration, String error) {
+    }
+
+    private final DatabaseSeeder databaseSeeder;
+    private final VagaService vagaService;
+    private final VagaOptionService vagaOptionService;
+    private final PdfCorpusIndex corpusIndex;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Map<String, PhaseState> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private volatile CompletableFuture<Void> critical = new CompletableFuture<>();
+
+    public StartupWarmup(DatabaseSeeder databaseSeeder,
+                         VagaService vagaService,
+                         VagaOptionService vagaOptionService,
+                         PdfCorpusIndex corpusIndex,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.warmup.retry.max-attempts:6}") int maxAttempts,
+                         @Value("${app.warmup.retry.initial-backoff:2s}") Duration initialBackoff,
+                         @Value("${app.warmup.retry.max-backoff:60s}") Duration maxBackoff) {
+        this.databaseSeeder = databaseSeeder;
+        this.vagaService = vagaService;
+        this.vagaOptionService = vagaOptionService;
+        this.corpusIndex = corpusIndex;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        register("seed", true);
+        register("vagas-cache", true);
+        register("vaga-options", true);
+        register("pdf-corpus", false);
+    }
+
+    // =========================================================
+    //  DISPARO (após ApplicationReadyEvent)
+    // =========================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "warmup-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        log.info("[StartupWarmup] Iniciando aquecimento em background...");
+
+        CompletableFuture<Void> criticalChain = CompletableFuture
+                .runAsync(() -> run("seed", databaseSeeder::init), executor)
+                .thenRunAsync(() -> run("vagas-cache", vagaService::getAllVagas), executor)
+                .thenRunAsync(() -> run("vaga-options", vagaOptionService::warmUp), executor);
+
+        CompletableFuture<Void> background = CompletableFuture
+                .runAsync(() -> run("pdf-corpus", corpusIndex::ensureClasspathLoaded), executor);
+
+        critical = criticalChain;
+        criticalChain.whenComplete((ok, error) -> {
+            if (error == null) {
+                log.info("[StartupWarmup] Fases críticas concluídas; instância pronta para tráfego.");
+            }
+        });
+
+        CompletableFuture.allOf(criticalChain, background)
+                .whenComplete((ok, error) -> executor.shutdown());
+    }
+
+    // =========================================================
+    //  CONSULTA DE ESTADO (usada pelo health indicator)
+    // =========================================================
+
+    /**
+     * true quando todas as fases críticas terminaram com sucesso.
+     */
+    public boolean isCriticalReady() {
+        return critical.isDone() && !critical.isCompletedExceptionally();
+    }
+
+    public boolean hasCriticalFailure() {
+        return critical.isCompletedExceptionally();
+    }
+
+    public Map<String, PhaseState> phases() {
+        synchronized (phases) {
+            return new LinkedHashMap<>(phases);
+        }
+    }
+
+    // =========================================================
+    //  EXECUÇÃO DE UMA FASE
+    // =========================================================
+    private void register(String name, boolean isCritical) {
+        phases.put(name, new PhaseState(PhaseStatus.PENDING, isCritical, Duration.ZERO, null));
+    }
+
+    private void run(String name, Runnable action) {
+        boolean isCritical = phases.get(name).critical();
+        phases.put(name, new PhaseState(PhaseStatus.RUNNING, isCritical, Duration.ZERO, null));
+
+        long start = System.nanoTime();
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                action.run();
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                phases.put(name, new PhaseState(PhaseStatus.DONE, isCritical, elapsed, null));
+                record(name, elapsed, "success");
+                log.info("[StartupWarmup] Fase '{}' concluída em {} ms", name, elapsed.toMillis());
+                return;
+            } catch (RuntimeException e) {
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                if (isCritical && attempt < maxAttempts) {
+                    // só as críticas seguram a readiness; vale insistir
+                    phases.put(name, new PhaseState(PhaseStatus.RUNNING, true, elapsed,
+                            "tentativa " + attempt + "/" + maxAttempts + ": " + e.getMessage()));
+                    log.warn("[StartupWarmup] Fase '{}' falhou (tentativa {}/{}); nova tentativa em {} ms: {}",
+                            name, attempt, maxAttempts, backoff.toMillis(), e.getMessage());
+                    sleep(backoff);
+                    Duration next = backoff.multipliedBy(2);
+                    backoff = next.compareTo(maxBackoff) > 0 ? maxBackoff : next;
+                    continue;
+                }
+                phases.put(name, new PhaseState(PhaseStatus.FAILED, isCritical, elapsed, e.getMessage()));
+                record(name, elapsed, "failure");
+                log.error("[StartupWarmup] Fase '{}' falhou após {} ms ({} tentativa(s))",
+                        name, elapsed.toMillis(), attempt, e);
+                if (isCritical) {
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private static void sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Aquecimento interrompido", e);
+        }
+    }
+
+    private void record(String phase, Duration elapsed, String outcome) {
+        Timer.builder("skillbridge.warmup.phase")
+                .description("Duração de cada fase do aquecimento pós-startup")
+                .tag("phase", phase)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+}
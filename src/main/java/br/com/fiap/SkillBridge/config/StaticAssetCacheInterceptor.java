@@ -0,0 +1,48 @@
+package br.com.fiap.SkillBridge.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Cache-Control dos recursos estáticos.
+ *
+ * Roda antes do ResourceHttpRequestHandler (que fica sem cache próprio,
+ * ver spring.web.resources.*):
+ *  - URL com hash do conteúdo (ex.: /css/style-0a1b...e9.css, gerada pelo
+ *    resource chain): public, max-age=1 ano, immutable — a URL muda quando
+ *    o arquivo muda;
+ *  - URL sem hash: public, no-cache — o navegador revalida e recebe 304
+ *    pelo Last-Modified quando nada mudou.
+ *
+ * O Spring Security só escreve seus headers de no-cache quando a resposta
+ * ainda não tem Cache-Control.
+ */
+public class StaticAssetCacheInterceptor implements HandlerInterceptor {
+
+    /** Hash MD5 inserido pelo ContentVersionStrategy antes da extensão. */
+    private static final Pattern VERSIONED = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    isVersioned(request.getRequestURI()) ? IMMUTABLE : REVALIDATE);
+        }
+        return true;
+    }
+
+    static boolean isVersioned(String path) {
+        return path != null && VERSIONED.matcher(path).find();
+    }
+}
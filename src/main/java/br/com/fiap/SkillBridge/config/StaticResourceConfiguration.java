@@ -0,0 +1,30 @@
+package br.com.fiap.SkillBridge.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Entrega dos recursos estáticos (static/css, static/js, ...).
+ *
+ * Partes:
+ *  - resource chain do Spring Boot (spring.web.resources.chain.*):
+ *    URLs com hash do conteúdo — os templates usam @{/css/style.css} e o
+ *    ResourceUrlEncodingFilter reescreve para /css/style-{hash}.css;
+ *  - variantes .gz/.br geradas no build (doLast de processResources no
+ *    build.gradle), servidas conforme o Accept-Encoding;
+ *  - {@link StaticAssetCacheInterceptor}: immutable por 1 ano para URLs com
+ *    hash, revalidação para as demais;
+ *  - respostas dinâmicas (HTML, JSON do chat) comprimidas pelo servidor
+ *    (server.compression.*).
+ */
+@Configuration
+public class StaticResourceConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // mesmos caminhos liberados no SecurityConfiguration
+        registry.addInterceptor(new StaticAssetCacheInterceptor())
+                .addPathPatterns("/css/**", "/js/**", "/images/**", "/webjars/**");
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fiap.SkillBridge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Health indicator "warmup", incluído no grupo de readiness
+ * (management.endpoint.health.group.readiness.include).
+ *
+ * Status:
+ * - OUT_OF_SERVICE → fases críticas do {@link StartupWarmup} ainda rodando;
+ * - DOWN           → alguma fase crítica falhou;
+ * - UP             → caches críticos aquecidos (fases não críticas podem
+ *                    continuar em background).
+ *
+ * Os detalhes trazem o status e a duração de cada fase.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmup startupWarmup;
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        if (startupWarmup.hasCriticalFailure()) {
+            builder = Health.down();
+        } else if (startupWarmup.isCriticalReady()) {
+            builder = Health.up();
+        } else {
+            builder = Health.outOfService();
+        }
+
+        startupWarmup.phases().forEach((name, state) -> {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("status", state.status());
+            detail.put("critical", state.critical());
+            detail.put("durationMs", state.duration().toMillis());
+            if (state.error() != null) {
+                detail.put("error", state.error());
+            }
+            builder.withDetail(name, detail);
+        });
+
+        return builder.build();
+    }
+}
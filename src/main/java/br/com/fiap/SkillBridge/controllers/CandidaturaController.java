@@ -1,61 +1,90 @@
 package br.com.fiap.SkillBridge.controllers;
 
+import br.com.fiap.SkillBridge.auth.SessionUser;
 import br.com.fiap.SkillBridge.dto.CandidaturaDTO;
+import br.com.fiap.SkillBridge.dto.response.VagaFunil;
+import br.com.fiap.SkillBridge.dto.response.VagaOption;
 import br.com.fiap.SkillBridge.services.CandidaturaService;
-import br.com.fiap.SkillBridge.services.VagaService;
+import br.com.fiap.SkillBridge.services.VagaOptionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Controller
 @RequestMapping("/candidatura")
 public class CandidaturaController {
 
     private final CandidaturaService candidaturaService;
-    private final VagaService vagaService;
+    private final VagaOptionService vagaOptionService;
     private final MessageSource messageSource;
+    private final int vagaOptionsPageSize;
+    private final int listagemDias;
 
-    public CandidaturaController(CandidaturaService candidaturaService, VagaService vagaService, MessageSource messageSource) {
+    public CandidaturaController(CandidaturaService candidaturaService,
+                                 VagaOptionService vagaOptionService,
+                                 MessageSource messageSource,
+                                 @Value("${app.vagas.options.page-size:50}") int vagaOptionsPageSize,
+                                 @Value("${app.candidatura.listagem-dias:0}") int listagemDias) {
         this.candidaturaService = candidaturaService;
-        this.vagaService = vagaService;
+        this.vagaOptionService = vagaOptionService;
         this.messageSource = messageSource;
+        this.vagaOptionsPageSize = vagaOptionsPageSize;
+        this.listagemDias = listagemDias;
     }
 
     @GetMapping
-    public String index(Model model, @AuthenticationPrincipal OAuth2User user) {
+    public String index(Model model,
+                        @AuthenticationPrincipal SessionUser user,
+                        @RequestParam(required = false) Integer dias) {
         if (user == null) return "redirect:/login";
-        List<CandidaturaDTO> candidaturas = candidaturaService.findAll();
+        // janela em dias (0 = todas); com janela, só as partições recentes são lidas
+        int janela = dias != null ? dias : listagemDias;
+        List<CandidaturaDTO> candidaturas = janela > 0
+                ? candidaturaService.findRecentes(janela)
+                : candidaturaService.findAll();
         model.addAttribute("candidaturas", candidaturas);
         model.addAttribute("user", user);
-        var avatar = user.getAttribute("picture") != null ? user.getAttribute("picture") : user.getAttribute("avatar_url");
-        model.addAttribute("avatar", avatar);
+        model.addAttribute("avatar", user.getAvatarUrl());
         return "CandidaturaIndex";
     }
 
     @GetMapping("/form")
     public String form(Model model, CandidaturaDTO candidatura) {
-        model.addAttribute("candidatura", candidatura == null ? new CandidaturaDTO() : candidatura);
-        model.addAttribute("vagas", vagaService.getAllVagas());
+        CandidaturaDTO dto = candidatura == null ? new CandidaturaDTO() : candidatura;
+        // uma chave por formulário exibido: reenvios do mesmo form são idempotentes
+        if (dto.getIdempotencyKey() == null) {
+            dto.setIdempotencyKey(UUID.randomUUID().toString());
+        }
+        model.addAttribute("candidatura", dto);
+        addVagaOptions(model, dto.getVagaId());
         return "FormCandidatura";
     }
 
     @PostMapping("/form")
     public String saveCandidatura(@Valid @ModelAttribute("candidatura") CandidaturaDTO candidaturaDTO,
                                   BindingResult result,
+                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                   Model model,
                                   RedirectAttributes redirectAttributes) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            candidaturaDTO.setIdempotencyKey(idempotencyKey);
+        }
         if (result.hasErrors()) {
-            model.addAttribute("vagas", vagaService.getAllVagas());
+            addVagaOptions(model, candidaturaDTO.getVagaId());
             return "FormCandidatura";
         }
         try {
@@ -63,7 +92,7 @@ public class CandidaturaController {
             redirectAttributes.addFlashAttribute("message", "Candidatura criada com sucesso");
         } catch (DataIntegrityViolationException e) {
             result.reject("error.candidatura", e.getMessage() != null ? e.getMessage() : "Erro ao salvar candidatura.");
-            model.addAttribute("vagas", vagaService.getAllVagas());
+            addVagaOptions(model, candidaturaDTO.getVagaId());
             return "FormCandidatura";
         }
         return "redirect:/candidatura";
@@ -73,7 +102,7 @@ public class CandidaturaController {
     public String editForm(@PathVariable Long id, Model model) {
         CandidaturaDTO dto = candidaturaService.findById(id);
         model.addAttribute("candidatura", dto);
-        model.addAttribute("vagas", vagaService.getAllVagas());
+        addVagaOptions(model, dto.getVagaId());
         return "FormCandidatura";
     }
 
@@ -82,12 +111,32 @@ public class CandidaturaController {
                                     @Valid @ModelAttribute("candidatura") CandidaturaDTO candidaturaDTO,
                                     BindingResult result,
                                     Model model,
+                                    HttpServletResponse response,
                                     RedirectAttributes redirectAttributes) {
         if (result.hasErrors()) {
-            model.addAttribute("vagas", vagaService.getAllVagas());
+            addVagaOptions(model, candidaturaDTO.getVagaId());
+            return "FormCandidatura";
+        }
+        try {
+            candidaturaService.update(id, candidaturaDTO);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Conflito de versão: 409 com os valores atuais para o usuário mesclar
+            CandidaturaDTO atual = candidaturaService.findById(id);
+            candidaturaDTO.setVersion(atual.getVersion());
+            model.addAttribute("candidaturaAtual", atual);
+            result.reject("error.candidatura.conflict", messageSource.getMessage(
+                    "candidatura.conflict", null,
+                    "Esta candidatura foi alterada por outra pessoa. Revise os valores atuais e salve novamente.",
+                    LocaleContextHolder.getLocale()));
+            addVagaOptions(model, candidaturaDTO.getVagaId());
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            return "FormCandidatura";
+        } catch (DataIntegrityViolationException e) {
+            // ex.: vaga + email que já pertencem a outra candidatura
+            result.reject("error.candidatura", e.getMessage() != null ? e.getMessage() : "Erro ao salvar candidatura.");
+            addVagaOptions(model, candidaturaDTO.getVagaId());
             return "FormCandidatura";
         }
-        candidaturaService.update(id, candidaturaDTO);
         return "redirect:/candidatura";
     }
 
@@ -98,4 +147,39 @@ public class CandidaturaController {
         redirectAttributes.addFlashAttribute("message", message);
         return "redirect:/candidatura";
     }
+
+    /**
+     * Typeahead do campo "Vaga": busca por prefixo do título (ou página
+     * em ordem alfabética quando q vem vazio), servido do snapshot compacto.
+     */
+    @GetMapping("/vagas")
+    @ResponseBody
+    public List<VagaOption> vagaOptions(@RequestParam(required = false) String q,
+                                        @RequestParam(defaultValue = "0") int page) {
+        if (q != null && !q.isBlank()) {
+            return vagaOptionService.searchByPrefix(q, vagaOptionsPageSize);
+        }
+        return vagaOptionService.page(page, vagaOptionsPageSize);
+    }
+
+    /**
+     * Funil da vaga (quantidade de candidaturas por status), em JSON.
+     */
+    @GetMapping("/funil/{vagaId}")
+    @ResponseBody
+    public VagaFunil funil(@PathVariable Long vagaId) {
+        return candidaturaService.funilPorVaga(vagaId);
+    }
+
+    /**
+     * Coloca no model apenas a primeira página de opções (id + título),
+     * garantindo que a vaga já selecionada apareça na lista.
+     */
+    private void addVagaOptions(Model model, Long selectedVagaId) {
+        List<VagaOption> options = new ArrayList<>(vagaOptionService.page(0, vagaOptionsPageSize));
+        vagaOptionService.findById(selectedVagaId)
+                .filter(selected -> !options.contains(selected))
+                .ifPresent(selected -> options.add(0, selected));
+        model.addAttribute("vagas", options);
+    }
 }
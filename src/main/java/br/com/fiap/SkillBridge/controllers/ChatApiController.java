@@ -0,0 +1,42 @@
+package br.com.fiap.SkillBridge.controllers;
+
+import br.com.fiap.SkillBridge.config.ChatRateLimitInterceptor;
+import br.com.fiap.SkillBridge.dto.request.ChatRequest;
+import br.com.fiap.SkillBridge.dto.response.ChatResponse;
+import br.com.fiap.SkillBridge.services.AIService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Chat com IA para clientes da API stateless.
+ *
+ *  POST /api/chat  { "message": "..." } → { "reply": "..." }
+ *
+ * Mesmo AIService e mesmo limite por usuário do /chat/api
+ * (RateLimitConfiguration); a chave é o subject do JWT, igual ao
+ * principal da sessão web.
+ */
+@RestController
+public class ChatApiController {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatApiController.class);
+
+    private final AIService aiService;
+
+    public ChatApiController(AIService aiService) {
+        this.aiService = aiService;
+    }
+
+    @PostMapping("/api/chat")
+    public ChatResponse chat(@RequestBody @Valid ChatRequest request, Authentication authentication,
+                             HttpServletRequest httpRequest) {
+        log.info("Requisição de chat (API) recebida de [{}]", authentication.getName());
+        return new ChatResponse(aiService.ask(request.getMessage(), ChatRateLimitInterceptor.principalKey(httpRequest)));
+    }
+}
@@ -1,13 +1,15 @@
 package br.com.fiap.SkillBridge.controllers;
 
+import br.com.fiap.SkillBridge.auth.SessionUser;
+import br.com.fiap.SkillBridge.config.ChatRateLimitInterceptor;
 import br.com.fiap.SkillBridge.dto.request.ChatRequest;
 import br.com.fiap.SkillBridge.dto.response.ChatResponse;
 import br.com.fiap.SkillBridge.services.AIService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
  *  - A autenticação é feita via Spring Security + OAuth2 (ex.: login Google/GitHub).
  *    A regra de "só acessa /chat se estiver autenticado" deve ser configurada
  *    na classe de Security (HttpSecurity).
+ *  - /chat/api passa antes pelo limite por usuário (RateLimitConfiguration):
+ *    acima dele, 429 com Retry-After sem chegar aqui.
  *  - A inteligência artificial em si NÃO fica no controller. Toda a lógica
  *    de roteamento (vagas, PDFs, requisitos) e chamada do modelo generativo
  *    está encapsulada no AIService.
@@ -60,24 +64,12 @@ public class ChatController {
      */
     @GetMapping
     public String chatPage(Model model,
-                           @AuthenticationPrincipal OAuth2User user) {
+                           @AuthenticationPrincipal SessionUser user) {
 
         if (user != null) {
-            // Tenta pegar a URL do avatar do provedor (ex.: GitHub)
-            Object avatarUrl = user.getAttribute("avatar_url");
-            if (avatarUrl == null) {
-                // Alguns provedores usam outro atributo; aqui você pode adaptar se precisar
-                avatarUrl = user.getAttribute("picture");
-            }
-
-            // Nome amigável: usa "name" e, se não tiver, cai para "login"
-            String username =
-                    user.getAttribute("name") != null
-                            ? user.getAttribute("name")
-                            : user.getAttribute("login");
-
-            model.addAttribute("avatar", avatarUrl);
-            model.addAttribute("username", username);
+            // Avatar e nome amigável ("name", senão "login") resolvidos no login
+            model.addAttribute("avatar", user.getAvatarUrl());
+            model.addAttribute("username", user.getDisplayName());
         }
 
         return "chat"; // Thymeleaf: src/main/resources/templates/chat.html
@@ -104,14 +96,16 @@ public class ChatController {
     @PostMapping("/api")
     @ResponseBody
     public ChatResponse chatApi(@RequestBody @Valid ChatRequest request,
-                                @AuthenticationPrincipal OAuth2User user) {
+                                @AuthenticationPrincipal SessionUser user,
+                                HttpServletRequest httpRequest) {
 
         String pergunta = request.getMessage();
         log.info("Requisição de chat recebida de [{}]: {}", // apenas para monitorar
-                user != null ? user.getAttribute("email") : "anônimo",
+                user != null ? user.getEmail() : "anônimo",
                 pergunta);
 
-        String reply = aiService.ask(pergunta);
+        // mesma chave do limite por usuário (ChatRateLimitInterceptor)
+        String reply = aiService.ask(pergunta, ChatRateLimitInterceptor.principalKey(httpRequest));
         return new ChatResponse(reply);
     }
 }
@@ -0,0 +1,56 @@
+package br.com.fiap.SkillBridge.controllers;
+
+import br.com.fiap.SkillBridge.dto.response.DeadLetterView;
+import br.com.fiap.SkillBridge.services.messaging.DeadLetterService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operação da DLQ de eventos de vaga (restrito a app.admin.users).
+ *
+ *  GET    /admin/dead-letters?limit=50         → lista sem consumir
+ *  POST   /admin/dead-letters/replay?limit=100 → republica na fila original
+ *  POST   /admin/dead-letters/{id}/replay      → republica uma mensagem
+ *  DELETE /admin/dead-letters                  → descarta todas
+ */
+@RestController
+@RequestMapping("/admin/dead-letters")
+@ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadLetterController {
+
+    private static final int MAX_LIMIT = 1_000;
+
+    private final DeadLetterService deadLetterService;
+
+    public DeadLetterController(DeadLetterService deadLetterService) {
+        this.deadLetterService = deadLetterService;
+    }
+
+    @GetMapping
+    public List<DeadLetterView> list(@RequestParam(defaultValue = "50") int limit) {
+        return deadLetterService.list(clamp(limit));
+    }
+
+    @PostMapping("/replay")
+    public Map<String, Integer> replayAll(@RequestParam(defaultValue = "100") int limit) {
+        return Map.of("replayed", deadLetterService.replay(null, clamp(limit)));
+    }
+
+    @PostMapping("/{messageId}/replay")
+    public Map<String, Integer> replayOne(@PathVariable String messageId,
+                                          @RequestParam(defaultValue = "1000") int scan) {
+        return Map.of("replayed", deadLetterService.replay(messageId, clamp(scan)));
+    }
+
+    @DeleteMapping
+    public Map<String, Integer> purge() {
+        return Map.of("purged", deadLetterService.purge());
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
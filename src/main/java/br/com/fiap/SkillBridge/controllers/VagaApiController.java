@@ -0,0 +1,135 @@
+package br.com.fiap.SkillBridge.controllers;
+
+import br.com.fiap.SkillBridge.dto.request.VagaRequest;
+import br.com.fiap.SkillBridge.dto.response.VagaOption;
+import br.com.fiap.SkillBridge.dto.response.VagaResponse;
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.VagaOptionService;
+import br.com.fiap.SkillBridge.services.VagaService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API JSON de vagas para clientes externos / apps (cadeia stateless,
+ * autenticação por JWT em ApiSecurityConfiguration).
+ *
+ *  GET    /api/vagas?empresa=&titulo=  → lista (mesmas regras da pesquisa web)
+ *  GET    /api/vagas/{id}              → detalhe (404 se não existir)
+ *  GET    /api/vagas/options?q=&page=  → typeahead id + título (snapshot)
+ *  POST   /api/vagas                   → cria (201 + Location)
+ *  PUT    /api/vagas/{id}              → atualiza (409 em conflito de versão)
+ *  DELETE /api/vagas/{id}              → exclui (204)
+ */
+@RestController
+@RequestMapping("/api/vagas")
+public class VagaApiController {
+
+    private final VagaService vagaService;
+    private final VagaOptionService vagaOptionService;
+    private final int optionsPageSize;
+
+    public VagaApiController(VagaService vagaService,
+                             VagaOptionService vagaOptionService,
+                             @Value("${app.vagas.options.page-size:50}") int optionsPageSize) {
+        this.vagaService = vagaService;
+        this.vagaOptionService = vagaOptionService;
+        this.optionsPageSize = optionsPageSize;
+    }
+
+    @GetMapping
+    public List<VagaResponse> list(@RequestParam(required = false) String empresa,
+                                   @RequestParam(required = false) String titulo) {
+        List<Vaga> vagas;
+        if (empresa != null && !empresa.isBlank()) {
+            vagas = vagaService.findByEmpresaContainingIgnoreCase(empresa);
+        } else if (titulo != null && !titulo.isBlank()) {
+            vagas = vagaService.findByTituloContainingIgnoreCase(titulo);
+        } else {
+            vagas = vagaService.getAllVagas();
+        }
+        return vagas.stream().map(VagaApiController::toResponse).toList();
+    }
+
+    @GetMapping("/{id}")
+    public VagaResponse get(@PathVariable Long id) {
+        return toResponse(findOrNotFound(id));
+    }
+
+    @GetMapping("/options")
+    public List<VagaOption> options(@RequestParam(required = false) String q,
+                                    @RequestParam(defaultValue = "0") int page) {
+        if (q != null && !q.isBlank()) {
+            return vagaOptionService.searchByPrefix(q, optionsPageSize);
+        }
+        return vagaOptionService.page(page, optionsPageSize);
+    }
+
+    @PostMapping
+    public ResponseEntity<VagaResponse> create(@Valid @RequestBody VagaRequest request) {
+        Vaga saved = vagaService.save(toEntity(request, null));
+        return ResponseEntity.created(URI.create("/api/vagas/" + saved.getId()))
+                .body(toResponse(saved));
+    }
+
+    @PutMapping("/{id}")
+    public VagaResponse update(@PathVariable Long id, @Valid @RequestBody VagaRequest request) {
+        findOrNotFound(id);
+        return toResponse(vagaService.update(id, toEntity(request, id)));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id) {
+        findOrNotFound(id);
+        vagaService.deleteById(id);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> conflict(ObjectOptimisticLockingFailureException e) {
+        VagaResponse current = vagaService.findAllById(List.of((Long) e.getIdentifier())).stream()
+                .findFirst()
+                .map(VagaApiController::toResponse)
+                .orElse(null);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(current != null
+                        ? Map.of("error", "conflito de versão", "atual", current)
+                        : Map.of("error", "conflito de versão"));
+    }
+
+    private Vaga findOrNotFound(Long id) {
+        return vagaService.findAllById(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vaga não encontrada: " + id));
+    }
+
+    private static Vaga toEntity(VagaRequest request, Long id) {
+        return Vaga.builder()
+                .id(id)
+                .version(request.getVersion())
+                .titulo(request.getTitulo())
+                .requisitos(request.getRequisitos())
+                .empresa(request.getEmpresa())
+                .local(request.getLocal())
+                .build();
+    }
+
+    static VagaResponse toResponse(Vaga vaga) {
+        return VagaResponse.builder()
+                .id(vaga.getId())
+                .version(vaga.getVersion())
+                .titulo(vaga.getTitulo())
+                .empresa(vaga.getEmpresa())
+                .local(vaga.getLocal())
+                .requisitos(vaga.getRequisitos())
+                .build();
+    }
+}
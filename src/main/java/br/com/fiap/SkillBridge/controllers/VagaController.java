@@ -1,13 +1,17 @@
 // java
 package br.com.fiap.SkillBridge.controllers;
 
+import br.com.fiap.SkillBridge.auth.SessionUser;
 import br.com.fiap.SkillBridge.models.Vaga;
 import br.com.fiap.SkillBridge.services.VagaService;
+import br.com.fiap.SkillBridge.services.view.VagaListingRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -33,6 +37,10 @@ import java.util.Locale;
  *  - Integra com autenticação via OAuth2 (GitHub/Google).
  *  - Usa MessageSource para internacionalização das mensagens (i18n).
  *  - Usa Bean Validation (@Valid) para validar a entidade Vaga.
+ *  - Listagem e pesquisa são escritas pelo VagaListingRenderer: cards
+ *    do cache de fragmentos, resposta em streaming e ETag/304.
+ *  - Edição com controle otimista: o form envia a versão lida; se outra
+ *    pessoa gravou antes, responde 409 com os valores atuais para mesclar.
  *
  * Futuro:
  *  - Migrar o binding do formulário para um VagaRequestDto
@@ -44,33 +52,34 @@ public class VagaController {
 
     private final VagaService vagaService;
     private final MessageSource messageSource;
+    private final VagaListingRenderer listingRenderer;
 
-    public VagaController(VagaService vagaService, MessageSource messageSource) {
+    public VagaController(VagaService vagaService,
+                          MessageSource messageSource,
+                          VagaListingRenderer listingRenderer) {
         this.vagaService = vagaService;
         this.messageSource = messageSource;
+        this.listingRenderer = listingRenderer;
     }
 
     // =========================================================
     // 1) LISTAGEM PRINCIPAL DE VAGAS (HOME LOGADA)
     // =========================================================
     @GetMapping
-    public String index(Model model, @AuthenticationPrincipal OAuth2User user) {
+    public void index(Model model,
+                      @AuthenticationPrincipal SessionUser user,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws Exception {
         if (user == null) {
             // Se não estiver autenticado, redireciona para tela de login
-            return "redirect:/login";
+            response.sendRedirect("/login");
+            return;
         }
 
-        List<Vaga> vagas = vagaService.getAllVagas();
-        model.addAttribute("vagas", vagas);
-        model.addAttribute("user", user);
-
-        // Avatar pode vir de "picture" (Google) ou "avatar_url" (GitHub)
-        Object avatar = user.getAttribute("picture") != null
-                ? user.getAttribute("picture")
-                : user.getAttribute("avatar_url");
-        model.addAttribute("avatar", avatar);
-
-        return "index"; // Thymeleaf template: src/main/resources/templates/index.html
+        // Página em streaming com cards do cache de fragmentos e ETag/304
+        // (template: src/main/resources/templates/index.html)
+        addUserAttributes(model, user);
+        listingRenderer.render(vagaService.getAllVagas(), model.asMap(), request, response);
     }
 
     // =========================================================
@@ -161,6 +170,7 @@ public class VagaController {
                              @Valid @ModelAttribute("vaga") Vaga vagaAtualizada,
                              BindingResult result,
                              Model model,
+                             HttpServletResponse response,
                              RedirectAttributes redirectAttributes) {
 
         if (result.hasErrors()) {
@@ -168,13 +178,24 @@ public class VagaController {
             return "form";
         }
 
-        Vaga vagaExistente = vagaService.findById(id);
-        vagaExistente.setTitulo(vagaAtualizada.getTitulo());
-        vagaExistente.setRequisitos(vagaAtualizada.getRequisitos());
-        vagaExistente.setEmpresa(vagaAtualizada.getEmpresa());
-        vagaExistente.setLocal(vagaAtualizada.getLocal());
-
-        vagaService.update(id, vagaExistente);
+        try {
+            // UPDATE direto no serviço: sem findById/cópia de campos aqui
+            vagaService.update(id, vagaAtualizada);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Outra edição gravou antes: mantém o que o usuário digitou,
+            // mostra os valores atuais e já leva a versão nova no form,
+            // então reenviar após mesclar aplica a alteração.
+            Vaga atual = vagaService.findById(id);
+            vagaAtualizada.setVersion(atual.getVersion());
+            model.addAttribute("vagaAtual", atual);
+            result.reject("error.vaga.conflict", getMessage(
+                    "vaga.conflict",
+                    null,
+                    "Esta vaga foi alterada por outra pessoa. Revise os valores atuais e salve novamente."
+            ));
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            return "form";
+        }
 
         String message = getMessage(
                 "vaga.updated.success",
@@ -190,13 +211,16 @@ public class VagaController {
     // 7) PESQUISA DE VAGAS (POR EMPRESA OU TÍTULO)
     // =========================================================
     @GetMapping("/search")
-    public String search(@RequestParam(required = false) String empresa,
-                         @RequestParam(required = false) String titulo,
-                         Model model,
-                         @AuthenticationPrincipal OAuth2User user) {
+    public void search(@RequestParam(required = false) String empresa,
+                       @RequestParam(required = false) String titulo,
+                       Model model,
+                       @AuthenticationPrincipal SessionUser user,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws Exception {
 
         if (user == null) {
-            return "redirect:/login";
+            response.sendRedirect("/login");
+            return;
         }
 
         List<Vaga> vagas;
@@ -209,15 +233,16 @@ public class VagaController {
             vagas = vagaService.getAllVagas();
         }
 
-        model.addAttribute("vagas", vagas);
-        model.addAttribute("user", user);
-
-        Object avatar = user.getAttribute("picture") != null
-                ? user.getAttribute("picture")
-                : user.getAttribute("avatar_url");
-        model.addAttribute("avatar", avatar);
+        addUserAttributes(model, user);
+        listingRenderer.render(vagas, model.asMap(), request, response);
+    }
 
-        return "index";
+    // =========================================================
+    // MÉTODO AUXILIAR → CABEÇALHO (usuário e avatar do SessionUser)
+    // =========================================================
+    private static void addUserAttributes(Model model, SessionUser user) {
+        model.addAttribute("user", user);
+        model.addAttribute("avatar", user.getAvatarUrl());
     }
 
     // =========================================================
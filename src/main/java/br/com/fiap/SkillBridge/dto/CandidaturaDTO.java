@@ -1,5 +1,6 @@
 package br.com.fiap.SkillBridge.dto;
 
+import br.com.fiap.SkillBridge.models.StatusCandidatura;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -35,8 +36,17 @@ public class CandidaturaDTO {
     @Size(max = 10000)
     private String curriculo;
 
-    @NotBlank(message = "Status é obrigatório")
-    private String status;
+    @NotNull(message = "Status é obrigatório")
+    private StatusCandidatura status;
 
     private LocalDateTime dataAplicacao;
+
+    private Long version;
+
+    /**
+     * Chave de idempotência da submissão (campo oculto do form ou header
+     * Idempotency-Key): reenvios com a mesma chave não criam outra candidatura.
+     */
+    @Size(max = 100)
+    private String idempotencyKey;
 }
@@ -37,6 +37,12 @@ public class VagaRequest {
      */
     private Long id;
 
+    /**
+     * Versão lida pelo cliente (controle otimista na atualização).
+     * Se vier nula, a última escrita vence.
+     */
+    private Long version;
+
     /**
      * Título da vaga, por exemplo:
      *  - "Desenvolvedor Java Júnior"
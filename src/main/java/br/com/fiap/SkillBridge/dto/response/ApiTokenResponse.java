@@ -0,0 +1,21 @@
+package br.com.fiap.SkillBridge.dto.response;
+
+import lombok.Value;
+
+/**
+ * Token de acesso à API stateless (/api/**), emitido para o usuário logado.
+ *
+ * Uso: header "Authorization: Bearer {accessToken}".
+ */
+@Value
+public class ApiTokenResponse {
+
+    String accessToken;
+
+    String tokenType;
+
+    /**
+     * Validade em segundos a partir da emissão.
+     */
+    long expiresIn;
+}
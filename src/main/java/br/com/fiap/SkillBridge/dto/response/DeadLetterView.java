@@ -0,0 +1,30 @@
+package br.com.fiap.SkillBridge.dto.response;
+
+import lombok.Value;
+
+/**
+ * Mensagem parada na DLQ, como exibida em /admin/dead-letters.
+ */
+@Value
+public class DeadLetterView {
+
+    String messageId;
+
+    /**
+     * Tentativas de consumo que falharam.
+     */
+    int attempts;
+
+    String lastError;
+
+    String firstFailureAt;
+
+    String deadLetteredAt;
+
+    String contentType;
+
+    /**
+     * Corpo (JSON truncado, ou só o tamanho se binário).
+     */
+    String body;
+}
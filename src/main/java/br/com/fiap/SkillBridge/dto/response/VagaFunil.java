@@ -0,0 +1,31 @@
+package br.com.fiap.SkillBridge.dto.response;
+
+import br.com.fiap.SkillBridge.models.StatusCandidatura;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Contagem de candidaturas de uma vaga por status (funil).
+ *
+ * ➜ Papel:
+ *   - Resposta do endpoint /candidatura/funil/{vagaId}.
+ *   - Montada a partir da tabela candidatura_status_count, mantida
+ *     por trigger a cada insert/update/delete de candidatura: o custo
+ *     não depende da quantidade de candidaturas.
+ */
+@Value
+public class VagaFunil {
+
+    Long vagaId;
+
+    /**
+     * Quantidade por status (todos os status aparecem, com 0 quando vazio).
+     */
+    Map<StatusCandidatura, Long> porStatus;
+
+    /**
+     * Soma de todos os status.
+     */
+    long total;
+}
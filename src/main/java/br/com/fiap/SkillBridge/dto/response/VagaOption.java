@@ -0,0 +1,27 @@
+package br.com.fiap.SkillBridge.dto.response;
+
+import lombok.Value;
+
+/**
+ * Projeção mínima de uma vaga para dropdowns/typeahead
+ * (ex.: seleção de vaga no formulário de candidatura).
+ *
+ * ➜ Papel:
+ *   - Carregar só id + título, sem hidratar a entidade Vaga inteira
+ *     (requisitos, local, empresa).
+ *   - Imutável: pode ser compartilhada entre requisições a partir do
+ *     snapshot mantido pelo VagaOptionService.
+ */
+@Value
+public class VagaOption {
+
+    /**
+     * Identificador da vaga (valor do &lt;option&gt;).
+     */
+    Long id;
+
+    /**
+     * Título exibido na lista.
+     */
+    String titulo;
+}
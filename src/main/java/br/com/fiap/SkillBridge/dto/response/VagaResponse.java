@@ -28,6 +28,11 @@ public class VagaResponse {
      */
     private Long id;
 
+    /**
+     * Versão para controle otimista (enviar de volta no PUT).
+     */
+    private Long version;
+
     /**
      * Título da vaga (ex.: "Desenvolvedor Java Júnior").
      */
@@ -0,0 +1,14 @@
+package br.com.fiap.SkillBridge.events;
+
+/**
+ * Processamento assíncrono de eventos de vaga (mesmo contrato para o
+ * consumidor do RabbitMQ e para o barramento em processo).
+ *
+ * endOfBatch indica o último evento disponível no momento: bom ponto para
+ * descarregar trabalho acumulado (flush de índice, commit em lote etc.).
+ * No RabbitMQ cada mensagem chega isolada, com endOfBatch = true.
+ */
+public interface VagaEventHandler {
+
+    void onEvent(VagaEventDto event, boolean endOfBatch);
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.SkillBridge.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler padrão: registra os eventos de vaga recebidos
+ * (ponto de extensão para atualizar índice, notificar outro serviço etc.).
+ */
+@Component
+public class VagaEventLoggingHandler implements VagaEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(VagaEventLoggingHandler.class);
+
+    @Override
+    public void onEvent(VagaEventDto event, boolean endOfBatch) {
+        log.info("Evento Vaga recebido: id={}, action={}, ts={}", event.getId(), event.getAction(), event.getTimestamp());
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.fiap.SkillBridge.events;
+
+/**
+ * Saída dos eventos de vaga, independente do transporte.
+ *
+ * Implementações (escolhidas por app.events.bus):
+ *  - rabbit: RabbitProducerService (exchange app.messaging.exchange);
+ *  - in-process: InProcessEventBus (ring buffer na própria JVM).
+ */
+public interface VagaEventPublisher {
+
+    void publish(VagaEventDto event);
+}
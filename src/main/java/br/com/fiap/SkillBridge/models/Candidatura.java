@@ -41,20 +41,23 @@ public class Candidatura {
     @Column(length = 50, nullable = false)
     private String telefone;
 
-    @Lob
-    @NotBlank(message = "curriculo é obrigatório")
-    @Size(max = 10000)
-    @Column(nullable = false)
-    private String curriculo;
+    // texto deduplicado por hash (tabela curriculo)
+    @NotNull(message = "curriculo é obrigatório")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "curriculo_hash")
+    private Curriculo curriculo;
 
-    @NotBlank(message = "status é obrigatório")
-    @Size(max = 50)
+    @NotNull(message = "status é obrigatório")
+    @Enumerated(EnumType.STRING)
     @Column(length = 50, nullable = false)
-    private String status = "PENDENTE";
+    private StatusCandidatura status = StatusCandidatura.PENDENTE;
 
     @PastOrPresent
     @NotNull(message = "dataAplicacao é obrigatório")
     @Column(name = "data_aplicacao", nullable = false)
     @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm")
     private LocalDateTime dataAplicacao = LocalDateTime.now();
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package br.com.fiap.SkillBridge.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Texto de currículo endereçado por conteúdo.
+ *
+ * - A chave é o SHA-256 (hex) do texto em UTF-8: currículos idênticos
+ *   são gravados uma única vez e referenciados pelas candidaturas.
+ * - Imutável: a gravação é feita pelo CurriculoStore (INSERT ... ON CONFLICT
+ *   DO NOTHING); o JPA só lê.
+ * - @BatchSize: ao listar candidaturas, os currículos são carregados
+ *   em lotes em vez de um SELECT por candidatura.
+ */
+@Entity
+@Table(name = "curriculo")
+@Immutable
+@BatchSize(size = 50)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Curriculo {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private String conteudo;
+}
@@ -0,0 +1,13 @@
+package br.com.fiap.SkillBridge.models;
+
+/**
+ * Etapas do funil de uma candidatura.
+ *
+ * Gravado como texto (EnumType.STRING) na coluna candidatura.status,
+ * restrita a estes valores por CHECK constraint (migration V4).
+ */
+public enum StatusCandidatura {
+    PENDENTE,
+    APROVADO,
+    REJEITADO
+}
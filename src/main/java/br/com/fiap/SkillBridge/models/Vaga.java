@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * ============================================================
@@ -27,6 +29,7 @@ import lombok.*;
  *      DS_REQUISITOS  VARCHAR(300),
  *      NM_EMPRESA     VARCHAR(100),
  *      DS_LOCAL       VARCHAR(200),
+ *      VERSION        BIGINT NOT NULL DEFAULT 0,
  *      CONSTRAINT pk_vaga PRIMARY KEY (ID)
  *  );
  *
@@ -50,6 +53,14 @@ import lombok.*;
  *     ID_*        → chave primária / identificador
  *     NM_*        → campos de “nome” / texto curto
  *     DS_*        → campos de “descrição” / texto descritivo
+ *
+ * ------------------------------------------------------------
+ *  CACHE DE SEGUNDO NÍVEL (Hibernate + JCache)
+ * ------------------------------------------------------------
+ * - Vagas mudam pouco e são lidas o tempo todo (dropdowns de
+ *   candidatura, findById em create/update de candidatura).
+ * - Região "vaga" (ehcache.xml), estratégia READ_WRITE: escritas
+ *   via JPA atualizam/invalidam a entrada de forma consistente.
  */
 @Getter
 @Setter
@@ -57,6 +68,8 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vaga")
 public class Vaga {
 
     // =========================================================
@@ -78,6 +91,24 @@ public class Vaga {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // =========================================================
+    //  CAMPO: version
+    // =========================================================
+    /**
+     * Versão da linha, usada no controle otimista de concorrência.
+     *
+     * Características:
+     * - Mapeado para a coluna VERSION (BIGINT, default 0), criada
+     *   pela migration V3.
+     * - Incrementada a cada UPDATE (pelo Hibernate ou pela atualização
+     *   direta do VagaRepository.updateIfVersion).
+     *
+     * Observação:
+     * - Fica nula em vagas novas; o Hibernate grava 0 no INSERT.
+     */
+    @Version
+    private Long version;
+
     // =========================================================
     //  CAMPO: titulo
     // =========================================================
@@ -0,0 +1,129 @@
+package br.com.fiap.SkillBridge.repositorys;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso às tabelas auxiliares de deduplicação de candidaturas (migration V6):
+ *
+ *  - candidatura_idempotencia: chave de idempotência → candidatura criada;
+ *  - candidatura_inscricao: (vaga_id, email) → candidatura, garantindo uma
+ *    candidatura por email em cada vaga.
+ *
+ * As operações de "reserva" usam INSERT ... ON CONFLICT DO NOTHING: duas
+ * submissões simultâneas com a mesma chave serializam no índice único, e a
+ * segunda enxerga o resultado da primeira depois do commit dela.
+ *
+ * Usa JdbcTemplate (participa da mesma transação do JPA) para não passar
+ * por queries nativas do Hibernate, que invalidariam o cache de 2º nível.
+ */
+@Repository
+public class CandidaturaChavesRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Par (vaga, email) de uma candidatura; o email como está na candidatura.
+     */
+    public record Inscricao(Long vagaId, String email) {
+    }
+
+    public CandidaturaChavesRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // =========================================================
+    //  IDEMPOTÊNCIA
+    // =========================================================
+
+    /**
+     * Reserva a chave. false = a chave já foi usada por outra submissão.
+     */
+    public boolean claimIdempotencyKey(String chave) {
+        return jdbcTemplate.update(
+                "insert into candidatura_idempotencia (chave) values (?) on conflict (chave) do nothing",
+                chave) == 1;
+    }
+
+    public Optional<Long> findByIdempotencyKey(String chave) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select candidatura_id from candidatura_idempotencia where chave = ? and candidatura_id is not null",
+                Long.class, chave);
+        return ids.stream().findFirst();
+    }
+
+    public void bindIdempotencyKey(String chave, Long candidaturaId) {
+        jdbcTemplate.update(
+                "update candidatura_idempotencia set candidatura_id = ? where chave = ?",
+                candidaturaId, chave);
+    }
+
+    public int purgeIdempotencyKeys(Instant olderThan) {
+        return jdbcTemplate.update(
+                "delete from candidatura_idempotencia where criado_em < ?",
+                Timestamp.from(olderThan));
+    }
+
+    // =========================================================
+    //  INSCRIÇÃO ÚNICA (vaga_id, email)
+    // =========================================================
+
+    /**
+     * Reserva o par (vaga, email). false = já existe inscrição para ele.
+     */
+    public boolean claimInscricao(Long vagaId, String email) {
+        return jdbcTemplate.update(
+                "insert into candidatura_inscricao (vaga_id, email) values (?, ?) " +
+                        "on conflict (vaga_id, email) do nothing",
+                vagaId, email) == 1;
+    }
+
+    public Optional<Long> findInscricao(Long vagaId, String email) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select candidatura_id from candidatura_inscricao " +
+                        "where vaga_id = ? and email = ? and candidatura_id is not null",
+                Long.class, vagaId, email);
+        return ids.stream().findFirst();
+    }
+
+    public void bindInscricao(Long vagaId, String email, Long candidaturaId) {
+        jdbcTemplate.update(
+                "insert into candidatura_inscricao (vaga_id, email, candidatura_id) values (?, ?, ?) " +
+                        "on conflict (vaga_id, email) do update set candidatura_id = excluded.candidatura_id",
+                vagaId, email, candidaturaId);
+    }
+
+    /**
+     * Vaga e email gravados na candidatura (como a transação atual os vê).
+     * Vazio se a candidatura não existe ou não tem um dos dois.
+     */
+    public Optional<Inscricao> findChaveInscricao(Long candidaturaId) {
+        List<Inscricao> chaves = jdbcTemplate.query(
+                "select vaga_id, email from candidatura " +
+                        "where id = ? and vaga_id is not null and email is not null",
+                (rs, i) -> new Inscricao(rs.getLong("vaga_id"), rs.getString("email")),
+                candidaturaId);
+        return chaves.stream().findFirst();
+    }
+
+    /**
+     * Move a inscrição da candidatura para (vaga, email).
+     * false = o par já pertence a outra candidatura.
+     */
+    public boolean rebindInscricao(Long candidaturaId, Long vagaId, String email) {
+        jdbcTemplate.update("delete from candidatura_inscricao where candidatura_id = ?", candidaturaId);
+        return jdbcTemplate.update(
+                "insert into candidatura_inscricao (vaga_id, email, candidatura_id) values (?, ?, ?) " +
+                        "on conflict (vaga_id, email) do nothing",
+                vagaId, email, candidaturaId) == 1;
+    }
+
+    public void deleteInscricao(Long candidaturaId) {
+        jdbcTemplate.update("delete from candidatura_inscricao where candidatura_id = ?", candidaturaId);
+    }
+}
@@ -2,6 +2,34 @@ package br.com.fiap.SkillBridge.repositorys;
 
 import br.com.fiap.SkillBridge.models.Candidatura;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CandidaturaRepository  extends JpaRepository<Candidatura, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CandidaturaRepository  extends JpaRepository<Candidatura, Long>, CandidaturaRepositoryCustom {
+
+    @Query("select c.version from Candidatura c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Candidaturas a partir de uma data: o filtro em data_aplicacao
+     * limita a consulta às partições recentes.
+     */
+    List<Candidatura> findByDataAplicacaoGreaterThanEqualOrderByDataAplicacaoDesc(LocalDateTime desde);
+
+    /**
+     * Contagens por status de uma vaga, mantidas por trigger (migration V4).
+     */
+    @Query(value = "select status as status, total as total from candidatura_status_count " +
+            "where vaga_id = :vagaId and total > 0", nativeQuery = true)
+    List<StatusCount> countByStatus(@Param("vagaId") Long vagaId);
+
+    interface StatusCount {
+        String getStatus();
+
+        long getTotal();
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.fiap.SkillBridge.repositorys;
+
+import br.com.fiap.SkillBridge.dto.CandidaturaDTO;
+import br.com.fiap.SkillBridge.models.Vaga;
+
+/**
+ * Operações de escrita da candidatura que não cabem em um query method.
+ */
+public interface CandidaturaRepositoryCustom {
+
+    /**
+     * Atualiza, com um único UPDATE ... WHERE id = ? AND version = ?,
+     * apenas os campos não nulos do DTO (e a vaga / o hash do currículo,
+     * se informados), incrementando a versão. O texto do currículo no DTO
+     * é ignorado: deve ser gravado antes no CurriculoStore.
+     *
+     * @return 1 se a linha foi atualizada; 0 se não existe ou a versão mudou
+     */
+    int updateIfVersion(Long id, long version, CandidaturaDTO changes, Vaga vaga, String curriculoHash);
+}
@@ -0,0 +1,47 @@
+package br.com.fiap.SkillBridge.repositorys;
+
+import br.com.fiap.SkillBridge.dto.CandidaturaDTO;
+import br.com.fiap.SkillBridge.models.Candidatura;
+import br.com.fiap.SkillBridge.models.Curriculo;
+import br.com.fiap.SkillBridge.models.StatusCandidatura;
+import br.com.fiap.SkillBridge.models.Vaga;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementação do {@link CandidaturaRepositoryCustom} com Criteria API:
+ * o SET é montado só com os campos presentes, sem carregar a entidade.
+ */
+class CandidaturaRepositoryCustomImpl implements CandidaturaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateIfVersion(Long id, long version, CandidaturaDTO changes, Vaga vaga, String curriculoHash) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Candidatura> update = cb.createCriteriaUpdate(Candidatura.class);
+        Root<Candidatura> root = update.from(Candidatura.class);
+
+        if (vaga != null) update.set(root.<Vaga>get("vaga"), vaga);
+        if (changes.getNome() != null) update.set(root.<String>get("nome"), changes.getNome());
+        if (changes.getEmail() != null) update.set(root.<String>get("email"), changes.getEmail());
+        if (changes.getTelefone() != null) update.set(root.<String>get("telefone"), changes.getTelefone());
+        if (curriculoHash != null) {
+            update.set(root.<Curriculo>get("curriculo"), entityManager.getReference(Curriculo.class, curriculoHash));
+        }
+        if (changes.getStatus() != null) update.set(root.<StatusCandidatura>get("status"), changes.getStatus());
+        if (changes.getDataAplicacao() != null) update.set(root.get("dataAplicacao"), changes.getDataAplicacao());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("version"), version));
+
+        entityManager.flush();
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
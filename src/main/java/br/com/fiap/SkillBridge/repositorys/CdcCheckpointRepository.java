@@ -0,0 +1,57 @@
+package br.com.fiap.SkillBridge.repositorys;
+
+import br.com.fiap.SkillBridge.services.cdc.CdcChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Checkpoints do leitor de CDC (tabela cdc_checkpoint, migration V7):
+ * último LSN cujas mudanças já foram entregues aos consumidores.
+ * Lotes descartados após esgotar os retries vão para cdc_dead_letter (V10).
+ */
+@Repository
+public class CdcCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CdcCheckpointRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<Long> find(String slotName) {
+        List<Long> lsns = jdbcTemplate.queryForList(
+                "select lsn from cdc_checkpoint where slot_name = ?", Long.class, slotName);
+        return lsns.stream().findFirst();
+    }
+
+    /**
+     * Grava o LSN (nunca retrocede).
+     */
+    public void save(String slotName, long lsn) {
+        jdbcTemplate.update(
+                "insert into cdc_checkpoint (slot_name, lsn) values (?, ?) " +
+                        "on conflict (slot_name) do update set lsn = greatest(cdc_checkpoint.lsn, excluded.lsn), " +
+                        "atualizado_em = current_timestamp",
+                slotName, lsn);
+    }
+
+    /**
+     * Uma linha por mudança do lote que não pôde ser entregue.
+     */
+    public void deadLetter(String slotName, long lsn, List<CdcChange> changes, String error) {
+        jdbcTemplate.batchUpdate(
+                "insert into cdc_dead_letter (slot_name, lsn, tabela, op, row_id, erro) values (?, ?, ?, ?, ?, ?)",
+                changes.stream()
+                        .map(c -> new Object[]{slotName, lsn, c.table(), c.op().name(), c.id(), error})
+                        .toList());
+    }
+
+    public boolean slotExists(String slotName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from pg_replication_slots where slot_name = ?", Integer.class, slotName);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.fiap.SkillBridge.repositorys;
+
+import br.com.fiap.SkillBridge.services.projection.VagaRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitura de vagas e do log vaga_evento (migration V8) para as projeções.
+ *
+ * - {@link #streamVagas}: cursor no servidor (fetch size), em ordem de id,
+ *   entregue em blocos de tamanho fixo; a tabela nunca fica inteira em
+ *   memória. Precisa rodar dentro de uma transação (o driver do Postgres
+ *   só usa cursor com autocommit desligado).
+ * - {@link #findEventsAfter} / {@link #findLateEvents}: eventos para o
+ *   replay após um snapshot; {@link #snapshotXmin} marca até onde as
+ *   transações já terminaram (coluna txid, migration V11).
+ */
+@Repository
+public class VagaEventoRepository {
+
+    public record VagaEvento(long seq, long vagaId, char op, Instant criadoEm) {
+    }
+
+    private static final RowMapper<VagaRow> VAGA_ROW = (rs, i) -> new VagaRow(
+            rs.getLong("id"),
+            rs.getLong("version"),
+            rs.getString("titulo"),
+            rs.getString("requisitos"),
+            rs.getString("empresa"),
+            rs.getString("local"));
+
+    private static final RowMapper<VagaEvento> EVENTO = (rs, i) -> new VagaEvento(
+            rs.getLong("seq"),
+            rs.getLong("vaga_id"),
+            rs.getString("op").charAt(0),
+            rs.getTimestamp("criado_em").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public VagaEventoRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    /**
+     * Último seq do log (0 se vazio).
+     */
+    public long currentSeq() {
+        Long seq = jdbcTemplate.queryForObject("select coalesce(max(seq), 0) from vaga_evento", Long.class);
+        return seq != null ? seq : 0L;
+    }
+
+    /**
+     * Percorre as vagas com id > afterId, em blocos de chunkSize linhas.
+     */
+    public void streamVagas(long afterId, int chunkSize, Consumer<List<VagaRow>> chunkConsumer) {
+        List<VagaRow> chunk = new ArrayList<>(chunkSize);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "select id, version, titulo, requisitos, empresa, local from vaga where id > ? order by id");
+            ps.setFetchSize(chunkSize);
+            ps.setLong(1, afterId);
+            return ps;
+        }, rs -> {
+            chunk.add(VAGA_ROW.mapRow(rs, 0));
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(List.copyOf(chunk));
+        }
+    }
+
+    public List<VagaRow> findRows(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+                "select id, version, titulo, requisitos, empresa, local from vaga where id in (:ids)",
+                new MapSqlParameterSource("ids", ids), VAGA_ROW);
+    }
+
+    /**
+     * Próxima página de eventos com seq > afterSeq, em ordem de seq.
+     */
+    public List<VagaEvento> findEventsAfter(long afterSeq, int limit) {
+        return jdbcTemplate.query(
+                "select seq, vaga_id, op, criado_em from vaga_evento where seq > ? order by seq limit ?",
+                EVENTO, afterSeq, limit);
+    }
+
+    /**
+     * xmin do snapshot atual: toda transação com txid menor já terminou
+     * (seus eventos já estão visíveis ou nunca vão existir).
+     */
+    public long snapshotXmin() {
+        Long xmin = jdbcTemplate.queryForObject(
+                "select pg_snapshot_xmin(pg_current_snapshot())::text::bigint", Long.class);
+        return xmin != null ? xmin : 0L;
+    }
+
+    /**
+     * Eventos com seq <= upToSeq de transações com txid >= fromXmin: as que
+     * ainda estavam abertas na leitura anterior (o seq foi reservado antes
+     * e o commit veio depois), então aparecem "atrás" do último seq aplicado.
+     */
+    public List<VagaEvento> findLateEvents(long upToSeq, long fromXmin) {
+        return jdbcTemplate.query(
+                "select seq, vaga_id, op, criado_em from vaga_evento " +
+                        "where txid >= ?::text::xid8 and seq <= ? order by seq",
+                EVENTO, fromXmin, upToSeq);
+    }
+
+    public int purgeOlderThan(Instant cutoff) {
+        return jdbcTemplate.update("delete from vaga_evento where criado_em < ?", Timestamp.from(cutoff));
+    }
+}
@@ -1,10 +1,18 @@
 package br.com.fiap.SkillBridge.repositorys;
 
+import br.com.fiap.SkillBridge.dto.response.VagaOption;
 import br.com.fiap.SkillBridge.models.Vaga;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ============================================================
@@ -24,6 +32,15 @@ import java.util.List;
  * - Define métodos de consulta específicos baseados na
  *   convenção de nomes do Spring Data (query methods),
  *   permitindo buscas por empresa e título de forma simples.
+ *
+ * - As consultas de leitura usam o query cache do Hibernate
+ *   (hint "org.hibernate.cacheable"): o resultado guarda só os ids
+ *   e as entidades vêm da região "vaga" do cache de 2º nível.
+ *   Qualquer escrita na tabela invalida essas consultas.
+ *
+ * - A atualização de vagas é feita por um UPDATE direto com
+ *   verificação de versão ({@link #updateIfVersion}), sem carregar
+ *   a entidade nem passar pelo dirty-checking.
  */
 @Repository
 public interface VagaRepository extends JpaRepository<Vaga, Long> {
@@ -32,6 +49,14 @@ public interface VagaRepository extends JpaRepository<Vaga, Long> {
     //  CONSULTAS PERSONALIZADAS
     // =========================================================
 
+    /**
+     * Lista todas as vagas (mesmo comportamento do JpaRepository),
+     * mas com resultado no query cache.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Vaga> findAll();
+
     /**
      * Busca vagas filtrando pelo nome da empresa, ignorando
      * diferenças de maiúsculas e minúsculas.
@@ -44,6 +69,7 @@ public interface VagaRepository extends JpaRepository<Vaga, Long> {
      * - "Containing" → faz um LIKE '%termo%'
      * - "IgnoreCase" → converte para mesma caixa ao comparar
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Vaga> findByEmpresaContainingIgnoreCase(String empresa);
 
     /**
@@ -59,5 +85,61 @@ public interface VagaRepository extends JpaRepository<Vaga, Long> {
      * - Implementar busca textual em endpoints de listagem
      *   de vagas da SkillBridge.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Vaga> findByTituloContainingIgnoreCase(String titulo);
+
+    /**
+     * Projeção id/título de todas as vagas, já ordenada por título.
+     *
+     * Usada para montar o snapshot de opções dos dropdowns sem
+     * carregar requisitos/local de cada vaga.
+     */
+    @Query("select new br.com.fiap.SkillBridge.dto.response.VagaOption(v.id, v.titulo) " +
+            "from Vaga v order by lower(v.titulo), v.id")
+    List<VagaOption> findAllOptions();
+
+    // =========================================================
+    //  ATUALIZAÇÃO DIRETA (sem hidratar a entidade)
+    // =========================================================
+
+    /**
+     * Espaço de consulta fictício da atualização direta (ver {@link #updateIfVersion}).
+     */
+    String EDIT_QUERY_SPACE = "vaga_edicao";
+
+    /**
+     * Versão atual da vaga (consulta escalar, sem montar a entidade).
+     *
+     * Usada quando o chamador não informa a versão que editou: custa um
+     * SELECT a mais antes do UPDATE (duas idas ao banco em vez de uma).
+     */
+    @Query("select v.version from Vaga v where v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Atualiza os campos editáveis com um único
+     * UPDATE ... WHERE id = ? AND version = ?, incrementando a versão.
+     *
+     * Retorno:
+     * - 1 → linha atualizada (nova versão = version + 1);
+     * - 0 → vaga inexistente ou já alterada por outra edição.
+     *
+     * SQL nativo sincronizado só com o espaço {@link #EDIT_QUERY_SPACE}, que
+     * não pertence a nenhuma entidade: um UPDATE em lote (HQL ou nativo
+     * ligado à tabela "vaga") faria o Hibernate descartar a região "vaga"
+     * inteira. Quem chama trava só a vaga editada na região antes do UPDATE
+     * e descarta o query cache depois do commit
+     * (CacheInvalidationBus#lockEntityEverywhere).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update vaga set titulo = :titulo, requisitos = :requisitos, " +
+            "empresa = :empresa, local = :local, version = version + 1 " +
+            "where id = :id and version = :version", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EDIT_QUERY_SPACE))
+    int updateIfVersion(@Param("id") Long id,
+                        @Param("version") long version,
+                        @Param("titulo") String titulo,
+                        @Param("requisitos") String requisitos,
+                        @Param("empresa") String empresa,
+                        @Param("local") String local);
 }
@@ -1,6 +1,10 @@
 package br.com.fiap.SkillBridge.services;
 
 import br.com.fiap.SkillBridge.dto.response.VagaResponse;
+import br.com.fiap.SkillBridge.services.pdf.CompactText;
+import br.com.fiap.SkillBridge.services.pdf.PdfCorpusIndex;
+import br.com.fiap.SkillBridge.services.ratelimit.FairShareGate;
+import br.com.fiap.SkillBridge.services.ratelimit.RateLimitExceededException;
 import br.com.fiap.SkillBridge.tools.VagaTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +26,7 @@ import java.util.stream.Collectors;
  *    a partir de trechos dos PDFs (IA generativa).
  *
  * Observações importantes:
- *  - Este serviço é @Service singleton; alguns estados simples (lastVagas, docs)
+ *  - Este serviço é @Service singleton; alguns estados simples (lastVagas)
  *    podem ser compartilhados entre usuários. Para produção, considere escopo
  *    por sessão/usuário ou contexto separado.
  */
@@ -35,7 +39,7 @@ public class AIService {
 
     private static final Logger log = LoggerFactory.getLogger(AIService.class);
 
-    private final PdfLoaderService pdfLoaderService;
+    private final PdfCorpusIndex corpusIndex;
     private final VagaTool vagaTool;
 
     /**
@@ -46,10 +50,9 @@ public class AIService {
     private final ChatClient chatClient;
 
     /**
-     * Cache simples em memória dos documentos carregados do classpath.
-     * Cada DocumentDto contém nome + texto extraído do PDF.
+     * Limita as chamadas simultâneas ao LLM, com fila justa entre usuários.
      */
-    private List<PdfLoaderService.DocumentDto> docs = Collections.emptyList();
+    private final FairShareGate llmGate;
 
     /**
      * Contexto da última busca de vagas.
@@ -81,13 +84,15 @@ public class AIService {
     // =========================================================================
 
     public AIService(
-            PdfLoaderService pdfLoaderService,
+            PdfCorpusIndex corpusIndex,
             VagaTool vagaTool,
-            ChatClient.Builder chatClientBuilder // vindo do Spring AI
+            ChatClient.Builder chatClientBuilder, // vindo do Spring AI
+            FairShareGate llmGate
     ) {
-        this.pdfLoaderService = pdfLoaderService;
+        this.corpusIndex = corpusIndex;
         this.vagaTool = vagaTool;
         this.chatClient = chatClientBuilder.build();
+        this.llmGate = llmGate;
     }
 
     // =========================================================================
@@ -101,6 +106,16 @@ public class AIService {
      * @return texto de resposta já pronto para exibição no frontend
      */
     public String ask(String prompt) {
+        return ask(prompt, "anonimo");
+    }
+
+    /**
+     * Igual a {@link #ask(String)}, identificando o usuário para a fila
+     * justa de chamadas ao LLM.
+     *
+     * @param principal chave do usuário (nome do principal OAuth2)
+     */
+    public String ask(String prompt, String principal) {
         if (prompt == null || prompt.trim().isEmpty()) {
             return "Por favor, digite uma pergunta.";
         }
@@ -162,14 +177,13 @@ public class AIService {
         // 3.2. Roteio para PDFs (documentação SkillBridge)
         // ------------------------------------------------------------
         if (isPdf) {
-            if (docs.isEmpty()) {
-                docs = pdfLoaderService.loadAllFromClasspathDoc();
-            }
+            // Snapshot imutável do índice: ingestões em andamento não afetam esta requisição
+            List<PdfLoaderService.DocumentDto> docs = corpusIndex.documents();
             if (docs.isEmpty()) {
                 if (out.length() > 0) out.append("\n");
                 out.append("Nenhum PDF lido. Verifique se os arquivos estão em `src/main/resources/doc`.");
             } else {
-                String pdfAnswer = answerFromPdfs(prompt);
+                String pdfAnswer = answerFromPdfs(prompt, principal, docs);
                 if (!pdfAnswer.isBlank()) {
                     if (out.length() > 0) out.append("\n\n");
                     out.append(pdfAnswer);
@@ -188,7 +202,7 @@ public class AIService {
     // 4. Lógica de busca/resumo em PDFs + IA generativa
     // =========================================================================
 
-    private String answerFromPdfs(String prompt) {
+    private String answerFromPdfs(String prompt, String principal, List<PdfLoaderService.DocumentDto> docs) {
         String contextualPrompt = DEFAULT_SYSTEM_PROMPT + "\n\nPergunta: " + prompt;
         String normalized = contextualPrompt.toLowerCase(Locale.ROOT);
 
@@ -199,29 +213,26 @@ public class AIService {
 
         PdfLoaderService.DocumentDto bestDoc = null;
         int bestScore = 0;
-        String bestSnippet = null;
+        CharSequence bestSnippet = null;
 
+        // O texto dos documentos já está em minúsculas (CompactText),
+        // então a contagem não cria cópias por requisição.
         for (PdfLoaderService.DocumentDto d : docs) {
-            String textLower = d.getText().toLowerCase(Locale.ROOT);
+            CompactText text = d.getText();
             int score = 0;
             for (String t : tokens) {
-                int idx;
-                int from = 0;
-                while ((idx = textLower.indexOf(t, from)) >= 0) {
-                    score++;
-                    from = idx + t.length();
-                }
+                score += text.countFolded(t);
             }
             if (score > bestScore) {
                 bestScore = score;
                 bestDoc = d;
-                bestSnippet = extractSnippet(d.getText(), tokens.get(0));
+                bestSnippet = extractSnippet(text, tokens.get(0));
             }
         }
 
         if (bestDoc != null && bestScore > 0 && bestSnippet != null) {
-            String cleaned = cleanSnippet(bestSnippet);
-            String summary = synthesizeForUser(cleaned, prompt);
+            String cleaned = cleanSnippet(bestSnippet.toString());
+            String summary = synthesizeForUser(cleaned, prompt, principal);
             String greeting = chooseGreeting(prompt);
             return greeting + " Sobre o projeto (trecho de `" + bestDoc.getName() + "`):\n\n" + summary;
         }
@@ -229,13 +240,13 @@ public class AIService {
         return "";
     }
 
-    private String synthesizeForUser(String text, String prompt) {
+    private String synthesizeForUser(String text, String prompt, String principal) {
         if (text == null || text.isEmpty()) return "";
 
         String localSummary = localSummarize(text);
 
         try {
-            String response = chatClient
+            String response = llmGate.call(principal, () -> chatClient
                     .prompt()
                     .system(DEFAULT_SYSTEM_PROMPT)
                     .user(
@@ -248,12 +259,16 @@ public class AIService {
                                     "bem objetiva, em no máximo 2 parágrafos, explicando de forma clara para o usuário."
                     )
                     .call()
-                    .content();
+                    .content());
 
             if (response == null || response.isBlank()) {
                 return localSummary;
             }
             return response.trim() + "\n\n(Resposta gerada com IA a partir do documento da SkillBridge.)";
+        } catch (RateLimitExceededException ex) {
+            // fila do LLM cheia/espera longa: responde com o resumo local em vez de falhar
+            log.debug("LLM saturado para [{}]: {}. Usando fallback local.", principal, ex.getMessage());
+            return localSummary;
         } catch (Exception ex) {
             log.warn("Falha ao chamar Spring AI para síntese de PDF. Usando fallback local.", ex);
             return localSummary;
@@ -383,14 +398,18 @@ public class AIService {
         return t.length() <= 1500 ? t : t.substring(0, 1500) + "...";
     }
 
-    private String extractSnippet(String text, String token) {
+    /**
+     * Recorta um trecho ao redor da primeira ocorrência do token.
+     * Devolve uma view sobre o CompactText (sem cópia); a String só é
+     * criada depois, para o trecho vencedor.
+     */
+    private CharSequence extractSnippet(CompactText text, String token) {
         if (text == null || token == null) return "";
-        String lower = text.toLowerCase(Locale.ROOT);
-        int idx = lower.indexOf(token.toLowerCase(Locale.ROOT));
-        if (idx < 0) return text.length() <= 500 ? text.substring(0, 500) : text.substring(0, 500);
+        int idx = text.indexOfFolded(token.toLowerCase(Locale.ROOT), 0);
+        if (idx < 0) return text.subSequence(0, Math.min(500, text.length()));
         int start = Math.max(0, idx - 200);
         int end = Math.min(text.length(), idx + 300);
-        return text.substring(start, end);
+        return text.subSequence(start, end);
     }
 
     private String nullToEmpty(String s) {
@@ -0,0 +1,238 @@
+package br.com.fiap.SkillBridge.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Manutenção das partições mensais de candidatura (migration V5).
+ *
+ * Responsabilidades (job diário, cron em app.candidatura.partitions.cron):
+ *  - Criar com antecedência as partições dos próximos meses
+ *    (função candidatura_ensure_partitions no banco), para que inserts
+ *    nunca caiam na partição default.
+ *  - Arquivar partições mais antigas que a retenção configurada:
+ *      1) exporta a partição com COPY para {archive-dir}/candidatura_pAAAAMM.csv.gz;
+ *      2) em uma transação: DETACH, confere a quantidade de linhas com o
+ *         que foi exportado, desconta as linhas da partição do funil
+ *         (candidatura_status_count) e faz DROP (se divergir, desfaz e
+ *         tenta no próximo ciclo).
+ *
+ * Vários nós:
+ *  - Criação e arquivamento rodam sob pg_try_advisory_lock (sessão de uma
+ *    conexão dedicada): só um nó por vez; os demais pulam o ciclo.
+ *  - O DETACH não pode ser CONCURRENTLY (a tabela tem partição default),
+ *    então roda com lock_timeout curto: se houver consultas longas na
+ *    tabela, desiste em vez de enfileirar todo o tráfego atrás do lock
+ *    exclusivo, e tenta de novo no próximo ciclo.
+ *
+ * Observações:
+ *  - O diretório de arquivo pode ser um volume de storage frio (bucket
+ *    montado, NFS etc.); os arquivos são CSV com cabeçalho, compactados.
+ *  - DETACH/DROP não disparam os triggers de linha da V4: o desconto no
+ *    funil é feito aqui, com um GROUP BY vaga_id, status da partição.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.candidatura.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class CandidaturaPartitionMaintenance {
+
+    private static final Pattern PARTITION = Pattern.compile("candidatura_p(\\d{6})");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LOCK_NAME = "candidatura_partition_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Path archiveDir;
+    private final Duration detachLockTimeout;
+
+    public CandidaturaPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${app.candidatura.partitions.months-ahead:3}") int monthsAhead,
+                                           @Value("${app.candidatura.partitions.retention-months:0}") int retentionMonths,
+                                           @Value("${app.candidatura.partitions.archive-dir:archive/candidatura}") Path archiveDir,
+                                           @Value("${app.candidatura.partitions.detach-lock-timeout:5s}") Duration detachLockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveDir = archiveDir;
+        this.detachLockTimeout = detachLockTimeout;
+    }
+
+    @Scheduled(cron = "${app.candidatura.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        withClusterLock(() -> {
+            createFuturePartitions();
+            return archiveExpiredLocked();
+        }, List.of());
+    }
+
+    // =========================================================================
+    // 1. Partições futuras
+    // =========================================================================
+
+    /**
+     * Também roda ao subir: cobre instâncias que ficaram paradas por meses.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int ensureFuturePartitions() {
+        return withClusterLock(this::createFuturePartitions, 0);
+    }
+
+    private int createFuturePartitions() {
+        Integer created = jdbcTemplate.queryForObject(
+                "select candidatura_ensure_partitions(current_date, ?)", Integer.class, monthsAhead);
+        if (created != null && created > 0) {
+            log.info("[Partições] {} partição(ões) de candidatura criada(s) à frente", created);
+        }
+        return created != null ? created : 0;
+    }
+
+    // =========================================================================
+    // 2. Arquivamento
+    // =========================================================================
+
+    /**
+     * Arquiva as partições anteriores a (mês atual - retention-months).
+     * Com retention-months = 0 o arquivamento fica desligado.
+     *
+     * @return nomes das partições arquivadas (vazio se outro nó estiver arquivando)
+     */
+    public List<String> archiveExpired() {
+        return withClusterLock(this::archiveExpiredLocked, List.of());
+    }
+
+    private List<String> archiveExpiredLocked() {
+        List<String> archived = new ArrayList<>();
+        if (retentionMonths <= 0) {
+            return archived;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        for (String partition : listMonthlyPartitions()) {
+            Matcher m = PARTITION.matcher(partition);
+            if (m.matches() && YearMonth.parse(m.group(1), MONTH).isBefore(cutoff)) {
+                try {
+                    if (archive(partition)) {
+                        archived.add(partition);
+                    }
+                } catch (RuntimeException | IOException e) {
+                    log.error("[Partições] Falha ao arquivar {}; nova tentativa no próximo ciclo", partition, e);
+                }
+            }
+        }
+        return archived;
+    }
+
+    private List<String> listMonthlyPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i " +
+                        "join pg_class c on c.oid = i.inhrelid " +
+                        "join pg_class p on p.oid = i.inhparent " +
+                        "where p.relname = 'candidatura' order by c.relname",
+                String.class);
+        // só nomes gerados por candidatura_ensure_partitions (seguros para SQL dinâmico)
+        names.removeIf(name -> !PARTITION.matcher(name).matches());
+        return names;
+    }
+
+    private boolean archive(String partition) throws IOException {
+        Files.createDirectories(archiveDir);
+        Path target = archiveDir.resolve(partition + ".csv.gz");
+        Path tmp = archiveDir.resolve(partition + ".csv.gz.tmp");
+
+        long exported = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            CopyManager copy = con.unwrap(PGConnection.class).getCopyAPI();
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)), 64 * 1024)) {
+                // o texto do currículo vai junto: o arquivo não depende da tabela curriculo
+                return copy.copyOut("COPY (SELECT p.*, cv.conteudo AS curriculo FROM " + partition + " p " +
+                        "LEFT JOIN curriculo cv ON cv.hash = p.curriculo_hash) " +
+                        "TO STDOUT WITH (FORMAT csv, HEADER)", out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Boolean dropped = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + detachLockTimeout.toMillis());
+            jdbcTemplate.execute("ALTER TABLE candidatura DETACH PARTITION " + partition);
+            Long rows = jdbcTemplate.queryForObject("select count(*) from " + partition, Long.class);
+            if (rows == null || rows != exported) {
+                // linhas entraram entre o COPY e o DETACH (data retroativa): tenta de novo depois
+                status.setRollbackOnly();
+                return false;
+            }
+            // o funil passa a contar só as candidaturas que continuam na tabela
+            jdbcTemplate.update("UPDATE candidatura_status_count c SET total = c.total - a.total " +
+                    "FROM (SELECT vaga_id, status, count(*) AS total FROM " + partition +
+                    " GROUP BY vaga_id, status) a " +
+                    "WHERE c.vaga_id = a.vaga_id AND c.status = a.status");
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(dropped)) {
+            log.info("[Partições] {} arquivada em {} ({} linhas)", partition, target, exported);
+            return true;
+        }
+        Files.deleteIfExists(target);
+        log.warn("[Partições] {} mudou durante o arquivamento; adiado para o próximo ciclo", partition);
+        return false;
+    }
+
+    // =========================================================================
+    // 3. Lock entre nós
+    // =========================================================================
+
+    /**
+     * Executa a tarefa só se este nó obtiver o advisory lock da manutenção.
+     * O lock é de sessão, preso a uma conexão separada do pool enquanto a
+     * tarefa roda (a tarefa usa as próprias conexões/transações).
+     */
+    private <T> T withClusterLock(Supplier<T> task, T skipped) {
+        return jdbcTemplate.execute((ConnectionCallback<T>) con -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+            Boolean locked = session.queryForObject(
+                    "select pg_try_advisory_lock(hashtext(?))", Boolean.class, LOCK_NAME);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("[Partições] Manutenção em andamento em outro nó; ciclo ignorado");
+                return skipped;
+            }
+            try {
+                return task.get();
+            } finally {
+                session.queryForObject("select pg_advisory_unlock(hashtext(?))", Boolean.class, LOCK_NAME);
+            }
+        });
+    }
+}
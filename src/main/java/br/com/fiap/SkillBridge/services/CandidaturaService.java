@@ -1,66 +1,200 @@
 package br.com.fiap.SkillBridge.services;
 import br.com.fiap.SkillBridge.dto.CandidaturaDTO;
+import br.com.fiap.SkillBridge.dto.response.VagaFunil;
 import br.com.fiap.SkillBridge.models.Candidatura;
+import br.com.fiap.SkillBridge.models.Curriculo;
+import br.com.fiap.SkillBridge.models.StatusCandidatura;
 import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.repositorys.CandidaturaChavesRepository;
 import br.com.fiap.SkillBridge.repositorys.CandidaturaRepository;
 import br.com.fiap.SkillBridge.repositorys.VagaRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CandidaturaService {
 
+    /** Por quanto tempo uma chave de idempotência continua valendo. */
+    private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
+
     private final CandidaturaRepository candidaturaRepository;
     private final VagaRepository vagaRepository;
+    private final CandidaturaChavesRepository chavesRepository;
+    private final CurriculoStore curriculoStore;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
+    /**
+     * Cria (ou atualiza) a candidatura de forma idempotente.
+     *
+     * - Mesma chave de idempotência já processada → devolve a candidatura
+     *   criada naquela submissão, sem gravar nada (duplo clique, retry).
+     * - Já existe candidatura do mesmo email para a vaga (outra chave) →
+     *   atualiza só os dados de contato e o currículo da existente; status
+     *   e data de aplicação ficam como estão (o candidato não os controla).
+     * - O currículo é gravado por hash: textos iguais ocupam uma linha só.
+     */
     @Transactional
     public CandidaturaDTO create(CandidaturaDTO dto) {
+        String chave = normalizeKey(dto.getIdempotencyKey());
+        if (chave != null && !chavesRepository.claimIdempotencyKey(chave)) {
+            Optional<CandidaturaDTO> anterior = chavesRepository.findByIdempotencyKey(chave)
+                    .flatMap(candidaturaRepository::findById)
+                    .map(this::toDto);
+            if (anterior.isPresent()) {
+                log.debug("Submissão repetida ignorada (chave de idempotência já usada)");
+                return anterior.get();
+            }
+            // candidatura da chave foi excluída/arquivada: processa de novo
+        }
+
         Vaga vaga = vagaRepository.findById(dto.getVagaId())
                 .orElseThrow(() -> new EntityNotFoundException("Vaga não encontrada"));
+        String email = normalizeEmail(dto.getEmail());
+
+        if (!chavesRepository.claimInscricao(vaga.getId(), email)) {
+            Optional<Long> existente = chavesRepository.findInscricao(vaga.getId(), email)
+                    .filter(candidaturaRepository::existsById);
+            if (existente.isPresent()) {
+                CandidaturaDTO contato = new CandidaturaDTO();
+                contato.setNome(dto.getNome());
+                contato.setEmail(dto.getEmail());
+                contato.setTelefone(dto.getTelefone());
+                contato.setCurriculo(dto.getCurriculo());
+                CandidaturaDTO atualizada = update(existente.get(), contato);
+                if (chave != null) chavesRepository.bindIdempotencyKey(chave, existente.get());
+                return atualizada;
+            }
+        }
+
         Candidatura c = new Candidatura();
         c.setVaga(vaga);
         c.setNome(dto.getNome());
         c.setEmail(dto.getEmail());
         c.setTelefone(dto.getTelefone());
-        c.setCurriculo(dto.getCurriculo());
-        c.setStatus(dto.getStatus() != null ? dto.getStatus() : "PENDENTE");
+        c.setCurriculo(curriculoReference(dto.getCurriculo()));
+        c.setStatus(dto.getStatus() != null ? dto.getStatus() : StatusCandidatura.PENDENTE);
         c.setDataAplicacao(dto.getDataAplicacao() != null ? dto.getDataAplicacao() : LocalDateTime.now());
         Candidatura saved = candidaturaRepository.save(c);
+
+        chavesRepository.bindInscricao(vaga.getId(), email, saved.getId());
+        if (chave != null) chavesRepository.bindIdempotencyKey(chave, saved.getId());
         return toDto(saved);
     }
 
+    @Transactional(readOnly = true)
     public CandidaturaDTO findById(Long id) {
         return candidaturaRepository.findById(id)
                 .map(this::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Candidatura não encontrada"));
     }
 
+    @Transactional(readOnly = true)
     public List<CandidaturaDTO> findAll() {
         return candidaturaRepository.findAll().stream().map(this::toDto).toList();
     }
 
+    /**
+     * Candidaturas dos últimos "dias" dias, mais recentes primeiro.
+     * Só as partições do período são lidas (pruning por data_aplicacao).
+     */
+    @Transactional(readOnly = true)
+    public List<CandidaturaDTO> findRecentes(int dias) {
+        LocalDateTime desde = LocalDateTime.now().minusDays(dias);
+        return candidaturaRepository.findByDataAplicacaoGreaterThanEqualOrderByDataAplicacaoDesc(desde)
+                .stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Funil da vaga: quantidade de candidaturas por status.
+     *
+     * Lê só as linhas da vaga em candidatura_status_count (uma por status),
+     * mantidas por trigger; não varre a tabela de candidaturas.
+     * Candidaturas arquivadas (CandidaturaPartitionMaintenance) saem da contagem.
+     */
+    @Transactional(readOnly = true)
+    public VagaFunil funilPorVaga(Long vagaId) {
+        Map<StatusCandidatura, Long> porStatus = new EnumMap<>(StatusCandidatura.class);
+        for (StatusCandidatura status : StatusCandidatura.values()) {
+            porStatus.put(status, 0L);
+        }
+        long total = 0;
+        for (CandidaturaRepository.StatusCount count : candidaturaRepository.countByStatus(vagaId)) {
+            porStatus.put(StatusCandidatura.valueOf(count.getStatus()), count.getTotal());
+            total += count.getTotal();
+        }
+        return new VagaFunil(vagaId, porStatus, total);
+    }
+
+    /**
+     * Atualiza a candidatura com um único UPDATE ... WHERE id = ? AND version = ?,
+     * sem carregar a entidade. Campos nulos no DTO são mantidos.
+     *
+     * - dto.version nula → usa a versão atual do banco (última escrita vence);
+     * - versão divergente → ObjectOptimisticLockingFailureException;
+     * - vaga ou email alterado para um par (vaga, email) que já pertence a
+     *   outra candidatura → DataIntegrityViolationException.
+     *
+     * O DTO devolvido traz os valores enviados, o id e a nova versão
+     * (campos não enviados continuam nulos; não há releitura do banco).
+     */
     @Transactional
     public CandidaturaDTO update(Long id, CandidaturaDTO dto) {
-        Candidatura existing = candidaturaRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Candidatura não encontrada"));
-        if (dto.getVagaId() != null && !dto.getVagaId().equals(existing.getVaga().getId())) {
-            Vaga vaga = vagaRepository.findById(dto.getVagaId())
+        Vaga vaga = null;
+        if (dto.getVagaId() != null) {
+            // servida pelo cache de 2º nível na maioria das vezes
+            vaga = vagaRepository.findById(dto.getVagaId())
                     .orElseThrow(() -> new EntityNotFoundException("Vaga não encontrada"));
-            existing.setVaga(vaga);
         }
-        if (dto.getNome() != null) existing.setNome(dto.getNome());
-        if (dto.getEmail() != null) existing.setEmail(dto.getEmail());
-        if (dto.getTelefone() != null) existing.setTelefone(dto.getTelefone());
-        if (dto.getCurriculo() != null) existing.setCurriculo(dto.getCurriculo());
-        if (dto.getStatus() != null) existing.setStatus(dto.getStatus());
-        if (dto.getDataAplicacao() != null) existing.setDataAplicacao(dto.getDataAplicacao());
-        return toDto(candidaturaRepository.save(existing));
+        long expectedVersion = dto.getVersion() != null
+                ? dto.getVersion()
+                : candidaturaRepository.findVersionById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Candidatura não encontrada"));
+        String curriculoHash = dto.getCurriculo() != null ? curriculoStore.store(dto.getCurriculo()) : null;
+
+        if (candidaturaRepository.updateIfVersion(id, expectedVersion, dto, vaga, curriculoHash) == 0) {
+            if (!candidaturaRepository.existsById(id)) {
+                throw new EntityNotFoundException("Candidatura não encontrada");
+            }
+            throw new ObjectOptimisticLockingFailureException(Candidatura.class, id);
+        }
+
+        if (vaga != null || dto.getEmail() != null) {
+            rebindInscricao(id);
+        }
+
+        return new CandidaturaDTO(
+                id,
+                dto.getVagaId(),
+                dto.getNome(),
+                dto.getEmail(),
+                dto.getTelefone(),
+                dto.getCurriculo(),
+                dto.getStatus(),
+                dto.getDataAplicacao(),
+                expectedVersion + 1,
+                null
+        );
     }
 
     @Transactional
@@ -69,6 +203,46 @@ public class CandidaturaService {
             throw new EntityNotFoundException("Candidatura não encontrada");
         }
         candidaturaRepository.deleteById(id);
+        chavesRepository.deleteInscricao(id);
+    }
+
+    /**
+     * Remove chaves de idempotência vencidas (a tabela fica pequena).
+     */
+    @Scheduled(cron = "${app.candidatura.dedup.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpiredIdempotencyKeys() {
+        int removed = chavesRepository.purgeIdempotencyKeys(Instant.now().minus(IDEMPOTENCY_TTL));
+        if (removed > 0) {
+            log.info("{} chave(s) de idempotência vencida(s) removida(s)", removed);
+        }
+    }
+
+    /**
+     * A inscrição (vaga, email) segue os valores gravados na candidatura:
+     * basta um dos dois mudar (o outro vem do banco, já com o UPDATE).
+     */
+    private void rebindInscricao(Long id) {
+        var chave = chavesRepository.findChaveInscricao(id);
+        if (chave.isEmpty()) {
+            chavesRepository.deleteInscricao(id);
+            return;
+        }
+        if (!chavesRepository.rebindInscricao(id, chave.get().vagaId(), normalizeEmail(chave.get().email()))) {
+            throw new DataIntegrityViolationException("Já existe candidatura deste email para a vaga");
+        }
+    }
+
+    private Curriculo curriculoReference(String conteudo) {
+        return entityManager.getReference(Curriculo.class, curriculoStore.store(conteudo));
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeKey(String chave) {
+        return chave == null || chave.isBlank() ? null : chave.trim();
     }
 
     private CandidaturaDTO toDto(Candidatura c) {
@@ -78,9 +252,11 @@ public class CandidaturaService {
                 c.getNome(),
                 c.getEmail(),
                 c.getTelefone(),
-                c.getCurriculo(),
+                c.getCurriculo() != null ? c.getCurriculo().getConteudo() : null,
                 c.getStatus(),
-                c.getDataAplicacao()
+                c.getDataAplicacao(),
+                c.getVersion(),
+                null
         );
     }
 }
@@ -0,0 +1,75 @@
+package br.com.fiap.SkillBridge.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Armazenamento de currículos endereçado por conteúdo (tabela curriculo).
+ *
+ * Responsabilidades:
+ *  - Calcular o hash (SHA-256 hex do texto em UTF-8, o mesmo da migration V6).
+ *  - Gravar o texto uma única vez por hash: reenvios e candidaturas com o
+ *    mesmo currículo não duplicam o TEXT.
+ *  - Remover periodicamente currículos que nenhuma candidatura referencia.
+ */
+@Slf4j
+@Service
+public class CurriculoStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CurriculoStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Garante que o texto está gravado e devolve o hash dele.
+     *
+     * Um texto que já existe fica com a linha travada até o fim da transação
+     * (ON CONFLICT DO UPDATE trava mesmo quando o WHERE não atualiza) e, se
+     * for antigo, tem criado_em renovado. Assim o {@link #purgeOrphans}:
+     *  - se apagar antes, este insert espera o commit dele e grava de novo;
+     *  - se chegar depois, espera esta transação e pula a linha renovada.
+     */
+    public String store(String conteudo) {
+        String hash = hash(conteudo);
+        jdbcTemplate.update(
+                "insert into curriculo (hash, conteudo) values (?, ?) on conflict (hash) do update " +
+                        "set criado_em = current_timestamp " +
+                        "where curriculo.criado_em < current_timestamp - interval '1 hour'",
+                hash, conteudo);
+        return hash;
+    }
+
+    public static String hash(String conteudo) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Apaga currículos sem candidatura (ex.: após exclusão ou arquivamento).
+     * Só considera os criados (ou reaproveitados, ver {@link #store}) há mais
+     * de 1 dia, para não competir com uma candidatura que acabou de gravar
+     * o texto e ainda não comitou.
+     */
+    @Scheduled(cron = "${app.candidatura.dedup.purge-cron:0 30 3 * * *}")
+    public void purgeOrphans() {
+        int removed = jdbcTemplate.update(
+                "delete from curriculo cv where cv.criado_em < current_timestamp - interval '1 day' " +
+                        "and not exists (select 1 from candidatura c where c.curriculo_hash = cv.hash)");
+        if (removed > 0) {
+            log.info("[Currículos] {} currículo(s) sem candidatura removido(s)", removed);
+        }
+    }
+}
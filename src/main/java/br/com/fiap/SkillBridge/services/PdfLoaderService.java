@@ -1,16 +1,21 @@
 package br.com.fiap.SkillBridge.services;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
+import br.com.fiap.SkillBridge.services.pdf.CompactText;
+import br.com.fiap.SkillBridge.services.pdf.PdfPageExtractor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Serviço responsável por carregar e extrair texto dos PDFs
@@ -37,12 +42,24 @@ public class PdfLoaderService {
     private final PathMatchingResourcePatternResolver resolver =
             new PathMatchingResourcePatternResolver();
 
+    /**
+     * Extração paralela por faixas de páginas (ver {@link PdfPageExtractor}).
+     */
+    private final PdfPageExtractor pageExtractor;
+
+    public PdfLoaderService(PdfPageExtractor pageExtractor) {
+        this.pageExtractor = pageExtractor;
+    }
+
     /**
      * Carrega todos os PDFs da pasta de documentação (doc/) no classpath
      * e retorna uma lista de DocumentDto contendo:
      *  - nome do arquivo
      *  - texto extraído via PDFBox
      *
+     * Os arquivos são processados em paralelo (cada um também dividido em
+     * faixas de páginas), mas o resultado mantém a ordem do classpath.
+     *
      * Em caso de erro em um arquivo específico, apenas loga e continua
      * com os demais, para não quebrar o fluxo da aplicação.
      */
@@ -59,6 +76,9 @@ public class PdfLoaderService {
 
             log.info("Encontrados {} PDFs em '{}'", resources.length, PDF_GLOB_PATTERN);
 
+            List<ForkJoinTask<DocumentDto>> tasks = new ArrayList<>(resources.length);
+            List<String> names = new ArrayList<>(resources.length);
+
             for (Resource res : resources) {
                 String filename = res.getFilename() != null ? res.getFilename() : "desconhecido";
 
@@ -67,18 +87,16 @@ public class PdfLoaderService {
                     continue;
                 }
 
-                try (InputStream is = res.getInputStream();
-                     PDDocument doc = PDDocument.load(is)) {
-
-                    PDFTextStripper stripper = new PDFTextStripper();
-                    String text = stripper.getText(doc);
-
-                    docs.add(new DocumentDto(filename, text));
+                names.add(filename);
+                tasks.add(pageExtractor.submit(() -> extractResource(filename, res)));
+            }
 
-                    log.debug("PDF carregado com sucesso: {}", filename);
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    docs.add(tasks.get(i).join());
                 } catch (Exception e) {
                     // Loga e segue para o próximo arquivo
-                    log.warn("Erro ao processar PDF '{}'", filename, e);
+                    log.warn("Erro ao processar PDF '{}'", names.get(i), e);
                 }
             }
         } catch (Exception e) {
@@ -89,34 +107,81 @@ public class PdfLoaderService {
         return docs;
     }
 
+    /**
+     * Carrega um único PDF do sistema de arquivos (usado pela ingestão
+     * do diretório observado). Diferente da carga do classpath, aqui a
+     * exceção é propagada para o chamador decidir o que fazer.
+     */
+    public DocumentDto loadFromFile(Path path) throws IOException {
+        return extract(path.getFileName().toString(), path);
+    }
+
+    /**
+     * PDFs dentro do jar não são arquivos: copia para um temporário para que
+     * cada faixa de páginas possa abrir o documento de forma independente.
+     */
+    private DocumentDto extractResource(String filename, Resource res) throws IOException {
+        if (res.isFile()) {
+            return extract(filename, res.getFile().toPath());
+        }
+        Path tmp = Files.createTempFile("skillbridge-doc-", ".pdf");
+        try {
+            try (InputStream is = res.getInputStream()) {
+                Files.copy(is, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return extract(filename, tmp);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Extrai o texto página a página e o entrega direto ao CompactText.Builder,
+     * que normaliza/compacta à medida que recebe (sem montar a String inteira).
+     */
+    private DocumentDto extract(String filename, Path file) throws IOException {
+        long start = System.nanoTime();
+        CompactText.Builder builder = new CompactText.Builder();
+
+        int pages = pageExtractor.extract(file, (pageNumber, pageText) -> builder.append(pageText).append('\n'));
+
+        CompactText text = builder.build();
+        log.debug("PDF carregado com sucesso: {} ({} páginas, {} caracteres, {} bytes retidos, {} ms)",
+                filename, pages, text.length(), text.retainedBytes(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new DocumentDto(filename, text);
+    }
+
     /**
      * DTO interno simples representando um documento PDF carregado.
      *
      * Contém:
      *  - name: nome do arquivo (ex: skillbridge-doc.pdf)
-     *  - text: conteúdo textual extraído do PDF
+     *  - text: conteúdo textual extraído do PDF, já normalizado e
+     *          compactado uma única vez na carga (ver {@link CompactText})
      */
     public static class DocumentDto {
         private final String name;
-        private final String text;
+        private final CompactText text;
 
-        public DocumentDto(String name, String text) {
+        public DocumentDto(String name, CompactText text) {
             this.name = name;
-            this.text = text != null ? text : "";
+            this.text = text != null ? text : CompactText.EMPTY;
         }
 
         public String getName() {
             return name;
         }
 
-        public String getText() {
+        public CompactText getText() {
             return text;
         }
 
         @Override
         public String toString() {
             return "DocumentDto{name='" + name + '\'' +
-                    ", textLength=" + (text != null ? text.length() : 0) +
+                    ", textLength=" + text.length() +
+                    ", retainedBytes=" + text.retainedBytes() +
                     '}';
         }
     }
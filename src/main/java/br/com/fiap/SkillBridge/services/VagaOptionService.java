@@ -0,0 +1,245 @@
+package br.com.fiap.SkillBridge.services;
+
+import br.com.fiap.SkillBridge.config.ReadReplicaRoutingDataSource;
+import br.com.fiap.SkillBridge.dto.response.VagaOption;
+import br.com.fiap.SkillBridge.repositorys.VagaRepository;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidation;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço de opções de vaga (id + título) para dropdowns e typeahead.
+ *
+ * Responsabilidades:
+ *  - Manter um snapshot imutável e compacto de todas as vagas, ordenado
+ *    por título (em minúsculas), montado a partir da projeção
+ *    {@link VagaRepository#findAllOptions()}.
+ *  - Servir páginas e buscas por prefixo (busca binária) sem tocar no banco.
+ *  - Invalidar o snapshot após o commit de qualquer escrita em vagas
+ *    (chamado pelo {@link VagaService}); o próximo acesso remonta.
+ *    No modo distribuído a invalidação também é enviada aos outros nós.
+ *
+ * Custo por requisição: apenas as opções devolvidas (alguns KB), em vez
+ * da lista inteira de entidades Vaga.
+ */
+@Service
+public class VagaOptionService {
+
+    private static final Logger log = LoggerFactory.getLogger(VagaOptionService.class);
+
+    static final String SNAPSHOT_REGION = "vaga-options";
+
+    private final VagaRepository vagaRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int maxPageSize;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Incrementado a cada invalidação; um rebuild iniciado antes de uma
+     * invalidação não é publicado (evita instalar dados antigos).
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    public VagaOptionService(VagaRepository vagaRepository,
+                             CacheInvalidationBus invalidationBus,
+                             @Value("${app.vagas.options.max-page-size:100}") int maxPageSize) {
+        this.vagaRepository = vagaRepository;
+        this.invalidationBus = invalidationBus;
+        this.maxPageSize = maxPageSize;
+        invalidationBus.subscribe(CacheInvalidation.Type.SNAPSHOT, message -> {
+            if (SNAPSHOT_REGION.equals(message.region())) {
+                invalidate();
+            }
+        });
+    }
+
+    // =========================================================================
+    // 1. Consultas (servidas do snapshot)
+    // =========================================================================
+
+    /**
+     * Página de opções em ordem alfabética (page começa em 0).
+     */
+    public List<VagaOption> page(int page, int size) {
+        Snapshot s = current();
+        int limit = clampSize(size);
+        long from = (long) Math.max(page, 0) * limit;
+        if (from >= s.options.length) {
+            return Collections.emptyList();
+        }
+        int to = (int) Math.min(s.options.length, from + limit);
+        return List.of(Arrays.copyOfRange(s.options, (int) from, to));
+    }
+
+    /**
+     * Opções cujo título começa com o prefixo informado (case-insensitive).
+     */
+    public List<VagaOption> searchByPrefix(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return page(0, size);
+        }
+        Snapshot s = current();
+        String folded = prefix.trim().toLowerCase(Locale.ROOT);
+        int limit = clampSize(size);
+
+        int start = lowerBound(s.folded, folded);
+        int end = start;
+        while (end < s.folded.length && end - start < limit && s.folded[end].startsWith(folded)) {
+            end++;
+        }
+        return List.of(Arrays.copyOfRange(s.options, start, end));
+    }
+
+    /**
+     * Opção de uma vaga específica (ex.: vaga já selecionada no form de edição).
+     */
+    public Optional<VagaOption> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Snapshot s = current();
+        int idx = Arrays.binarySearch(s.sortedIds, id);
+        return idx >= 0 ? Optional.of(s.options[s.positionsById[idx]]) : Optional.empty();
+    }
+
+    // =========================================================================
+    // 2. Invalidação (chamada pelo VagaService)
+    // =========================================================================
+
+    /**
+     * Descarta o snapshot depois do commit da transação atual
+     * (ou imediatamente, se não houver transação).
+     */
+    public void invalidateAfterCommit() {
+        invalidationBus.publish(CacheInvalidation.Type.SNAPSHOT, SNAPSHOT_REGION, null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    // =========================================================================
+    // 3. Montagem do snapshot
+    // =========================================================================
+
+    /**
+     * Garante que o snapshot está montado (usado também no warm-up).
+     */
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        current();
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            s = snapshot;
+            if (s != null) {
+                return s;
+            }
+            long v = version.get();
+            // primário: o snapshot vale até a próxima escrita, uma réplica atrasada o deixaria antigo
+            s = Snapshot.of(ReadReplicaRoutingDataSource.onPrimary(vagaRepository::findAllOptions));
+            if (version.get() == v) {
+                snapshot = s;
+            }
+            log.debug("Snapshot de opções de vaga montado: {} vagas", s.options.length);
+            return s;
+        }
+    }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Arrays paralelos e imutáveis:
+     *  - options/folded ordenados por título em minúsculas;
+     *  - sortedIds/positionsById para achar uma opção pelo id.
+     */
+    private static final class Snapshot {
+        final VagaOption[] options;
+        final String[] folded;
+        final long[] sortedIds;
+        final int[] positionsById;
+
+        private Snapshot(VagaOption[] options, String[] folded, long[] sortedIds, int[] positionsById) {
+            this.options = options;
+            this.folded = folded;
+            this.sortedIds = sortedIds;
+            this.positionsById = positionsById;
+        }
+
+        static Snapshot of(List<VagaOption> rows) {
+            int n = rows.size();
+            VagaOption[] options = rows.toArray(new VagaOption[0]);
+            // Reordena em Java: a collation do banco pode divergir do compareTo da busca binária
+            Arrays.sort(options, Comparator
+                    .comparing((VagaOption o) -> fold(o.getTitulo()))
+                    .thenComparing(VagaOption::getId));
+
+            String[] folded = new String[n];
+            Integer[] byId = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                folded[i] = fold(options[i].getTitulo());
+                byId[i] = i;
+            }
+            Arrays.sort(byId, Comparator.comparing(i -> options[i].getId()));
+
+            long[] sortedIds = new long[n];
+            int[] positions = new int[n];
+            for (int i = 0; i < n; i++) {
+                positions[i] = byId[i];
+                sortedIds[i] = options[byId[i]].getId();
+            }
+            return new Snapshot(options, folded, sortedIds, positions);
+        }
+
+        private static String fold(String titulo) {
+            return titulo == null ? "" : titulo.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package br.com.fiap.SkillBridge.services;
 
+import br.com.fiap.SkillBridge.config.ReadReplicaRoutingDataSource;
 import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventPublisher;
 import br.com.fiap.SkillBridge.models.Vaga;
 import br.com.fiap.SkillBridge.repositorys.VagaRepository;
-import br.com.fiap.SkillBridge.services.messaging.RabbitProducerService;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.cdc.CdcVagaEventPublisher;
+import br.com.fiap.SkillBridge.services.view.VagaCardCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -20,6 +29,10 @@ import java.util.Optional;
  * Responsabilidades:
  *  - Orquestrar operações de CRUD sobre vagas.
  *  - Aplicar caching em consultas de listagem.
+ *  - Invalidar o snapshot de opções (dropdowns) do VagaOptionService
+ *    e o card HTML da vaga (VagaCardCache) após cada escrita.
+ *  - No modo distribuído, avisar os outros nós para descartarem a vaga
+ *    do cache de 2º nível (o cache "vagas" é avisado pelo próprio CacheManager).
  *  - Centralizar validações simples antes de chamar o repositório.
  *
  * Observação:
@@ -33,13 +46,28 @@ public class VagaService {
     private static final Logger log = LoggerFactory.getLogger(VagaService.class);
 
     private final VagaRepository vagaRepository;
-    private final Optional<RabbitProducerService> rabbitProducer;
+    private final VagaOptionService vagaOptionService;
+    private final CacheInvalidationBus invalidationBus;
+    private final VagaCardCache cardCache;
+    private final Optional<VagaEventPublisher> eventPublisher;
+    private final boolean cdcPublishesEvents;
     //private final RabbitProducerService rabbitProducer;
     //RabbitProducerService rabbitProducer
 
-    public VagaService(VagaRepository vagaRepository,  Optional<RabbitProducerService> rabbitProducer) {
+    public VagaService(VagaRepository vagaRepository,
+                       VagaOptionService vagaOptionService,
+                       CacheInvalidationBus invalidationBus,
+                       VagaCardCache cardCache,
+                       Optional<VagaEventPublisher> eventPublisher,
+                       ObjectProvider<CdcVagaEventPublisher> cdcPublisher) {
         this.vagaRepository = vagaRepository;
-        this.rabbitProducer = rabbitProducer;
+        this.vagaOptionService = vagaOptionService;
+        this.invalidationBus = invalidationBus;
+        this.cardCache = cardCache;
+        this.eventPublisher = eventPublisher;
+        // presença do bean, não a propriedade: na imagem AOT as condições do
+        // CDC são fixadas no build e app.cdc.enabled em runtime não cria o leitor
+        this.cdcPublishesEvents = cdcPublisher.getIfAvailable() != null;
     }
 
     // =========================================================================
@@ -50,12 +78,14 @@ public class VagaService {
      * Retorna todas as vagas cadastradas.
      *
      * Resultado é armazenado em cache ("vagas") para reduzir hits no banco.
+     * Lido sempre do primário: o cache (e o ETag/cards da listagem montados
+     * a partir dele) não pode guardar uma réplica anterior à última escrita.
      */
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "vagas")
     public List<Vaga> getAllVagas() {
         log.debug("Buscando todas as vagas no banco (cache MISS)");
-        return vagaRepository.findAll();
+        return ReadReplicaRoutingDataSource.onPrimary(vagaRepository::findAll);
     }
 
     /**
@@ -68,6 +98,19 @@ public class VagaService {
                 .orElseThrow(() -> new RuntimeException("Vaga não encontrada para o id " + id));
     }
 
+    /**
+     * Busca várias vagas por id, na ordem dos ids informados
+     * (ids inexistentes são ignorados).
+     */
+    @Transactional(readOnly = true)
+    public List<Vaga> findAllById(List<Long> ids) {
+        Map<Long, Vaga> byId = new HashMap<>();
+        for (Vaga vaga : vagaRepository.findAllById(ids)) {
+            byId.put(vaga.getId(), vaga);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Pesquisa vagas filtrando por nome da empresa (case-insensitive).
      */
@@ -106,7 +149,10 @@ public class VagaService {
         }
 
         Vaga saved = vagaRepository.save(vaga);
-        rabbitProducer.ifPresent(p -> p.sendVagaEvent(new VagaEventDto(saved.getId(), "CREATED")));
+        vagaOptionService.invalidateAfterCommit();
+        invalidationBus.evictEntity(Vaga.class, saved.getId());
+        cardCache.evictAfterCommit(saved.getId());
+        publishEvent(saved.getId(), "CREATED");
         log.info("Vaga criada com sucesso. id={}", saved.getId());
         return saved;
     }
@@ -115,27 +161,51 @@ public class VagaService {
      * Atualiza uma vaga existente.
      *
      * Regras:
-     *  - Verifica se a vaga existe antes de atualizar.
-     *  - Copia campos editáveis (título, requisitos, empresa, local).
-     *  - Invalida o cache de listagem "vagas".
+     *  - Um único UPDATE ... WHERE id = ? AND version = ? grava os campos
+     *    editáveis (título, requisitos, empresa, local), sem carregar a
+     *    entidade nem passar pelo dirty-checking.
+     *  - A versão esperada é vaga.getVersion(); se vier nula, usa a versão
+     *    atual do banco (última escrita vence), ao custo de um SELECT a mais.
+     *  - Se outra edição alterou a vaga antes → ObjectOptimisticLockingFailureException.
+     *  - Invalida o cache de listagem "vagas" e, no cache de 2º nível, só a
+     *    vaga editada (travada durante a transação, ver
+     *    CacheInvalidationBus#lockEntityEverywhere) e o query cache.
+     *
+     * Retorno:
+     *  - Vaga destacada com os valores gravados e a nova versão
+     *    (não é relida do banco).
      */
     @Transactional
     @CacheEvict(cacheNames = "vagas", allEntries = true)
     public Vaga update(Long id, Vaga vaga) {
-        Vaga existente = vagaRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Tentativa de atualizar vaga inexistente. id={}", id);
-                    return new RuntimeException("Vaga não encontrada para o id " + id);
-                });
-
-        existente.setTitulo(vaga.getTitulo());
-        existente.setRequisitos(vaga.getRequisitos());
-        existente.setEmpresa(vaga.getEmpresa());
-        existente.setLocal(vaga.getLocal());
-
-        Vaga updated = vagaRepository.save(existente);
-        rabbitProducer.ifPresent(p -> p.sendVagaEvent(new VagaEventDto(updated.getId(), "UPDATED")));
-        log.info("Vaga atualizada com sucesso. id={}", updated.getId());
+        long expectedVersion = vaga.getVersion() != null
+                ? vaga.getVersion()
+                : vagaRepository.findVersionById(id).orElseThrow(() -> notFound(id));
+
+        // antes do UPDATE: a vaga fica travada no cache de 2º nível até o fim da transação
+        invalidationBus.lockEntityEverywhere(Vaga.class, id, expectedVersion);
+        int rows = vagaRepository.updateIfVersion(id, expectedVersion,
+                vaga.getTitulo(), vaga.getRequisitos(), vaga.getEmpresa(), vaga.getLocal());
+        if (rows == 0) {
+            if (!vagaRepository.existsById(id)) {
+                throw notFound(id);
+            }
+            log.warn("Conflito de versão ao atualizar vaga. id={}, versão esperada={}", id, expectedVersion);
+            throw new ObjectOptimisticLockingFailureException(Vaga.class, id);
+        }
+
+        Vaga updated = Vaga.builder()
+                .id(id)
+                .version(expectedVersion + 1)
+                .titulo(vaga.getTitulo())
+                .requisitos(vaga.getRequisitos())
+                .empresa(vaga.getEmpresa())
+                .local(vaga.getLocal())
+                .build();
+        vagaOptionService.invalidateAfterCommit();
+        cardCache.evictAfterCommit(id);
+        publishEvent(id, "UPDATED");
+        log.info("Vaga atualizada com sucesso. id={}, versão={}", id, updated.getVersion());
         return updated;
     }
 
@@ -152,6 +222,24 @@ public class VagaService {
     public void deleteById(Long id) {
         log.info("Excluindo vaga id={}", id);
         vagaRepository.deleteById(id);
-        rabbitProducer.ifPresent(p -> p.sendVagaEvent(new VagaEventDto(id, "DELETED")));
+        vagaOptionService.invalidateAfterCommit();
+        invalidationBus.evictEntity(Vaga.class, id);
+        cardCache.evictAfterCommit(id);
+        publishEvent(id, "DELETED");
+    }
+
+    /**
+     * Com o CdcVagaEventPublisher registrado os eventos saem dele (na ordem
+     * de commit); aqui só quando ele não existe.
+     */
+    private void publishEvent(Long id, String action) {
+        if (!cdcPublishesEvents) {
+            eventPublisher.ifPresent(p -> p.publish(new VagaEventDto(id, action)));
+        }
+    }
+
+    private RuntimeException notFound(Long id) {
+        log.warn("Tentativa de atualizar vaga inexistente. id={}", id);
+        return new RuntimeException("Vaga não encontrada para o id " + id);
     }
 }
@@ -0,0 +1,128 @@
+package br.com.fiap.SkillBridge.services.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorador do CacheManager do Spring para o modo distribuído.
+ *
+ * Leituras e escritas continuam locais (near cache). Toda remoção
+ * (evict/clear, ex.: @CacheEvict) também é publicada no
+ * {@link CacheInvalidationBus}; ao receber, os outros nós limpam o cache
+ * de mesmo nome no CacheManager original (sem republicar).
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(CacheInvalidation.Type.SPRING_CACHE, message -> {
+            Cache local = delegate.getCache(message.region());
+            if (local != null) {
+                local.clear();
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, n -> new BroadcastingCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    private final class BroadcastingCache implements Cache {
+
+        private final Cache target;
+
+        BroadcastingCache(Cache target) {
+            this.target = target;
+        }
+
+        private void broadcast() {
+            bus.publish(CacheInvalidation.Type.SPRING_CACHE, target.getName(), null);
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            target.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            broadcast();
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean present = target.evictIfPresent(key);
+            broadcast();
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            broadcast();
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean present = target.invalidate();
+            broadcast();
+            return present;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.fiap.SkillBridge.services.cache;
+
+/**
+ * Mensagem de invalidação trocada entre os nós no modo de cache distribuído.
+ *
+ * @param origin id do nó que publicou (o próprio nó ignora a mensagem)
+ * @param type   o que invalidar
+ * @param region nome do cache Spring, entidade (nome da classe), snapshot
+ *               ou {@link CacheInvalidationBus#QUERY_REGION}
+ * @param key    id da entidade (só em ENTITY; nulo = região inteira)
+ */
+public record CacheInvalidation(String origin, Type type, String region, String key) {
+
+    public enum Type {
+        /** Cache do Spring (@Cacheable): o nó remoto limpa o cache inteiro. */
+        SPRING_CACHE,
+        /** Cache de 2º nível do Hibernate: entidade + query cache. */
+        ENTITY,
+        /** Snapshot em memória mantido por um serviço (ex.: "vaga-options"). */
+        SNAPSHOT,
+        /** Só o query cache do Hibernate (entidades em cache continuam válidas). */
+        QUERY_CACHE
+    }
+}
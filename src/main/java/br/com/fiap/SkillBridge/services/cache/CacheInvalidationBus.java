@@ -0,0 +1,250 @@
+package br.com.fiap.SkillBridge.services.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Barramento de invalidação de caches entre nós.
+ *
+ * Cada nó mantém seus caches "perto" (Ehcache em heap, snapshots em memória).
+ * Quando um nó escreve, ele invalida localmente como sempre e, depois do
+ * commit, publica uma {@link CacheInvalidation}; os outros nós recebem pelo
+ * {@link InvalidationTransport} e invalidam as mesmas entradas.
+ *
+ * - Sem transporte (modo padrão, nó único) publicar é no-op.
+ * - Handlers por tipo: o próprio barramento trata ENTITY (cache de 2º nível)
+ *   e QUERY_CACHE; SPRING_CACHE e SNAPSHOT são registrados por quem mantém
+ *   o cache.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public static final String QUERY_REGION = "hibernate-query-cache";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final Supplier<EntityManagerFactory> entityManagerFactory;
+    private final Map<CacheInvalidation.Type, List<Consumer<CacheInvalidation>>> handlers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheInvalidationBus(ObjectProvider<InvalidationTransport> transport,
+                                ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        // EntityManagerFactory resolvido só ao receber: o barramento é criado
+        // junto com o CacheManager, antes da camada JPA
+        this(transport.getIfAvailable(), entityManagerFactory::getIfAvailable);
+    }
+
+    public CacheInvalidationBus(InvalidationTransport transport, Supplier<EntityManagerFactory> entityManagerFactory) {
+        this.transport = transport;
+        this.entityManagerFactory = entityManagerFactory;
+        if (transport != null) {
+            transport.setReceiver(this::receive);
+            log.info("[Cache] Modo distribuído ativo (nó {})", nodeId);
+        }
+        subscribe(CacheInvalidation.Type.ENTITY, this::evictEntityLocally);
+        subscribe(CacheInvalidation.Type.QUERY_CACHE, message -> evictQueriesLocally());
+    }
+
+    public boolean isDistributed() {
+        return transport != null;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // =========================================================================
+    // 1. Publicação
+    // =========================================================================
+
+    /**
+     * Publica a invalidação depois do commit da transação atual
+     * (ou imediatamente, se não houver transação).
+     */
+    public void publish(CacheInvalidation.Type type, String region, String key) {
+        if (transport == null) {
+            return;
+        }
+        CacheInvalidation message = new CacheInvalidation(nodeId, type, region, key);
+        afterCommit(() -> send(message));
+    }
+
+    /**
+     * Entidade alterada: os outros nós descartam a entrada no cache de 2º
+     * nível e o query cache (consultas que podiam conter a entidade).
+     */
+    public void evictEntity(Class<?> entityType, Object id) {
+        publish(CacheInvalidation.Type.ENTITY, entityType.getName(), id != null ? id.toString() : null);
+    }
+
+    /**
+     * Mudança que não afeta entidades em cache (ex.: só candidaturas): os
+     * outros nós descartam apenas o query cache.
+     */
+    public void evictQueries() {
+        publish(CacheInvalidation.Type.QUERY_CACHE, QUERY_REGION, null);
+    }
+
+    /**
+     * Escrita que o Hibernate não acompanha (SQL nativo fora dos espaços da
+     * entidade, ver VagaRepository#updateIfVersion). Chamar dentro da
+     * transação e ANTES da escrita:
+     *  - trava a entrada na região do cache de 2º nível (lockItem, como o
+     *    Hibernate faz num UPDATE pela entidade) e libera ao fim da transação
+     *    (unlockItem). Um leitor que perdeu o cache e leu a linha antiga
+     *    antes do commit não consegue gravá-la na região, nem depois do
+     *    commit; um evict no lugar da trava deixaria;
+     *  - depois do commit descarta o query cache neste nó e avisa os outros.
+     *
+     * version: versão da linha antes da escrita.
+     */
+    public void lockEntityEverywhere(Class<?> entityType, Object id, Object version) {
+        EntityManagerFactory emf = entityManagerFactory.get();
+        if (emf != null) {
+            lockUntilCompletion(emf, entityType, id, version);
+        }
+        CacheInvalidation message = new CacheInvalidation(nodeId, CacheInvalidation.Type.ENTITY,
+                entityType.getName(), id.toString());
+        afterCommit(() -> {
+            evictQueriesLocally();
+            if (transport != null) {
+                send(message);
+            }
+        });
+    }
+
+    private static void lockUntilCompletion(EntityManagerFactory emf, Class<?> entityType, Object id, Object version) {
+        EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+        if (em == null) {
+            throw new IllegalStateException("Trava no cache de 2º nível exige uma transação JPA ativa");
+        }
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityType);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        Object key = access.generateCacheKey(id, persister, session.getFactory(), null);
+        SoftLock lock = access.lockItem(session, key, version);
+        session.getActionQueue().registerProcess((success, s) -> access.unlockItem(s, key, lock));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void send(CacheInvalidation message) {
+        try {
+            transport.publish(message);
+        } catch (RuntimeException e) {
+            // o TTL dos caches limita a janela de dados antigos nos outros nós
+            log.warn("[Cache] Falha ao publicar invalidação {}: {}", message, e.getMessage());
+        }
+    }
+
+    // =========================================================================
+    // 2. Recebimento
+    // =========================================================================
+
+    public void subscribe(CacheInvalidation.Type type, Consumer<CacheInvalidation> handler) {
+        handlers.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    void receive(CacheInvalidation message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        for (Consumer<CacheInvalidation> handler : handlers.getOrDefault(message.type(), List.of())) {
+            try {
+                handler.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("[Cache] Falha ao aplicar invalidação {}", message, e);
+            }
+        }
+    }
+
+    private void evictEntityLocally(CacheInvalidation message) {
+        EntityManagerFactory emf = entityManagerFactory.get();
+        if (emf == null) {
+            return;
+        }
+        try {
+            Class<?> type = Class.forName(message.region());
+            var cache = emf.unwrap(SessionFactory.class).getCache();
+            if (message.key() == null) {
+                cache.evictEntityData(type);
+            } else {
+                softLock(emf, type, parseId(emf, type, message.key()));
+            }
+            cache.evictQueryRegions();
+        } catch (ClassNotFoundException e) {
+            log.warn("[Cache] Entidade desconhecida na invalidação: {}", message.region());
+        }
+    }
+
+    /**
+     * Descarta a entrada deixando na região uma trava já liberada: leitores
+     * cuja transação começou antes disto (e leram a linha antiga) não gravam
+     * o valor que leram; um evict simples deixaria.
+     */
+    private static void softLock(EntityManagerFactory emf, Class<?> type, Object id) {
+        SessionFactoryImplementor factory = emf.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(type);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        Object key = access.generateCacheKey(id, persister, factory, null);
+        try (StatelessSession stateless = factory.openStatelessSession()) {
+            SharedSessionContractImplementor session = (SharedSessionContractImplementor) stateless;
+            access.unlockItem(session, key, access.lockItem(session, key, null));
+        }
+    }
+
+    private void evictQueriesLocally() {
+        EntityManagerFactory emf = entityManagerFactory.get();
+        if (emf != null) {
+            emf.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        }
+    }
+
+    private Object parseId(EntityManagerFactory emf, Class<?> type, String key) {
+        Class<?> idType = emf.getMetamodel().entity(type).getIdType().getJavaType();
+        if (idType == Long.class || idType == long.class) return Long.valueOf(key);
+        if (idType == Integer.class || idType == int.class) return Integer.valueOf(key);
+        return key;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.SkillBridge.services.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Meio de entrega das invalidações entre nós (ex.: RabbitMQ).
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Envia para os outros nós (entrega "best effort", sem confirmação).
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registra quem recebe as mensagens vindas de outros nós.
+     */
+    void setReceiver(Consumer<CacheInvalidation> receiver);
+}
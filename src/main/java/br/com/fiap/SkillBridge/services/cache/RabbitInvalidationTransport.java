@@ -0,0 +1,42 @@
+package br.com.fiap.SkillBridge.services.cache;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * Transporte das invalidações pelo exchange já usado para eventos de vaga.
+ *
+ * Cada nó tem sua própria fila anônima (exclusiva, auto-delete) ligada ao
+ * exchange com a routing key de invalidação: toda mensagem chega a todos
+ * os nós, e a fila some quando o nó cai.
+ */
+public class RabbitInvalidationTransport implements InvalidationTransport {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private volatile Consumer<CacheInvalidation> receiver = message -> { };
+
+    public RabbitInvalidationTransport(RabbitTemplate rabbitTemplate, String exchange, String routingKey) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        rabbitTemplate.convertAndSend(exchange, routingKey, invalidation);
+    }
+
+    @Override
+    public void setReceiver(Consumer<CacheInvalidation> receiver) {
+        this.receiver = receiver;
+    }
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onMessage(CacheInvalidation invalidation) {
+        receiver.accept(invalidation);
+    }
+}
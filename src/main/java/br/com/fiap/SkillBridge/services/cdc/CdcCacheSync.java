@@ -0,0 +1,104 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.VagaOptionService;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.view.VagaCardCache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mantém os caches locais em sincronia com o banco a partir do CDC.
+ *
+ * Por lote:
+ *  - vaga alterada/removida → sai do cache de 2º nível (região "vaga") e
+ *    do cache de cards (VagaCardCache); TRUNCATE → região e cards inteiros.
+ *    SQL direto nem sempre incrementa "version", então o card (chave
+ *    id + versão) precisa ser descartado aqui;
+ *  - qualquer mudança em vaga → limpa o cache "vagas" e o snapshot de
+ *    opções (VagaOptionService);
+ *  - qualquer mudança → descarta o query cache (só candidaturas: os
+ *    outros nós recebem QUERY_CACHE, sem tocar na região "vaga").
+ *
+ * No modo distribuído, as mesmas invalidações seguem para os outros nós
+ * pelo {@link CacheInvalidationBus} (o CacheManager decorado e o
+ * VagaOptionService já publicam as deles; os cards dos outros nós saem
+ * com a mensagem ENTITY). O barramento não entrega ao próprio nó, por
+ * isso tudo o que é local é descartado aqui.
+ */
+@Slf4j
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "app.cdc.enabled", havingValue = "true")
+public class CdcCacheSync implements CdcListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final VagaOptionService vagaOptionService;
+    private final CacheInvalidationBus invalidationBus;
+    private final VagaCardCache cardCache;
+
+    public CdcCacheSync(EntityManagerFactory entityManagerFactory,
+                        CacheManager cacheManager,
+                        VagaOptionService vagaOptionService,
+                        CacheInvalidationBus invalidationBus,
+                        VagaCardCache cardCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.vagaOptionService = vagaOptionService;
+        this.invalidationBus = invalidationBus;
+        this.cardCache = cardCache;
+    }
+
+    @Override
+    public void onChanges(List<CdcChange> batch) {
+        Set<Long> vagaIds = new LinkedHashSet<>();
+        boolean vagaTruncated = false;
+        for (CdcChange change : batch) {
+            if (!"vaga".equals(change.table())) {
+                continue;
+            }
+            if (change.op() == CdcChange.Op.TRUNCATE) {
+                vagaTruncated = true;
+            } else if (change.id() != null) {
+                vagaIds.add(change.id());
+            }
+        }
+
+        var l2 = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (vagaTruncated) {
+            l2.evictEntityData(Vaga.class);
+            cardCache.clear();
+            invalidationBus.evictEntity(Vaga.class, null);
+        } else {
+            for (Long id : vagaIds) {
+                l2.evictEntityData(Vaga.class, id);
+                cardCache.evict(id);
+                invalidationBus.evictEntity(Vaga.class, id);
+            }
+        }
+
+        if (vagaTruncated || !vagaIds.isEmpty()) {
+            Cache vagas = cacheManager.getCache("vagas");
+            if (vagas != null) {
+                vagas.clear();
+            }
+            vagaOptionService.invalidateAfterCommit();
+        } else if (!batch.isEmpty()) {
+            // só candidaturas: os outros nós descartam apenas o query cache
+            invalidationBus.evictQueries();
+        }
+        l2.evictQueryRegions();
+        log.debug("[CDC] Caches sincronizados: {} vaga(s), truncate={}", vagaIds.size(), vagaTruncated);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Mudança de uma linha capturada da replicação lógica.
+ *
+ * @param lsn        LSN de commit da transação (ordem global das mudanças)
+ * @param commitTime instante do commit no servidor
+ * @param table      tabela de origem ("vaga", "candidatura")
+ * @param op         tipo da mudança
+ * @param id         valor da coluna "id" (nulo em TRUNCATE)
+ * @param columns    colunas recebidas em texto (em DELETE, só a chave;
+ *                   TOAST não alterado fica de fora)
+ */
+public record CdcChange(long lsn, Instant commitTime, String table, Op op, Long id, Map<String, String> columns) {
+
+    public enum Op { INSERT, UPDATE, DELETE, TRUNCATE }
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import java.util.List;
+
+/**
+ * Consumidor do feed de CDC.
+ *
+ * Recebe lotes de transações inteiras, na ordem de commit. A entrega é
+ * "pelo menos uma vez" (um lote pode se repetir após uma queda antes do
+ * checkpoint), então o tratamento precisa ser idempotente.
+ */
+public interface CdcListener {
+
+    void onChanges(List<CdcChange> batch);
+}
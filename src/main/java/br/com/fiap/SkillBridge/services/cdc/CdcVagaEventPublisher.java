@@ -0,0 +1,56 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Publica os VagaEventDto (RabbitMQ ou barramento em processo) a partir do CDC.
+ *
+ * Com o CDC ativo esta é a única origem dos eventos de vaga (o VagaService
+ * deixa de enviá-los), então mudanças feitas fora da aplicação também
+ * chegam aos consumidores, na ordem de commit. O timestamp do evento é o
+ * do commit no banco.
+ */
+@Slf4j
+@Component
+@Order(1)
+@ConditionalOnProperty(name = "app.cdc.enabled", havingValue = "true")
+public class CdcVagaEventPublisher implements CdcListener {
+
+    private final Optional<VagaEventPublisher> eventPublisher;
+
+    public CdcVagaEventPublisher(Optional<VagaEventPublisher> eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onChanges(List<CdcChange> batch) {
+        if (eventPublisher.isEmpty()) {
+            return;
+        }
+        VagaEventPublisher publisher = eventPublisher.get();
+        for (CdcChange change : batch) {
+            if (!"vaga".equals(change.table()) || change.id() == null) {
+                continue;
+            }
+            VagaEventDto event = new VagaEventDto(change.id(), action(change.op()));
+            event.setTimestamp(change.commitTime());
+            publisher.publish(event);
+        }
+    }
+
+    private static String action(CdcChange.Op op) {
+        return switch (op) {
+            case INSERT -> "CREATED";
+            case UPDATE -> "UPDATED";
+            default -> "DELETED";
+        };
+    }
+}
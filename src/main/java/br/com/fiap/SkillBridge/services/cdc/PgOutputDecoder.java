@@ -0,0 +1,174 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodificador do protocolo pgoutput (proto_version 1).
+ *
+ * Agrupa as mudanças por transação: entre Begin e Commit as linhas ficam
+ * pendentes, e {@link #decode} devolve a transação completa só no Commit.
+ *
+ * Mensagens tratadas: Begin, Commit, Relation, Insert, Update, Delete,
+ * Truncate. Type e Origin são ignoradas.
+ */
+public class PgOutputDecoder {
+
+    /** Epoch do Postgres (2000-01-01) em relação ao epoch Unix. */
+    private static final Instant PG_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    private final List<PendingChange> pending = new ArrayList<>();
+
+    /**
+     * Transação concluída: LSN de fim do commit + mudanças em ordem.
+     */
+    public record Transaction(long endLsn, List<CdcChange> changes) {
+    }
+
+    /**
+     * Processa uma mensagem; devolve a transação quando ela termina (Commit).
+     */
+    public Transaction decode(ByteBuffer buffer) {
+        char type = (char) buffer.get();
+        switch (type) {
+            case 'B' -> {
+                buffer.getLong();                 // LSN final da transação
+                buffer.getLong();                 // timestamp (repetido no Commit)
+                buffer.getInt();                  // xid
+                pending.clear();
+            }
+            case 'C' -> {
+                buffer.get();                     // flags
+                long commitLsn = buffer.getLong();
+                long endLsn = buffer.getLong();
+                Instant ts = toInstant(buffer.getLong());
+                List<CdcChange> changes = new ArrayList<>(pending.size());
+                for (PendingChange p : pending) {
+                    changes.add(new CdcChange(commitLsn, ts, p.table, p.op, p.id, p.columns));
+                }
+                pending.clear();
+                return new Transaction(endLsn, changes);
+            }
+            case 'R' -> readRelation(buffer);
+            case 'I' -> {
+                Relation relation = relation(buffer.getInt());
+                expect(buffer, 'N');
+                add(relation, CdcChange.Op.INSERT, readTuple(buffer, relation));
+            }
+            case 'U' -> {
+                Relation relation = relation(buffer.getInt());
+                char kind = (char) buffer.get();
+                if (kind == 'K' || kind == 'O') {
+                    readTuple(buffer, relation);  // chave/linha antiga: o 'N' traz o estado novo
+                    kind = (char) buffer.get();
+                }
+                if (kind != 'N') {
+                    throw new IllegalStateException("Tupla inesperada em Update: " + kind);
+                }
+                add(relation, CdcChange.Op.UPDATE, readTuple(buffer, relation));
+            }
+            case 'D' -> {
+                Relation relation = relation(buffer.getInt());
+                buffer.get();                     // 'K' ou 'O'
+                add(relation, CdcChange.Op.DELETE, readTuple(buffer, relation));
+            }
+            case 'T' -> {
+                int count = buffer.getInt();
+                buffer.get();                     // opções (CASCADE / RESTART IDENTITY)
+                for (int i = 0; i < count; i++) {
+                    add(relation(buffer.getInt()), CdcChange.Op.TRUNCATE, Collections.emptyMap());
+                }
+            }
+            default -> {
+                // 'Y' (type), 'O' (origin) e afins não interessam aqui
+            }
+        }
+        return null;
+    }
+
+    private void add(Relation relation, CdcChange.Op op, Map<String, String> columns) {
+        String id = columns.get("id");
+        pending.add(new PendingChange(relation.name, op, id != null ? Long.valueOf(id) : null, columns));
+    }
+
+    private void readRelation(ByteBuffer buffer) {
+        int oid = buffer.getInt();
+        readString(buffer);                       // schema
+        String name = readString(buffer);
+        buffer.get();                             // replica identity
+        int count = buffer.getShort();
+        String[] columns = new String[count];
+        for (int i = 0; i < count; i++) {
+            buffer.get();                         // flags (parte da chave)
+            columns[i] = readString(buffer);
+            buffer.getInt();                      // oid do tipo
+            buffer.getInt();                      // atttypmod
+        }
+        relations.put(oid, new Relation(name, columns));
+    }
+
+    private Map<String, String> readTuple(ByteBuffer buffer, Relation relation) {
+        int count = buffer.getShort();
+        Map<String, String> values = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            char kind = (char) buffer.get();
+            switch (kind) {
+                case 'n' -> values.put(relation.columns[i], null);
+                case 'u' -> {
+                    // TOAST não alterado: valor não enviado
+                }
+                case 't' -> {
+                    byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    values.put(relation.columns[i], new String(bytes, StandardCharsets.UTF_8));
+                }
+                default -> throw new IllegalStateException("Tipo de coluna inesperado: " + kind);
+            }
+        }
+        return values;
+    }
+
+    private Relation relation(int oid) {
+        Relation relation = relations.get(oid);
+        if (relation == null) {
+            throw new IllegalStateException("Relation " + oid + " recebida sem mensagem 'R' antes");
+        }
+        return relation;
+    }
+
+    private static void expect(ByteBuffer buffer, char expected) {
+        char kind = (char) buffer.get();
+        if (kind != expected) {
+            throw new IllegalStateException("Esperado '" + expected + "', recebido '" + kind + "'");
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        while (buffer.get() != 0) {
+            // até o terminador nulo
+        }
+        byte[] bytes = new byte[buffer.position() - start - 1];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Instant toInstant(long pgMicros) {
+        return PG_EPOCH.plus(Duration.ofNanos(Math.multiplyExact(pgMicros, 1_000L)));
+    }
+
+    private record Relation(String name, String[] columns) {
+    }
+
+    private record PendingChange(String table, CdcChange.Op op, Long id, Map<String, String> columns) {
+    }
+}
@@ -0,0 +1,323 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import br.com.fiap.SkillBridge.repositorys.CdcCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitor de CDC: acompanha a replicação lógica do Postgres (pgoutput,
+ * publicação da migration V7) e entrega as mudanças de vaga/candidatura
+ * aos {@link CdcListener}s, em lotes e na ordem de commit.
+ *
+ * Captura tudo que chega ao banco, inclusive SQL direto, o DatabaseSeeder
+ * e os deletes em cascata de candidatura.
+ *
+ * Funcionamento:
+ *  - Conexão de replicação própria (fora do pool), slot lógico criado no
+ *    primeiro start.
+ *  - Transações completas se acumulam até app.cdc.batch-size mudanças ou
+ *    app.cdc.batch-delay-ms; o lote vai para os listeners e só então o
+ *    LSN é gravado em cdc_checkpoint e confirmado ao servidor.
+ *  - Ao reconectar, transações com LSN <= checkpoint são descartadas.
+ *    Se um listener falhar, nada é confirmado e o lote é relido (com
+ *    backoff); depois de app.cdc.max-attempts falhas a partir do mesmo
+ *    checkpoint, as mudanças vão para cdc_dead_letter e a leitura segue.
+ *  - Só uma conexão pode usar o slot: com vários nós, um deles lê e os
+ *    outros ficam tentando reconectar (e assumem se ele cair). As
+ *    invalidações chegam aos demais pelo CacheInvalidationBus.
+ *
+ * Métricas: skillbridge.cdc.changes (tags table/op), skillbridge.cdc.dead_lettered
+ * e skillbridge.cdc.lag (segundos desde o commit da mudança mais antiga
+ * ainda não entregue; 0 quando não há nada pendente).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cdc.enabled", havingValue = "true")
+public class PostgresCdcReader implements SmartLifecycle {
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final CdcCheckpointRepository checkpoints;
+    private final ObjectProvider<CdcListener> listeners;
+    private final MeterRegistry meterRegistry;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String slotName;
+    private final String publication;
+    private final int batchSize;
+    private final long batchDelayNanos;
+    private final int maxAttempts;
+    private final Counter deadLettered;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Connection connection;
+    /** Commit da mudança mais antiga do lote em montagem/entrega (null = nada pendente). */
+    private volatile Instant oldestPending;
+
+    /** Falhas seguidas de entrega a partir do mesmo checkpoint. */
+    private long failedFrom = -1;
+    private int failedAttempts;
+
+    public PostgresCdcReader(CdcCheckpointRepository checkpoints,
+                             ObjectProvider<CdcListener> listeners,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cdc.url:${spring.datasource.url}}") String url,
+                             @Value("${app.cdc.username:${spring.datasource.username}}") String username,
+                             @Value("${app.cdc.password:${spring.datasource.password}}") String password,
+                             @Value("${app.cdc.slot:skillbridge_cdc}") String slotName,
+                             @Value("${app.cdc.publication:skillbridge_cdc}") String publication,
+                             @Value("${app.cdc.batch-size:500}") int batchSize,
+                             @Value("${app.cdc.batch-delay-ms:200}") long batchDelayMs,
+                             @Value("${app.cdc.max-attempts:5}") int maxAttempts) {
+        this.checkpoints = checkpoints;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistry;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.slotName = slotName;
+        this.publication = publication;
+        this.batchSize = batchSize;
+        this.batchDelayNanos = TimeUnit.MILLISECONDS.toNanos(batchDelayMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.deadLettered = Counter.builder("skillbridge.cdc.dead_lettered")
+                .description("Mudanças gravadas em cdc_dead_letter após esgotar os retries")
+                .register(meterRegistry);
+        Gauge.builder("skillbridge.cdc.lag", this, PostgresCdcReader::lagSeconds)
+                .description("Segundos desde o commit da mudança mais antiga ainda não entregue pelo CDC")
+                .register(meterRegistry);
+    }
+
+    // =========================================================================
+    // 1. Ciclo de vida
+    // =========================================================================
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runLoop, "cdc-reader");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly();
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        Duration backoff = Duration.ofSeconds(1);
+        while (running) {
+            try {
+                stream();
+                backoff = Duration.ofSeconds(1);
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("[CDC] Leitura interrompida ({}); reconectando em {} s", e.getMessage(), backoff.toSeconds());
+                closeQuietly();
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+        closeQuietly();
+    }
+
+    // =========================================================================
+    // 2. Leitura do slot
+    // =========================================================================
+
+    private void stream() throws SQLException, InterruptedException {
+        Connection con = openReplicationConnection();
+        connection = con;
+        PGConnection pg = con.unwrap(PGConnection.class);
+
+        long checkpoint = checkpoints.find(slotName).orElse(0L);
+        if (!checkpoints.slotExists(slotName)) {
+            pg.getReplicationAPI().createReplicationSlot().logical()
+                    .withSlotName(slotName)
+                    .withOutputPlugin("pgoutput")
+                    .make();
+            log.info("[CDC] Slot de replicação '{}' criado", slotName);
+            if (checkpoint > 0) {
+                // slot recriado: mudanças entre o checkpoint e agora se perderam
+                log.warn("[CDC] Slot '{}' não existia; invalidando todos os dados derivados", slotName);
+                dispatch(resetChanges());
+            }
+        }
+
+        PGReplicationStream stream = pg.getReplicationAPI().replicationStream().logical()
+                .withSlotName(slotName)
+                .withStartPosition(LogSequenceNumber.valueOf(checkpoint))
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", publication)
+                .withStatusInterval(10, TimeUnit.SECONDS)
+                .start();
+        log.info("[CDC] Lendo slot '{}' a partir do LSN {}", slotName, LogSequenceNumber.valueOf(checkpoint));
+
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        oldestPending = null;
+        List<CdcChange> batch = new ArrayList<>();
+        long batchLsn = checkpoint;
+        long batchStarted = 0;
+
+        while (running) {
+            ByteBuffer message = stream.readPending();
+            if (message != null) {
+                PgOutputDecoder.Transaction tx = decoder.decode(message);
+                if (tx != null && tx.endLsn() > checkpoint) {
+                    if (batch.isEmpty()) {
+                        batchStarted = System.nanoTime();
+                    }
+                    if (oldestPending == null && !tx.changes().isEmpty()) {
+                        oldestPending = tx.changes().get(0).commitTime();
+                    }
+                    batch.addAll(tx.changes());
+                    batchLsn = tx.endLsn();
+                    if (batch.size() < batchSize) {
+                        continue;
+                    }
+                } else {
+                    continue;
+                }
+            }
+
+            if (batchLsn > checkpoint && (batch.size() >= batchSize || System.nanoTime() - batchStarted >= batchDelayNanos)) {
+                if (!batch.isEmpty()) {
+                    deliver(batch, checkpoint, batchLsn);
+                    // transações sem mudanças publicadas (inclusive a do próprio
+                    // checkpoint) só são confirmadas ao servidor, sem gravar aqui
+                    checkpoints.save(slotName, batchLsn);
+                }
+                LogSequenceNumber applied = LogSequenceNumber.valueOf(batchLsn);
+                stream.setAppliedLSN(applied);
+                stream.setFlushedLSN(applied);
+                stream.forceUpdateStatus();
+                checkpoint = batchLsn;
+                oldestPending = null;
+                batch = new ArrayList<>();
+            } else if (message == null) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        }
+    }
+
+    /**
+     * Entrega o lote; se falhar, propaga (o lote é relido após reconectar)
+     * até a última tentativa, quando grava o lote em cdc_dead_letter e
+     * deixa a leitura seguir.
+     */
+    private void deliver(List<CdcChange> batch, long from, long lsn) {
+        try {
+            dispatch(batch);
+            failedFrom = -1;
+            failedAttempts = 0;
+        } catch (RuntimeException e) {
+            failedAttempts = failedFrom == from ? failedAttempts + 1 : 1;
+            failedFrom = from;
+            if (failedAttempts < maxAttempts) {
+                throw e;
+            }
+            log.error("[CDC] Lote até o LSN {} falhou {} vezes; {} mudanças enviadas para cdc_dead_letter",
+                    LogSequenceNumber.valueOf(lsn), failedAttempts, batch.size(), e);
+            checkpoints.deadLetter(slotName, lsn, batch, String.valueOf(e));
+            deadLettered.increment(batch.size());
+            failedFrom = -1;
+            failedAttempts = 0;
+        }
+    }
+
+    private void dispatch(List<CdcChange> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<CdcChange> view = List.copyOf(batch);
+        listeners.orderedStream().forEach(listener -> listener.onChanges(view));
+        for (CdcChange change : view) {
+            Counter.builder("skillbridge.cdc.changes")
+                    .description("Mudanças de linha entregues pelo CDC")
+                    .tag("table", change.table())
+                    .tag("op", change.op().name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        log.debug("[CDC] Lote entregue: {} mudanças", view.size());
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0.0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis()) / 1000.0;
+    }
+
+    private static List<CdcChange> resetChanges() {
+        Instant now = Instant.now();
+        return List.of(
+                new CdcChange(0, now, "vaga", CdcChange.Op.TRUNCATE, null, Map.of()),
+                new CdcChange(0, now, "candidatura", CdcChange.Op.TRUNCATE, null, Map.of()));
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        Properties props = new Properties();
+        PGProperty.USER.set(props, username);
+        PGProperty.PASSWORD.set(props, password);
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(props, "10");
+        PGProperty.REPLICATION.set(props, "database");
+        PGProperty.PREFER_QUERY_MODE.set(props, "simple");
+        return DriverManager.getConnection(url, props);
+    }
+
+    private void closeQuietly() {
+        Connection con = connection;
+        connection = null;
+        if (con != null) {
+            try {
+                con.close();
+            } catch (SQLException e) {
+                log.debug("[CDC] Erro ao fechar conexão de replicação", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.dto.response.DeadLetterView;
+import com.rabbitmq.client.GetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inspeção e replay da DLQ de eventos de vaga.
+ *
+ * - list: lê até N mensagens sem consumi-las (basicGet sem ack e nack
+ *   com requeue no fim, preservando a ordem);
+ * - replay: republica no exchange/routing key originais com o contador
+ *   de tentativas zerado e só então confirma a remoção da DLQ;
+ * - purge: descarta todas.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadLetterService {
+
+    private static final int PREVIEW_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RetryPolicy policy;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public DeadLetterService(RabbitTemplate rabbitTemplate, RetryPolicy policy) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.policy = policy;
+    }
+
+    public List<DeadLetterView> list(int limit) {
+        return rabbitTemplate.execute(channel -> {
+            List<DeadLetterView> views = new ArrayList<>();
+            long lastTag = -1;
+            for (int i = 0; i < limit; i++) {
+                GetResponse response = channel.basicGet(policy.dlq(), false);
+                if (response == null) {
+                    break;
+                }
+                lastTag = response.getEnvelope().getDeliveryTag();
+                views.add(toView(toMessage(response)));
+            }
+            if (lastTag >= 0) {
+                channel.basicNack(lastTag, true, true);
+            }
+            return views;
+        });
+    }
+
+    /**
+     * Republica até {@code limit} mensagens (todas, se messageId for nulo,
+     * ou só a de messageId). Devolve quantas foram republicadas.
+     */
+    public int replay(String messageId, int limit) {
+        Integer replayed = rabbitTemplate.execute(channel -> {
+            int count = 0;
+            List<Long> keep = new ArrayList<>();
+            for (int i = 0; i < limit; i++) {
+                GetResponse response = channel.basicGet(policy.dlq(), false);
+                if (response == null) {
+                    break;
+                }
+                long tag = response.getEnvelope().getDeliveryTag();
+                Message message = toMessage(response);
+                if (messageId != null && !messageId.equals(message.getMessageProperties().getMessageId())) {
+                    keep.add(tag);
+                    continue;
+                }
+                MessageProperties props = message.getMessageProperties();
+                Message copy = MessageBuilder.fromClonedMessage(message)
+                        .removeHeader(FailedMessageHandler.ATTEMPTS)
+                        .removeHeader(FailedMessageHandler.DEAD_LETTERED_AT)
+                        .build();
+                String exchange = headerOr(props, FailedMessageHandler.ORIGINAL_EXCHANGE, "");
+                String routingKey = headerOr(props, FailedMessageHandler.ORIGINAL_ROUTING_KEY, policy.queue());
+                channel.basicPublish(exchange, routingKey, false,
+                        propertiesConverter.fromMessageProperties(copy.getMessageProperties(), StandardCharsets.UTF_8.name()),
+                        copy.getBody());
+                channel.basicAck(tag, false);
+                count++;
+                if (messageId != null) {
+                    break;
+                }
+            }
+            for (Long tag : keep) {
+                channel.basicNack(tag, false, true);
+            }
+            return count;
+        });
+        log.info("[Rabbit] {} mensagem(ns) da DLQ republicada(s)", replayed);
+        return replayed != null ? replayed : 0;
+    }
+
+    public int purge() {
+        Integer purged = rabbitTemplate.execute(channel -> channel.queuePurge(policy.dlq()).getMessageCount());
+        log.warn("[Rabbit] DLQ {} esvaziada: {} mensagem(ns) descartada(s)", policy.dlq(), purged);
+        return purged != null ? purged : 0;
+    }
+
+    private Message toMessage(GetResponse response) {
+        MessageProperties props = propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+        return new Message(response.getBody(), props);
+    }
+
+    private static DeadLetterView toView(Message message) {
+        MessageProperties props = message.getMessageProperties();
+        Map<String, Object> headers = props.getHeaders();
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (props.getContentType() != null && props.getContentType().contains("binary")) {
+            body = "(" + message.getBody().length + " bytes binários)";
+        } else if (body.length() > PREVIEW_LENGTH) {
+            body = body.substring(0, PREVIEW_LENGTH) + "...";
+        }
+        return new DeadLetterView(
+                props.getMessageId(),
+                FailedMessageHandler.attempts(props),
+                String.valueOf(headers.get(FailedMessageHandler.LAST_ERROR)),
+                String.valueOf(headers.get(FailedMessageHandler.FIRST_FAILURE_AT)),
+                String.valueOf(headers.get(FailedMessageHandler.DEAD_LETTERED_AT)),
+                props.getContentType(),
+                body);
+    }
+
+    private static String headerOr(MessageProperties props, String name, String fallback) {
+        Object value = props.getHeader(name);
+        return value != null ? value.toString() : fallback;
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.api.RabbitListenerErrorHandler;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tratamento de falhas no consumo de eventos de vaga.
+ *
+ * Em vez de devolver a mensagem para a fila (redelivery imediato, em
+ * loop), a mensagem que falhou é republicada e a original é confirmada:
+ *  - tentativas restantes → fila de retry do backoff atual
+ *    (a mensagem volta para a fila principal quando o TTL vence);
+ *  - tentativas esgotadas ou mensagem "venenosa" (não desserializa)
+ *    → DLQ, com a causa nos headers.
+ *
+ * Headers mantidos entre tentativas:
+ *  - x-attempts: tentativas que já falharam;
+ *  - x-original-exchange / x-original-routing-key: destino original
+ *    (usado no replay da DLQ);
+ *  - x-first-failure-at, x-last-error, x-dead-lettered-at.
+ *
+ * Usado de dois jeitos: como errorHandler do @RabbitListener (falhas no
+ * método) e como recoverer do container (falhas antes do método, como
+ * conversão). Mensagens de outras filas são rejeitadas sem requeue.
+ */
+@Slf4j
+public class FailedMessageHandler implements RabbitListenerErrorHandler, MessageRecoverer {
+
+    public static final String ATTEMPTS = "x-attempts";
+    public static final String ORIGINAL_EXCHANGE = "x-original-exchange";
+    public static final String ORIGINAL_ROUTING_KEY = "x-original-routing-key";
+    public static final String FIRST_FAILURE_AT = "x-first-failure-at";
+    public static final String LAST_ERROR = "x-last-error";
+    public static final String DEAD_LETTERED_AT = "x-dead-lettered-at";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RetryPolicy policy;
+    private final MeterRegistry meterRegistry;
+
+    public FailedMessageHandler(RabbitTemplate rabbitTemplate, RetryPolicy policy, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // =========================================================================
+    // 1. Pontos de entrada
+    // =========================================================================
+
+    @Override
+    public Object handleError(Message amqpMessage, Channel channel,
+                              org.springframework.messaging.Message<?> message,
+                              ListenerExecutionFailedException exception) {
+        route(amqpMessage, exception.getCause() != null ? exception.getCause() : exception);
+        return null; // tratado: o container confirma a mensagem original
+    }
+
+    public Object handleError(Message amqpMessage,
+                              org.springframework.messaging.Message<?> message,
+                              ListenerExecutionFailedException exception) {
+        return handleError(amqpMessage, null, message, exception);
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        route(message, cause);
+    }
+
+    // =========================================================================
+    // 2. Roteamento retry / DLQ
+    // =========================================================================
+
+    void route(Message failed, Throwable cause) {
+        MessageProperties props = failed.getMessageProperties();
+        if (props.getConsumerQueue() != null && !policy.queue().equals(props.getConsumerQueue())) {
+            throw new AmqpRejectAndDontRequeueException("Falha em fila sem política de retry: " + props.getConsumerQueue(), cause);
+        }
+
+        int attempts = attempts(props) + 1;
+        boolean poison = isPoison(cause);
+        Message copy = annotate(failed, attempts, cause);
+
+        if (poison || attempts >= policy.maxAttempts()) {
+            copy.getMessageProperties().setHeader(DEAD_LETTERED_AT, Instant.now().toString());
+            rabbitTemplate.send(policy.dlxExchange(), policy.queue(), copy);
+            counter("skillbridge.rabbit.dead_lettered", poison ? "poison" : "exhausted").increment();
+            log.warn("[Rabbit] Mensagem {} enviada para a DLQ após {} tentativa(s){}: {}",
+                    copy.getMessageProperties().getMessageId(), attempts, poison ? " (inválida)" : "", errorText(cause));
+        } else {
+            String retryQueue = policy.retryQueue(attempts);
+            rabbitTemplate.send("", retryQueue, copy);
+            counter("skillbridge.rabbit.retried", String.valueOf(attempts)).increment();
+            log.info("[Rabbit] Tentativa {} da mensagem {} falhou; nova tentativa em {} ({})",
+                    attempts, copy.getMessageProperties().getMessageId(), policy.delays().get(attempts - 1), errorText(cause));
+        }
+    }
+
+    private Message annotate(Message failed, int attempts, Throwable cause) {
+        MessageProperties source = failed.getMessageProperties();
+        Message copy = MessageBuilder.fromClonedMessage(failed).build();
+        MessageProperties props = copy.getMessageProperties();
+        if (props.getMessageId() == null) {
+            props.setMessageId(UUID.randomUUID().toString());
+        }
+        if (props.getHeader(ORIGINAL_EXCHANGE) == null) {
+            props.setHeader(ORIGINAL_EXCHANGE, source.getReceivedExchange());
+            props.setHeader(ORIGINAL_ROUTING_KEY, source.getReceivedRoutingKey());
+            props.setHeader(FIRST_FAILURE_AT, Instant.now().toString());
+        }
+        props.setHeader(ATTEMPTS, attempts);
+        props.setHeader(LAST_ERROR, errorText(cause));
+        // headers de dead-letter do broker (x-death) crescem a cada volta e não são necessários
+        props.getHeaders().remove("x-death");
+        return copy;
+    }
+
+    static int attempts(MessageProperties props) {
+        Object value = props.getHeader(ATTEMPTS);
+        if (value instanceof Number n) {
+            return n.intValue();
+        }
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.toString());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isPoison(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof MessageConversionException
+                    || t instanceof org.springframework.messaging.converter.MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String errorText(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String text = root.getClass().getSimpleName() + (root.getMessage() != null ? ": " + root.getMessage() : "");
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+
+    private Counter counter(String name, String tagValue) {
+        return Counter.builder(name)
+                .tag("queue", policy.queue())
+                .tag(name.endsWith("retried") ? "attempt" : "reason", tagValue)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,288 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventHandler;
+import br.com.fiap.SkillBridge.events.VagaEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos de vaga em processo (sem broker), no estilo do
+ * Disruptor: ring buffer pré-alocado, vários produtores e um consumidor
+ * (thread própria) por {@link VagaEventHandler}, todos vendo todos os eventos.
+ *
+ * Publicação (sem locks):
+ *  1) se o buffer está cheio (o consumidor mais lento ainda não passou da
+ *     volta anterior), espera com parkNanos: back-pressure em vez de perda;
+ *  2) com espaço, reserva a próxima sequência com CAS no cursor (tryNext
+ *     do Disruptor). Quem desiste na espera não deixou sequência
+ *     reservada: um slot reservado e nunca publicado pararia os
+ *     consumidores nesse buraco;
+ *  3) grava o evento no slot e marca o slot como publicado na volta atual
+ *     (escrita com release).
+ *
+ * Consumo em lote: cada consumidor lê o maior trecho contíguo publicado,
+ * entrega todos os eventos (o último com endOfBatch = true) e só então
+ * avança a própria sequência, liberando os slots para os produtores.
+ * Sem eventos: spin curto, depois yield, depois park (não queima CPU
+ * ocioso).
+ *
+ * Falha em um handler é registrada e o evento é pulado só para ele; no
+ * desligamento os consumidores drenam o que já foi publicado.
+ *
+ * Ciclo de vida: fase abaixo do graceful shutdown do servidor web, então
+ * sobe antes de o servidor aceitar requisições e só para depois que as
+ * requisições em andamento terminaram. Parado (ou ainda não iniciado e
+ * com o buffer cheio), {@link #publish} lança IllegalStateException em vez
+ * de esperar por consumidores que não existem.
+ */
+@Slf4j
+public class InProcessEventBus implements VagaEventPublisher, SmartLifecycle {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferSize;
+    private final long drainTimeoutMillis;
+    private final int mask;
+    private final int indexShift;
+    private final VagaEventDto[] entries;
+    private final int[] available;
+
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence gatingCache = new Sequence(-1);
+    private final List<Consumer> consumers = new ArrayList<>();
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    public InProcessEventBus(int bufferSize, long drainTimeoutMillis,
+                             List<VagaEventHandler> handlers, MeterRegistry meterRegistry) {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Tamanho do ring buffer deve ser potência de 2: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.entries = new VagaEventDto[bufferSize];
+        this.available = new int[bufferSize];
+        Arrays.fill(available, -1);
+
+        for (VagaEventHandler handler : handlers) {
+            consumers.add(new Consumer(handler, meterRegistry));
+        }
+        if (meterRegistry != null) {
+            Gauge.builder("skillbridge.events.inprocess.backlog", this, InProcessEventBus::backlog)
+                    .description("Eventos publicados ainda não processados pelo consumidor mais lento")
+                    .register(meterRegistry);
+        }
+    }
+
+    // =========================================================================
+    // 1. Ciclo de vida
+    // =========================================================================
+
+    @Override
+    public synchronized void start() {
+        if (running || stopped) {
+            return;
+        }
+        running = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+        log.info("[Eventos] Barramento em processo ativo: buffer={}, consumidores={}", bufferSize, consumers.size());
+    }
+
+    @Override
+    public void stop() {
+        stop(drainTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Para os consumidores depois de drenar o que já foi publicado
+     * (limitado a {@code timeout}).
+     */
+    public synchronized void stop(long timeout, TimeUnit unit) {
+        stopped = true;
+        running = false;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    consumer.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    // =========================================================================
+    // 2. Publicação
+    // =========================================================================
+
+    @Override
+    public void publish(VagaEventDto event) {
+        if (stopped) {
+            throw new IllegalStateException("Barramento de eventos parado; evento id=" + event.getId() + " recusado");
+        }
+        long sequence = claim(event);
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        AVAILABLE.setRelease(available, index, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * Reserva a próxima sequência quando ela cabe no buffer. Sem consumidores
+     * rodando (parado, ou ainda não iniciado com o buffer cheio) lança
+     * IllegalStateException sem ter reservado nada.
+     */
+    private long claim(VagaEventDto event) {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - bufferSize;
+            long cachedGating = gatingCache.get();
+            if (wrapPoint > cachedGating || cachedGating > current) {
+                long min = minimumConsumerSequence(current);
+                if (wrapPoint > min) {
+                    if (!running) {
+                        // ninguém vai liberar espaço: esperar travaria quem publica
+                        throw new IllegalStateException((stopped
+                                ? "Barramento de eventos parado"
+                                : "Barramento de eventos ainda não iniciado e com buffer cheio")
+                                + "; evento id=" + event.getId() + " recusado");
+                    }
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+                gatingCache.setRelease(min);
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Quantidade de eventos publicados ainda não vistos por todos os consumidores.
+     */
+    public long backlog() {
+        long published = cursor.get();
+        return Math.max(0, published - minimumConsumerSequence(published));
+    }
+
+    private long minimumConsumerSequence(long fallback) {
+        long min = fallback;
+        for (Consumer consumer : consumers) {
+            min = Math.min(min, consumer.sequence.get());
+        }
+        return min;
+    }
+
+    private boolean isPublished(long sequence) {
+        return (int) AVAILABLE.getAcquire(available, (int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    // =========================================================================
+    // 3. Consumo
+    // =========================================================================
+
+    private final class Consumer implements Runnable {
+
+        private final VagaEventHandler handler;
+        private final Sequence sequence = new Sequence(-1);
+        private final Thread thread;
+        private final Counter failures;
+
+        Consumer(VagaEventHandler handler, MeterRegistry meterRegistry) {
+            this.handler = handler;
+            this.thread = new Thread(this, "vaga-events-" + handler.getClass().getSimpleName());
+            this.thread.setDaemon(true);
+            this.failures = meterRegistry == null ? null : Counter.builder("skillbridge.events.inprocess.failures")
+                    .description("Eventos em que o handler lançou exceção")
+                    .tag("handler", handler.getClass().getSimpleName())
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                long next = sequence.get() + 1;
+                long last = highestPublished(next, cursor.get());
+                if (last < next) {
+                    if (!running && cursor.get() < next) {
+                        return; // drenado
+                    }
+                    idle = idle(idle);
+                    continue;
+                }
+                idle = 0;
+                for (long s = next; s <= last; s++) {
+                    dispatch(entries[(int) s & mask], s == last);
+                }
+                sequence.setRelease(last);
+            }
+        }
+
+        private long highestPublished(long from, long claimed) {
+            long last = from - 1;
+            for (long s = from; s <= claimed && isPublished(s); s++) {
+                last = s;
+            }
+            return last;
+        }
+
+        private void dispatch(VagaEventDto event, boolean endOfBatch) {
+            try {
+                handler.onEvent(event, endOfBatch);
+            } catch (RuntimeException e) {
+                if (failures != null) {
+                    failures.increment();
+                }
+                log.warn("[Eventos] Handler {} falhou no evento id={} action={}",
+                        handler.getClass().getSimpleName(), event.getId(), event.getAction(), e);
+            }
+        }
+
+        private int idle(int tries) {
+            if (tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(10, tries - SPIN_TRIES - YIELD_TRIES)));
+            }
+            return tries + 1;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.fiap.SkillBridge.services.messaging;
 
 import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventPublisher;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,7 +9,7 @@ import org.springframework.stereotype.Service;
 
 @Service
 @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
-public class RabbitProducerService {
+public class RabbitProducerService implements VagaEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
     private final String exchange;
@@ -25,4 +26,9 @@ public class RabbitProducerService {
     public void sendVagaEvent(VagaEventDto event) {
         rabbitTemplate.convertAndSend(exchange, routingKey, event);
     }
+
+    @Override
+    public void publish(VagaEventDto event) {
+        sendVagaEvent(event);
+    }
 }
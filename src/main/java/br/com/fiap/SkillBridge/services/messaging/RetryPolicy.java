@@ -0,0 +1,50 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Política de retentativa do consumo de eventos de vaga.
+ *
+ * Cada tentativa que falha espera numa fila de retry com TTL próprio
+ * (backoff exponencial: initial, initial*multiplier, ...) e volta para a
+ * fila principal via dead-letter da própria fila de retry. Esgotadas as
+ * tentativas, a mensagem vai para a DLQ.
+ *
+ * @param queue       fila principal consumida
+ * @param delays      espera antes de cada nova tentativa (uma fila por valor)
+ * @param dlxExchange exchange de dead-letter
+ * @param dlq         fila de dead-letter (estacionamento)
+ */
+public record RetryPolicy(String queue, List<Duration> delays, String dlxExchange, String dlq) {
+
+    public static RetryPolicy exponential(String queue, Duration initial, double multiplier, int maxAttempts,
+                                          String dlxExchange, String dlq) {
+        List<Duration> delays = new ArrayList<>();
+        double millis = initial.toMillis();
+        // a 1ª tentativa é a entrega normal; as demais passam por retry
+        for (int i = 1; i < maxAttempts; i++) {
+            delays.add(Duration.ofMillis(Math.round(millis)));
+            millis *= multiplier;
+        }
+        return new RetryPolicy(queue, List.copyOf(delays), dlxExchange, dlq);
+    }
+
+    public int maxAttempts() {
+        return delays.size() + 1;
+    }
+
+    /**
+     * Fila de espera usada depois da tentativa {@code attempt} (1-based).
+     */
+    public String retryQueue(int attempt) {
+        return retryQueueName(delays.get(attempt - 1));
+    }
+
+    public String retryQueueName(Duration delay) {
+        // o TTL faz parte do nome: mudar o backoff cria filas novas em vez
+        // de conflitar com os argumentos das filas já declaradas
+        return queue + ".retry." + delay.toMillis() + "ms";
+    }
+}
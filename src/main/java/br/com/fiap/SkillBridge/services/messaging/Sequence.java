@@ -0,0 +1,52 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Contador de sequência do ring buffer, isolado na própria linha de cache
+ * (padding antes e depois) para que produtores e consumidores não disputem
+ * a mesma linha ao atualizar sequências diferentes.
+ */
+final class Sequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initial) {
+        VALUE.setRelease(this, initial);
+    }
+
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    void setRelease(long next) {
+        VALUE.setRelease(this, next);
+    }
+
+    boolean compareAndSet(long expected, long next) {
+        return VALUE.compareAndSet(this, expected, next);
+    }
+}
+
+@SuppressWarnings("unused")
+class SequenceLhsPadding {
+    protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+class SequenceValue extends SequenceLhsPadding {
+    protected volatile long value;
+}
+
+@SuppressWarnings("unused")
+class SequenceRhsPadding extends SequenceValue {
+    protected long p9, p10, p11, p12, p13, p14, p15;
+}
@@ -0,0 +1,147 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Formato binário compacto do {@link VagaEventDto}.
+ *
+ * Layout (schema v1), tipicamente 10–14 bytes contra ~70 do JSON:
+ *
+ *   byte    schema   versão do layout (1)
+ *   byte    flags    bit 0 = id presente, bit 1 = timestamp presente
+ *   byte    action   1 = CREATED, 2 = UPDATED, 3 = DELETED
+ *   varint  id       LEB128 sem sinal (se presente)
+ *   varint  micros   epoch em microssegundos, zigzag + LEB128 (se presente)
+ *
+ * Evolução:
+ *  - Campos novos entram no FIM de um novo schema; o decoder recusa
+ *    versões que não conhece (o produtor deve continuar em JSON até
+ *    todos os consumidores entenderem a nova versão).
+ *  - Ações fora da tabela não têm byte: {@link #canEncode} devolve false
+ *    e o conversor usa JSON para esse evento.
+ */
+public final class VagaEventBinaryCodec {
+
+    public static final byte SCHEMA_V1 = 1;
+
+    private static final String[] ACTIONS = {null, "CREATED", "UPDATED", "DELETED"};
+
+    private static final int FLAG_ID = 1;
+    private static final int FLAG_TIMESTAMP = 1 << 1;
+
+    /** schema + flags + action + 2 varints de até 10 bytes. */
+    private static final int MAX_SIZE = 3 + 10 + 10;
+
+    private VagaEventBinaryCodec() {
+    }
+
+    public static boolean canEncode(VagaEventDto event) {
+        return actionCode(event.getAction()) > 0 && (event.getId() == null || event.getId() >= 0);
+    }
+
+    public static byte[] encode(VagaEventDto event) {
+        int action = actionCode(event.getAction());
+        if (action <= 0) {
+            throw new IllegalArgumentException("Ação sem representação binária: " + event.getAction());
+        }
+        byte[] out = new byte[MAX_SIZE];
+        int pos = 0;
+        out[pos++] = SCHEMA_V1;
+        out[pos++] = (byte) ((event.getId() != null ? FLAG_ID : 0) | (event.getTimestamp() != null ? FLAG_TIMESTAMP : 0));
+        out[pos++] = (byte) action;
+        if (event.getId() != null) {
+            if (event.getId() < 0) {
+                throw new IllegalArgumentException("Id negativo não suportado: " + event.getId());
+            }
+            pos = writeVarLong(out, pos, event.getId());
+        }
+        if (event.getTimestamp() != null) {
+            pos = writeVarLong(out, pos, zigzag(toEpochMicros(event.getTimestamp())));
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    public static VagaEventDto decode(byte[] body) {
+        if (body.length < 3) {
+            throw new IllegalArgumentException("Evento binário truncado (" + body.length + " bytes)");
+        }
+        if (body[0] != SCHEMA_V1) {
+            throw new IllegalArgumentException("Schema de evento desconhecido: " + body[0]);
+        }
+        int flags = body[1];
+        int action = body[2];
+        if (action <= 0 || action >= ACTIONS.length) {
+            throw new IllegalArgumentException("Código de ação desconhecido: " + action);
+        }
+
+        VagaEventDto event = new VagaEventDto();
+        event.setAction(ACTIONS[action]);
+        int[] pos = {3};
+        if ((flags & FLAG_ID) != 0) {
+            event.setId(readVarLong(body, pos));
+        }
+        if ((flags & FLAG_TIMESTAMP) != 0) {
+            event.setTimestamp(fromEpochMicros(unzigzag(readVarLong(body, pos))));
+        }
+        return event;
+    }
+
+    // =========================================================================
+    // Primitivas
+    // =========================================================================
+
+    private static int actionCode(String action) {
+        if (action == null) {
+            return -1;
+        }
+        for (int i = 1; i < ACTIONS.length; i++) {
+            if (ACTIONS[i].equals(action)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int writeVarLong(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarLong(byte[] in, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos[0] >= in.length) {
+                throw new IllegalArgumentException("Varint truncado no evento binário");
+            }
+            byte b = in[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint maior que 64 bits no evento binário");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long toEpochMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromEpochMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+}
@@ -1,21 +1,29 @@
 package br.com.fiap.SkillBridge.services.messaging;
 
 import br.com.fiap.SkillBridge.events.VagaEventDto;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import br.com.fiap.SkillBridge.events.VagaEventHandler;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @ConditionalOnProperty(name = "app.rabbit.enabled", havingValue = "true", matchIfMissing = true)
 public class VagaEventListener {
-    private static final Logger log = LoggerFactory.getLogger(VagaEventListener.class);
 
-    @RabbitListener(queues = "${app.messaging.queue}")
+    private final ObjectProvider<VagaEventHandler> handlers;
+
+    public VagaEventListener(ObjectProvider<VagaEventHandler> handlers) {
+        this.handlers = handlers;
+    }
+
+    /**
+     * Falhas vão para o FailedMessageHandler: retry com backoff em filas de
+     * espera e, esgotadas as tentativas, DLQ (sem redelivery imediato).
+     * O processamento em si fica nos VagaEventHandler (mesmos do modo em processo).
+     */
+    @RabbitListener(queues = "${app.messaging.queue}", errorHandler = "failedMessageHandler")
     public void handleVagaEvent(VagaEventDto event) {
-        // lógica assíncrona: atualizar índice, notificar outro serviço, etc.
-        log.info("Evento Vaga recebido: id={}, action={}, ts={}", event.getId(), event.getAction(), event.getTimestamp());
-        // processar conforme necessidade
+        handlers.orderedStream().forEach(handler -> handler.onEvent(event, true));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Conversor de mensagens do RabbitMQ com negociação pelo content-type.
+ *
+ * Recebimento (sempre aceita os dois formatos):
+ *  - content-type {@link #BINARY_CONTENT_TYPE} → {@link VagaEventBinaryCodec};
+ *  - qualquer outro → conversor JSON (Jackson), como antes.
+ *
+ * Envio:
+ *  - VagaEventDto sai em binário só se binaryEnabled (app.messaging.codec=binary);
+ *  - o resto (outros tipos, ações sem código binário) continua em JSON.
+ *
+ * Migração sem quebrar consumidores antigos: publicar primeiro a versão
+ * que lê os dois formatos em todos os consumidores e só então trocar o
+ * codec dos produtores.
+ */
+public class VagaEventMessageConverter implements MessageConverter {
+
+    public static final String BINARY_CONTENT_TYPE = "application/vnd.skillbridge.vaga-event.v1+binary";
+
+    private final MessageConverter json;
+    private final boolean binaryEnabled;
+
+    public VagaEventMessageConverter(MessageConverter json, boolean binaryEnabled) {
+        this.json = json;
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (binaryEnabled && object instanceof VagaEventDto event && VagaEventBinaryCodec.canEncode(event)) {
+            byte[] body = VagaEventBinaryCodec.encode(event);
+            messageProperties.setContentType(BINARY_CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        }
+        return json.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        if (BINARY_CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            try {
+                return VagaEventBinaryCodec.decode(message.getBody());
+            } catch (IllegalArgumentException e) {
+                throw new MessageConversionException("Evento de vaga binário inválido", e);
+            }
+        }
+        return json.fromMessage(message);
+    }
+}
@@ -0,0 +1,299 @@
+package br.com.fiap.SkillBridge.services.pdf;
+
+import java.util.Arrays;
+
+/**
+ * Representação compacta e imutável do texto extraído de um PDF.
+ *
+ * Ideia geral:
+ *  - O texto é normalizado UMA única vez, na carga:
+ *      • "■" e qualquer sequência de espaços/quebras de linha viram um único espaço;
+ *      • cada caractere é armazenado já em minúsculas (case-folding feito na carga).
+ *  - O armazenamento segue a mesma ideia das "compact strings" da JVM:
+ *      • LATIN1 → 1 byte por caractere (caso de quase todo texto em português);
+ *      • UTF16  → 2 bytes por caractere, só quando aparece algo fora do Latin-1.
+ *  - Um bitset (1 bit por caractere) guarda quais posições eram maiúsculas,
+ *    para que trechos exibidos ao usuário/IA recuperem a caixa original.
+ *
+ * Consequências práticas:
+ *  - Buscas (indexOf / contagem de termos) comparam direto contra o texto
+ *    "dobrado", sem criar cópias em minúsculas a cada requisição.
+ *  - {@link #subSequence(int, int)} devolve uma VIEW que compartilha os arrays
+ *    (zero-copy). Só {@link #toString()} materializa uma String — e deve ser
+ *    usado apenas em trechos pequenos (snippets).
+ *
+ * Observação:
+ *  - Caracteres cuja conversão minúscula → maiúscula não é reversível
+ *    (ex.: sinal Kelvin) são guardados como vieram, sem dobra de caixa.
+ */
+public final class CompactText implements CharSequence {
+
+    private static final byte LATIN1 = 0;
+    private static final byte UTF16 = 1;
+
+    public static final CompactText EMPTY = new Builder().build();
+
+    private final byte[] value;
+    private final byte coder;
+    private final long[] upper;
+    private final int offset;
+    private final int length;
+
+    private CompactText(byte[] value, byte coder, long[] upper, int offset, int length) {
+        this.value = value;
+        this.coder = coder;
+        this.upper = upper;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Atalho para normalizar um texto já disponível em memória.
+     */
+    public static CompactText of(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return EMPTY;
+        }
+        return new Builder(text.length()).append(text).build();
+    }
+
+    // =========================================================================
+    // 1. CharSequence (com a caixa original restaurada)
+    // =========================================================================
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        checkIndex(index);
+        int pos = offset + index;
+        char c = rawCharAt(pos);
+        return isUpper(pos) ? Character.toUpperCase(c) : c;
+    }
+
+    /**
+     * View zero-copy sobre o intervalo [start, end).
+     */
+    @Override
+    public CompactText subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + length);
+        }
+        if (start == 0 && end == length) {
+            return this;
+        }
+        return new CompactText(value, coder, upper, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    // =========================================================================
+    // 2. Busca sobre o texto já em minúsculas
+    // =========================================================================
+
+    /**
+     * Caractere na posição informada, em minúsculas (sem restaurar a caixa).
+     */
+    public char foldedCharAt(int index) {
+        checkIndex(index);
+        return rawCharAt(offset + index);
+    }
+
+    /**
+     * Procura um termo JÁ em minúsculas a partir de {@code fromIndex}.
+     *
+     * @return posição da primeira ocorrência ou -1
+     */
+    public int indexOfFolded(CharSequence foldedTerm, int fromIndex) {
+        int n = foldedTerm.length();
+        if (n == 0) {
+            return Math.min(Math.max(fromIndex, 0), length);
+        }
+        char first = foldedTerm.charAt(0);
+        int last = length - n;
+        for (int i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (rawCharAt(offset + i) != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < n && rawCharAt(offset + i + j) == foldedTerm.charAt(j)) {
+                j++;
+            }
+            if (j == n) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Conta ocorrências não sobrepostas de um termo JÁ em minúsculas.
+     */
+    public int countFolded(CharSequence foldedTerm) {
+        int n = foldedTerm.length();
+        if (n == 0) {
+            return 0;
+        }
+        int count = 0;
+        int from = 0;
+        int idx;
+        while ((idx = indexOfFolded(foldedTerm, from)) >= 0) {
+            count++;
+            from = idx + n;
+        }
+        return count;
+    }
+
+    /**
+     * Bytes efetivamente retidos pelo documento inteiro (texto + bitset).
+     * Views compartilham esse mesmo espaço.
+     */
+    public long retainedBytes() {
+        return value.length + (long) upper.length * Long.BYTES;
+    }
+
+    // =========================================================================
+    // 3. Acesso interno ao armazenamento
+    // =========================================================================
+
+    private char rawCharAt(int pos) {
+        if (coder == LATIN1) {
+            return (char) (value[pos] & 0xFF);
+        }
+        int i = pos << 1;
+        return (char) (((value[i] & 0xFF) << 8) | (value[i + 1] & 0xFF));
+    }
+
+    private boolean isUpper(int pos) {
+        return (upper[pos >>> 6] & (1L << pos)) != 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index=" + index + ", length=" + length);
+        }
+    }
+
+    // =========================================================================
+    // 4. Builder incremental (normaliza enquanto recebe o texto)
+    // =========================================================================
+
+    /**
+     * Builder que recebe o texto em partes (ex.: página a página) e já
+     * normaliza/compacta à medida que recebe, sem precisar do texto inteiro
+     * em memória como String.
+     *
+     * Não é thread-safe.
+     */
+    public static final class Builder {
+
+        private byte[] value;
+        private byte coder = LATIN1;
+        private long[] upper;
+        private int length;
+        private boolean pendingSpace;
+
+        public Builder() {
+            this(256);
+        }
+
+        public Builder(int expectedLength) {
+            int capacity = Math.max(16, expectedLength);
+            this.value = new byte[capacity];
+            this.upper = new long[(capacity >>> 6) + 1];
+        }
+
+        public Builder append(CharSequence text) {
+            if (text == null) {
+                return this;
+            }
+            for (int i = 0, n = text.length(); i < n; i++) {
+                append(text.charAt(i));
+            }
+            return this;
+        }
+
+        public Builder append(char c) {
+            if (c == '■' || Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                // espaço só é emitido antes do próximo caractere "real",
+                // o que colapsa sequências e já remove espaços nas pontas
+                pendingSpace = length > 0;
+                return this;
+            }
+            if (pendingSpace) {
+                put(' ', false);
+                pendingSpace = false;
+            }
+            char lower = Character.toLowerCase(c);
+            if (lower != c && Character.toUpperCase(lower) == c) {
+                put(lower, true);
+            } else {
+                put(c, false);
+            }
+            return this;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public CompactText build() {
+            int bytes = coder == LATIN1 ? length : length << 1;
+            byte[] trimmedValue = Arrays.copyOf(value, bytes);
+            long[] trimmedUpper = Arrays.copyOf(upper, (length >>> 6) + 1);
+            return new CompactText(trimmedValue, coder, trimmedUpper, 0, length);
+        }
+
+        private void put(char c, boolean wasUpper) {
+            if (coder == LATIN1 && c > 0xFF) {
+                inflate();
+            }
+            ensureCapacity(length + 1);
+            if (coder == LATIN1) {
+                value[length] = (byte) c;
+            } else {
+                int i = length << 1;
+                value[i] = (byte) (c >>> 8);
+                value[i + 1] = (byte) c;
+            }
+            if (wasUpper) {
+                upper[length >>> 6] |= 1L << length;
+            }
+            length++;
+        }
+
+        private void ensureCapacity(int chars) {
+            int needed = coder == LATIN1 ? chars : chars << 1;
+            if (needed > value.length) {
+                value = Arrays.copyOf(value, Math.max(needed, value.length << 1));
+            }
+            int words = (chars >>> 6) + 1;
+            if (words > upper.length) {
+                upper = Arrays.copyOf(upper, Math.max(words, upper.length << 1));
+            }
+        }
+
+        /**
+         * Converte o buffer de LATIN1 para UTF16 na primeira vez em que
+         * aparece um caractere acima de 0xFF.
+         */
+        private void inflate() {
+            byte[] inflated = new byte[Math.max(value.length, 16) << 1];
+            for (int i = 0; i < length; i++) {
+                inflated[(i << 1) + 1] = value[i];
+            }
+            value = inflated;
+            coder = UTF16;
+        }
+    }
+}
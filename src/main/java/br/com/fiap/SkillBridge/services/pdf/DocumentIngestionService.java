@@ -0,0 +1,275 @@
+package br.com.fiap.SkillBridge.services.pdf;
+
+import br.com.fiap.SkillBridge.services.PdfLoaderService;
+import br.com.fiap.SkillBridge.services.PdfLoaderService.DocumentDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ingestão "a quente" de PDFs a partir de um diretório do sistema de arquivos.
+ *
+ * Ativado apenas quando a propriedade {@code app.docs.watch-dir} está definida.
+ *
+ * Fluxo:
+ *  1) Na subida, faz uma varredura inicial do diretório (*.pdf).
+ *  2) Uma thread dedicada escuta o diretório via NIO {@link WatchService}
+ *     (create / modify / delete).
+ *  3) Eventos do mesmo arquivo são agrupados (debounce), porque cópias
+ *     grandes geram vários MODIFY seguidos.
+ *  4) Cada arquivo alterado é processado em um pool de workers LIMITADO
+ *     (fila com capacidade fixa; se encher, a thread do watcher espera).
+ *  5) O resultado atualiza somente a entrada daquele documento no
+ *     {@link PdfCorpusIndex}, que troca o snapshot de forma atômica —
+ *     o chat continua lendo o snapshot anterior até a troca.
+ *
+ * Ordem entre reprocessamentos:
+ *  - Cada arquivo tem um contador de geração; se um resultado antigo terminar
+ *    depois de um mais novo, ele é descartado.
+ */
+@Service
+@ConditionalOnProperty(name = "app.docs.watch-dir")
+public class DocumentIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentIngestionService.class);
+
+    private final PdfLoaderService pdfLoaderService;
+    private final PdfCorpusIndex corpusIndex;
+
+    private final Path watchDir;
+    private final long debounceMillis;
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * Geração atual de cada arquivo (incrementada a cada evento processado).
+     */
+    private final Map<Path, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * "Impressão digital" (tamanho + data de modificação) do último
+     * processamento, para não reprocessar arquivos que não mudaram.
+     */
+    private final Map<Path, String> fingerprints = new ConcurrentHashMap<>();
+
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public DocumentIngestionService(PdfLoaderService pdfLoaderService,
+                                    PdfCorpusIndex corpusIndex,
+                                    @Value("${app.docs.watch-dir}") String watchDir,
+                                    @Value("${app.docs.ingest-threads:2}") int ingestThreads,
+                                    @Value("${app.docs.ingest-queue-capacity:256}") int queueCapacity,
+                                    @Value("${app.docs.debounce-ms:500}") long debounceMillis) {
+        this.pdfLoaderService = pdfLoaderService;
+        this.corpusIndex = corpusIndex;
+        this.watchDir = Paths.get(watchDir).toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                ingestThreads, ingestThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "pdf-ingest-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // Fila cheia → quem submete (watcher) processa; funciona como backpressure
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // =========================================================================
+    // 1. Ciclo de vida
+    // =========================================================================
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(watchDir);
+
+        watchService = watchDir.getFileSystem().newWatchService();
+        watchDir.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        // A carga inicial vai para os workers; não segura a subida da aplicação
+        scanDirectory();
+
+        watcherThread = new Thread(this::watchLoop, "pdf-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+
+        log.info("Observando PDFs em '{}' ({} workers)", watchDir, workers.getCorePoolSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            log.warn("Erro ao fechar WatchService", e);
+        }
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        workers.shutdownNow();
+    }
+
+    // =========================================================================
+    // 2. Watcher (thread única) com debounce por arquivo
+    // =========================================================================
+
+    private void watchLoop() {
+        // arquivo → instante do último evento ainda não processado
+        Map<Path, Long> pending = new LinkedHashMap<>();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            // Eventos perdidos: reprocessa o diretório inteiro
+                            log.warn("Overflow no WatchService; reescaneando '{}'", watchDir);
+                            scanDirectory();
+                            continue;
+                        }
+                        Path file = watchDir.resolve((Path) event.context());
+                        if (isPdf(file)) {
+                            pending.put(file, System.currentTimeMillis());
+                        }
+                    }
+                    if (!key.reset()) {
+                        log.error("Diretório observado não está mais acessível: {}", watchDir);
+                        return;
+                    }
+                }
+
+                flushQuietFiles(pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // encerramento normal
+        }
+    }
+
+    /**
+     * Envia para os workers os arquivos que não recebem evento há pelo menos
+     * {@code debounceMillis}.
+     */
+    private void flushQuietFiles(Map<Path, Long> pending) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Path, Long> e = it.next();
+            if (now - e.getValue() >= debounceMillis) {
+                it.remove();
+                submit(e.getKey());
+            }
+        }
+    }
+
+    private void scanDirectory() {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(watchDir, "*.{pdf,PDF}")) {
+            for (Path file : stream) {
+                submit(file);
+            }
+        } catch (IOException e) {
+            log.error("Erro ao listar PDFs em '{}'", watchDir, e);
+        }
+    }
+
+    // =========================================================================
+    // 3. Processamento nos workers
+    // =========================================================================
+
+    private void submit(Path file) {
+        long generation = generationSequence.incrementAndGet();
+        generations.put(file, generation);
+        workers.execute(() -> ingest(file, generation));
+    }
+
+    private void ingest(Path file, long generation) {
+        String key = file.toString();
+
+        if (!Files.exists(file)) {
+            applyIfCurrent(file, generation, () -> {
+                fingerprints.remove(file);
+                corpusIndex.remove(key);
+            });
+            return;
+        }
+
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            String fingerprint = attrs.size() + ":" + attrs.lastModifiedTime().toMillis();
+            if (fingerprint.equals(fingerprints.get(file))) {
+                log.debug("PDF sem alterações, ignorando: {}", file);
+                return;
+            }
+
+            long start = System.nanoTime();
+            DocumentDto document = pdfLoaderService.loadFromFile(file);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            applyIfCurrent(file, generation, () -> {
+                fingerprints.put(file, fingerprint);
+                corpusIndex.upsert(key, document);
+            });
+            log.debug("PDF '{}' processado em {} ms", file.getFileName(), elapsedMs);
+        } catch (Exception e) {
+            // Arquivo corrompido ou ainda sendo copiado: mantém a versão anterior no índice
+            log.warn("Erro ao processar PDF '{}'", file, e);
+        }
+    }
+
+    /**
+     * Aplica a alteração somente se nenhum evento mais novo do mesmo arquivo
+     * chegou enquanto este worker processava.
+     */
+    private void applyIfCurrent(Path file, long generation, Runnable change) {
+        generations.computeIfPresent(file, (f, current) -> {
+            if (current == generation) {
+                change.run();
+            }
+            return current;
+        });
+    }
+
+    private static boolean isPdf(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".pdf");
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.fiap.SkillBridge.services.pdf;
+
+import br.com.fiap.SkillBridge.services.PdfLoaderService;
+import br.com.fiap.SkillBridge.services.PdfLoaderService.DocumentDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Índice em memória dos documentos (PDFs) usados pela IA.
+ *
+ * Funcionamento:
+ *  - Guarda um snapshot IMUTÁVEL (chave → documento) dentro de um
+ *    AtomicReference. Leitores (chat) apenas leem a referência atual,
+ *    sem lock e sem pausas.
+ *  - Escritas (ingestão/reload) montam um novo snapshot copiando só as
+ *    referências e trocando apenas as entradas afetadas; a troca é atômica.
+ *  - Os PDFs do classpath (doc/*.pdf) são carregados na primeira leitura,
+ *    como já acontecia antes no AIService.
+ *
+ * Chaves:
+ *  - "classpath:doc/arquivo.pdf" para os PDFs embarcados;
+ *  - caminho absoluto do arquivo para PDFs do diretório observado.
+ */
+@Component
+public class PdfCorpusIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfCorpusIndex.class);
+
+    public static final String CLASSPATH_KEY_PREFIX = "classpath:doc/";
+
+    private final PdfLoaderService pdfLoaderService;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    private volatile boolean classpathLoaded;
+
+    public PdfCorpusIndex(PdfLoaderService pdfLoaderService) {
+        this.pdfLoaderService = pdfLoaderService;
+    }
+
+    // =========================================================================
+    // 1. Leitura (caminho quente do chat)
+    // =========================================================================
+
+    /**
+     * Lista imutável com os documentos atualmente indexados.
+     */
+    public List<DocumentDto> documents() {
+        ensureClasspathLoaded();
+        return current.get().documents();
+    }
+
+    public int size() {
+        return current.get().byKey().size();
+    }
+
+    // =========================================================================
+    // 2. Escrita incremental (copy-on-write + troca atômica)
+    // =========================================================================
+
+    public void upsert(String key, DocumentDto document) {
+        swap(map -> {
+            map.put(key, document);
+            return map;
+        });
+        log.info("Documento indexado: {} (total={})", key, size());
+    }
+
+    public void remove(String key) {
+        swap(map -> {
+            map.remove(key);
+            return map;
+        });
+        log.info("Documento removido do índice: {} (total={})", key, size());
+    }
+
+    /**
+     * Carrega os PDFs do classpath uma única vez.
+     * Chamado de forma preguiçosa pela primeira leitura.
+     */
+    public void ensureClasspathLoaded() {
+        if (classpathLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (classpathLoaded) {
+                return;
+            }
+            List<DocumentDto> docs = pdfLoaderService.loadAllFromClasspathDoc();
+            swap(map -> {
+                for (DocumentDto d : docs) {
+                    map.putIfAbsent(CLASSPATH_KEY_PREFIX + d.getName(), d);
+                }
+                return map;
+            });
+            classpathLoaded = true;
+        }
+    }
+
+    private void swap(UnaryOperator<TreeMap<String, DocumentDto>> change) {
+        current.updateAndGet(snapshot -> Snapshot.of(change.apply(new TreeMap<>(snapshot.byKey()))));
+    }
+
+    // =========================================================================
+    // 3. Snapshot imutável
+    // =========================================================================
+
+    private record Snapshot(Map<String, DocumentDto> byKey, List<DocumentDto> documents) {
+
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyList());
+
+        static Snapshot of(TreeMap<String, DocumentDto> map) {
+            return new Snapshot(Collections.unmodifiableMap(map), List.copyOf(map.values()));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package br.com.fiap.SkillBridge.services.pdf;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Motor de extração de texto de PDFs por faixas de páginas, em paralelo.
+ *
+ * Como funciona:
+ *  - O documento é dividido em faixas de {@code app.docs.pages-per-task} páginas.
+ *  - Cada faixa vira uma tarefa em um {@link ForkJoinPool} dedicado e usa
+ *    {@code PDFTextStripper.setStartPage/setEndPage} página a página.
+ *  - PDDocument não é thread-safe: cada worker pega um documento livre do
+ *    conjunto aberto para esta extração (ou abre um, se não houver) e o
+ *    devolve ao terminar a faixa. O arquivo é carregado no máximo uma vez
+ *    por worker ativo, não uma vez por faixa; todos são fechados no fim.
+ *  - As faixas são consumidas NA ORDEM e o texto de cada página é entregue ao
+ *    {@link PageSink} assim que fica pronto. Só uma "janela" de faixas fica em
+ *    voo ao mesmo tempo, então o texto do documento inteiro nunca fica
+ *    residente como String.
+ *  - Cada PDDocument é aberto com {@link MemoryUsageSetting} misto: até
+ *    {@code app.docs.pdf-max-main-memory-mb} em heap e o restante em arquivo
+ *    temporário (scratch file) do PDFBox, para suportar arquivos muito grandes.
+ */
+@Component
+public class PdfPageExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfPageExtractor.class);
+
+    /**
+     * Recebe o texto de cada página, em ordem (páginas começam em 1).
+     */
+    @FunctionalInterface
+    public interface PageSink {
+        void accept(int pageNumber, String text);
+    }
+
+    private final ForkJoinPool pool;
+    private final int pagesPerTask;
+    private final long maxMainMemoryBytes;
+    private final File tempDir;
+
+    public PdfPageExtractor(@Value("${app.docs.extract-parallelism:0}") int parallelism,
+                            @Value("${app.docs.pages-per-task:8}") int pagesPerTask,
+                            @Value("${app.docs.pdf-max-main-memory-mb:32}") long maxMainMemoryMb,
+                            @Value("${app.docs.pdf-temp-dir:}") String tempDir) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+        this.maxMainMemoryBytes = maxMainMemoryMb * 1024L * 1024L;
+        this.tempDir = tempDir.isBlank() ? null : new File(tempDir);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // =========================================================================
+    // 1. API pública
+    // =========================================================================
+
+    /**
+     * Executa uma tarefa no mesmo pool da extração (ex.: processar vários
+     * arquivos ao mesmo tempo). As faixas de página criadas dentro dela
+     * são enfileiradas localmente no worker e roubadas pelos demais.
+     */
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    /**
+     * Extrai o texto do PDF em paralelo e entrega cada página ao sink, em ordem.
+     *
+     * @return número de páginas processadas
+     */
+    public int extract(Path file, PageSink sink) throws IOException {
+        Documents documents = new Documents(file);
+        try {
+            PDDocument first = documents.borrow();
+            int pageCount = first.getNumberOfPages();
+            documents.release(first);
+            if (pageCount == 0) {
+                return 0;
+            }
+            stream(documents, pageCount, sink);
+            log.debug("PDF '{}' extraído: {} páginas em faixas de {} ({} documento(s) aberto(s))",
+                    file.getFileName(), pageCount, pagesPerTask, documents.opened.size());
+            return pageCount;
+        } finally {
+            documents.closeAll();
+        }
+    }
+
+    private void stream(Documents documents, int pageCount, PageSink sink) throws IOException {
+        int window = Math.max(2, pool.getParallelism() * 2);
+        Deque<ForkJoinTask<List<String>>> inFlight = new ArrayDeque<>(window);
+        int nextStart = 1;
+        int pageNumber = 1;
+
+        try {
+            while (nextStart <= pageCount && inFlight.size() < window) {
+                inFlight.add(pool.submit(rangeTask(documents, nextStart, Math.min(pageCount, nextStart + pagesPerTask - 1))));
+                nextStart += pagesPerTask;
+            }
+            while (!inFlight.isEmpty()) {
+                List<String> pages = inFlight.poll().join();
+                for (String text : pages) {
+                    sink.accept(pageNumber++, text);
+                }
+                if (nextStart <= pageCount) {
+                    inFlight.add(pool.submit(rangeTask(documents, nextStart, Math.min(pageCount, nextStart + pagesPerTask - 1))));
+                    nextStart += pagesPerTask;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            cancel(inFlight);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            cancel(inFlight);
+            throw e;
+        }
+    }
+
+    /**
+     * Cancela as faixas pendentes e espera as que já começaram, para que
+     * nenhuma use um documento depois de fechado.
+     */
+    private static void cancel(Deque<ForkJoinTask<List<String>>> inFlight) {
+        inFlight.forEach(t -> t.cancel(true));
+        inFlight.forEach(ForkJoinTask::quietlyJoin);
+    }
+
+    // =========================================================================
+    // 2. Tarefas por faixa de páginas
+    // =========================================================================
+
+    private Callable<List<String>> rangeTask(Documents documents, int startPage, int endPage) {
+        return () -> {
+            PDDocument doc;
+            try {
+                doc = documents.borrow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try {
+                PDFTextStripper stripper = new PDFTextStripper();
+                List<String> pages = new ArrayList<>(endPage - startPage + 1);
+                for (int page = startPage; page <= endPage; page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    pages.add(stripper.getText(doc));
+                }
+                return pages;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                documents.release(doc);
+            }
+        };
+    }
+
+    /**
+     * Documentos abertos de um arquivo durante uma extração: um por worker
+     * que estiver processando faixas ao mesmo tempo, reaproveitados entre faixas.
+     */
+    private final class Documents {
+
+        private final Path file;
+        private final Deque<PDDocument> idle = new ConcurrentLinkedDeque<>();
+        private final Queue<PDDocument> opened = new ConcurrentLinkedQueue<>();
+
+        Documents(Path file) {
+            this.file = file;
+        }
+
+        PDDocument borrow() throws IOException {
+            PDDocument doc = idle.pollFirst();
+            if (doc == null) {
+                doc = open(file);
+                opened.add(doc);
+            }
+            return doc;
+        }
+
+        void release(PDDocument doc) {
+            idle.offerFirst(doc);
+        }
+
+        void closeAll() {
+            for (PDDocument doc : opened) {
+                try {
+                    doc.close();
+                } catch (IOException e) {
+                    log.warn("Falha ao fechar PDF '{}': {}", file.getFileName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private PDDocument open(Path file) throws IOException {
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+        if (tempDir != null) {
+            memory.setTempDir(tempDir);
+        }
+        return PDDocument.load(file.toFile(), memory);
+    }
+}
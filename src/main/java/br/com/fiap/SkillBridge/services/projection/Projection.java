@@ -0,0 +1,36 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Estrutura derivada das vagas, mantida pelo {@link ProjectionEngine}.
+ *
+ * Contrato:
+ *  - {@link #apply} e {@link #remove} podem ser chamados por várias threads
+ *    ao mesmo tempo durante o rebuild (blocos diferentes de vagas);
+ *  - aplicar a mesma linha de novo deve ser inofensivo (o replay relê a
+ *    linha atual da vaga e pode repetir eventos);
+ *  - o formato do snapshot é da projeção; {@link #snapshotVersion} muda
+ *    quando ele muda, e snapshots antigos são descartados (rebuild).
+ */
+public interface Projection {
+
+    String name();
+
+    int snapshotVersion();
+
+    /**
+     * Descarta todo o estado (início de um rebuild completo).
+     */
+    void reset();
+
+    void apply(VagaRow row);
+
+    void remove(long vagaId);
+
+    void writeSnapshot(DataOutputStream out) throws IOException;
+
+    void readSnapshot(DataInputStream in) throws IOException;
+}
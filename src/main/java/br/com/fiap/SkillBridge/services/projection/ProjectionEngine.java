@@ -0,0 +1,377 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import br.com.fiap.SkillBridge.repositorys.VagaEventoRepository;
+import br.com.fiap.SkillBridge.repositorys.VagaEventoRepository.VagaEvento;
+import br.com.fiap.SkillBridge.services.projection.ProjectionSnapshotStore.Header;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Motor de rebuild e replay das projeções derivadas de vaga.
+ *
+ * Na subida (em background, sem segurar o startup):
+ *  1) carrega o snapshot de cada projeção;
+ *  2) projeções sem snapshot completo (ou com snapshot mais velho que a
+ *     retenção do log) passam por rebuild;
+ *  3) reaplica os eventos de vaga_evento posteriores ao snapshot.
+ *
+ * Rebuild:
+ *  - uma leitura só da tabela, por cursor no servidor, em ordem de id e em
+ *    blocos de app.projection.chunk-size linhas, numa transação
+ *    REPEATABLE READ (o seq do log e as linhas vêm do mesmo instante);
+ *  - blocos aplicados em paralelo por app.projection.parallelism threads,
+ *    com fila limitada: memória proporcional a (threads x bloco), não à
+ *    tabela;
+ *  - a cada app.projection.checkpoint-chunks blocos grava um snapshot
+ *    parcial (último id lido); após uma queda o rebuild continua dali e
+ *    o replay cobre as linhas já lidas que mudaram no meio tempo.
+ *
+ * Replay: a cada app.projection.replay-interval-ms lê os eventos novos,
+ * relê as vagas afetadas e aplica (ou remove). Snapshots completos são
+ * gravados a cada app.projection.snapshot-interval-ms.
+ *
+ * Eventos fora de ordem: o seq é reservado no INSERT do evento, mas ele só
+ * aparece no commit, então uma transação lenta comita com seq menor que
+ * eventos já aplicados. Cada leitura guarda o xmin do snapshot do banco
+ * (transações com txid menor já terminaram) e a seguinte relê também os
+ * eventos com seq já aplicado e txid >= esse xmin. Nada se perde, qualquer
+ * que seja a duração da transação; o custo é reler (e reaplicar, o que é
+ * inofensivo) os eventos das transações que estavam abertas. Uma transação
+ * de escrita aberta por muito tempo alarga essa releitura; o limite é a
+ * retenção do log (app.projection.event-retention).
+ *
+ * A limpeza do log fica no {@link VagaEventoRetention}, que existe mesmo
+ * com as projeções desligadas (os triggers gravam sempre).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.projection.enabled", havingValue = "true")
+public class ProjectionEngine {
+
+    private final List<Projection> projections;
+    private final VagaEventoRepository eventos;
+    private final ProjectionSnapshotStore store;
+    private final TransactionTemplate scanTransaction;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int checkpointChunks;
+    private final int replayBatch;
+    private final Duration eventRetention;
+    private final boolean rebuildOnStart;
+
+    private final Object lock = new Object();
+    private volatile boolean ready;
+    private long appliedSeq;
+    private long appliedXmin;
+    private Instant appliedAt = Instant.EPOCH;
+
+    public ProjectionEngine(List<Projection> projections,
+                            VagaEventoRepository eventos,
+                            ProjectionSnapshotStore store,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.projection.chunk-size:1000}") int chunkSize,
+                            @Value("${app.projection.parallelism:0}") int parallelism,
+                            @Value("${app.projection.checkpoint-chunks:100}") int checkpointChunks,
+                            @Value("${app.projection.replay-batch:1000}") int replayBatch,
+                            @Value("${app.projection.event-retention:7d}") Duration eventRetention,
+                            @Value("${app.projection.rebuild-on-start:false}") boolean rebuildOnStart) {
+        this.projections = projections;
+        this.eventos = eventos;
+        this.store = store;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.checkpointChunks = checkpointChunks;
+        this.replayBatch = replayBatch;
+        this.eventRetention = eventRetention;
+        this.rebuildOnStart = rebuildOnStart;
+
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        scanTransaction.setReadOnly(true);
+        scanTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * true depois da carga inicial (snapshot + rebuild + replay).
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // =========================================================================
+    // 1. Subida
+    // =========================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(() -> {
+            try {
+                initialize();
+            } catch (RuntimeException e) {
+                log.error("[Projeções] Falha na carga inicial; projeções indisponíveis", e);
+            }
+        }, "projection-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void initialize() {
+        synchronized (lock) {
+            Instant oldestUsable = Instant.now().minus(eventRetention);
+            Map<Projection, Header> headers = new HashMap<>();
+            List<Projection> toRebuild = new ArrayList<>();
+            for (Projection projection : projections) {
+                Optional<Header> header = rebuildOnStart ? Optional.empty() : store.read(projection);
+                header.ifPresent(h -> headers.put(projection, h));
+                if (header.isEmpty() || !header.get().complete() || header.get().takenAt().isBefore(oldestUsable)) {
+                    toRebuild.add(projection);
+                }
+            }
+
+            if (!toRebuild.isEmpty()) {
+                Header rebuilt = rebuild(toRebuild, headers);
+                toRebuild.forEach(p -> headers.put(p, rebuilt));
+            }
+
+            // replay a partir do snapshot mais antigo (reaplicar é inofensivo)
+            appliedSeq = headers.values().stream().mapToLong(Header::eventSeq).min().orElse(0L);
+            appliedXmin = headers.values().stream().mapToLong(Header::eventXmin).min().orElse(0L);
+            appliedAt = headers.values().stream().map(Header::takenAt).min(Instant::compareTo).orElse(Instant.EPOCH);
+            catchUpLocked();
+            ready = true;
+            log.info("[Projeções] Prontas: {} (seq {})", names(projections), appliedSeq);
+        }
+    }
+
+    /**
+     * Rebuild completo de todas as projeções (ex.: depois de mudar o formato).
+     */
+    public void rebuildAll() {
+        synchronized (lock) {
+            ready = false;
+            projections.forEach(Projection::reset);
+            Header header = rebuild(projections, Map.of());
+            appliedSeq = header.eventSeq();
+            appliedXmin = header.eventXmin();
+            appliedAt = header.takenAt();
+            catchUpLocked();
+            ready = true;
+        }
+    }
+
+    // =========================================================================
+    // 2. Rebuild
+    // =========================================================================
+
+    private Header rebuild(List<Projection> targets, Map<Projection, Header> partials) {
+        Header resumeFrom = commonPartial(targets, partials, Instant.now().minus(eventRetention));
+        if (resumeFrom == null) {
+            targets.forEach(Projection::reset);
+        }
+        log.info("[Projeções] Rebuild de {} {}", names(targets),
+                resumeFrom != null ? "retomado após o id " + resumeFrom.lastId() : "completo");
+
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                r -> {
+                    Thread t = new Thread(r, "projection-rebuild-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        long start = System.nanoTime();
+        try {
+            Header done = scanTransaction.execute(status -> {
+                long seq = resumeFrom != null ? resumeFrom.eventSeq() : eventos.currentSeq();
+                // mesmo snapshot REPEATABLE READ do seq e das linhas
+                long xmin = resumeFrom != null ? resumeFrom.eventXmin() : eventos.snapshotXmin();
+                Instant takenAt = resumeFrom != null ? resumeFrom.takenAt() : Instant.now();
+                long afterId = resumeFrom != null ? resumeFrom.lastId() : 0L;
+
+                List<Future<?>> inFlight = new ArrayList<>();
+                long[] lastId = {afterId};
+                long[] rows = {0};
+                int[] chunks = {0};
+                eventos.streamVagas(afterId, chunkSize, chunk -> {
+                    inFlight.add(executor.submit(() -> {
+                        for (VagaRow row : chunk) {
+                            for (Projection projection : targets) {
+                                projection.apply(row);
+                            }
+                        }
+                    }));
+                    lastId[0] = chunk.get(chunk.size() - 1).id();
+                    rows[0] += chunk.size();
+                    if (++chunks[0] % checkpointChunks == 0) {
+                        awaitAll(inFlight);
+                        Header partial = new Header(seq, xmin, takenAt, lastId[0]);
+                        targets.forEach(p -> store.write(p, partial));
+                        log.info("[Projeções] Rebuild: {} linhas, checkpoint no id {}", rows[0], lastId[0]);
+                    }
+                });
+                awaitAll(inFlight);
+                return new Header(seq, xmin, takenAt, ProjectionSnapshotStore.COMPLETE);
+            });
+            targets.forEach(p -> store.write(p, done));
+            log.info("[Projeções] Rebuild de {} concluído em {} ms", names(targets),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return done;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Snapshot parcial comum a todas as projeções do rebuild, ou null
+     * (nesse caso o rebuild começa do zero). Um parcial mais velho que a
+     * retenção do log não serve: os eventos entre ele e agora (linhas já
+     * lidas que mudaram depois) podem ter sido removidos.
+     */
+    static Header commonPartial(List<Projection> targets, Map<Projection, Header> partials, Instant oldestUsable) {
+        Header first = partials.get(targets.get(0));
+        if (first == null || first.complete() || first.takenAt().isBefore(oldestUsable)) {
+            return null;
+        }
+        for (Projection projection : targets) {
+            Header h = partials.get(projection);
+            if (h == null || h.eventSeq() != first.eventSeq() || h.eventXmin() != first.eventXmin()
+                    || h.lastId() != first.lastId()) {
+                return null;
+            }
+        }
+        return first;
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebuild interrompido", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao aplicar bloco no rebuild", e.getCause());
+        } finally {
+            futures.clear();
+        }
+    }
+
+    // =========================================================================
+    // 3. Replay e snapshots periódicos
+    // =========================================================================
+
+    @Scheduled(fixedDelayString = "${app.projection.replay-interval-ms:1000}")
+    public void replay() {
+        if (!ready) {
+            return;
+        }
+        synchronized (lock) {
+            try {
+                catchUpLocked();
+            } catch (RuntimeException e) {
+                log.warn("[Projeções] Falha no replay; nova tentativa no próximo ciclo", e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.projection.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!ready) {
+            return;
+        }
+        synchronized (lock) {
+            Header header = new Header(appliedSeq, appliedXmin, appliedAt, ProjectionSnapshotStore.COMPLETE);
+            projections.forEach(p -> store.write(p, header));
+            log.debug("[Projeções] Snapshot gravado no seq {}", appliedSeq);
+        }
+    }
+
+    private void catchUpLocked() {
+        Instant started = Instant.now();
+        // antes das leituras: o que estiver abaixo dele já está visível nelas
+        long xmin = eventos.snapshotXmin();
+        List<VagaEvento> late = eventos.findLateEvents(appliedSeq, appliedXmin);
+        if (!applyEvents(late)) {
+            return;
+        }
+        List<VagaEvento> page;
+        do {
+            page = eventos.findEventsAfter(appliedSeq, replayBatch);
+            if (!applyEvents(page)) {
+                return;
+            }
+            if (!page.isEmpty()) {
+                appliedSeq = page.get(page.size() - 1).seq();
+            }
+        } while (page.size() == replayBatch);
+        appliedXmin = xmin;
+        appliedAt = started;
+    }
+
+    /**
+     * Aplica um lote de eventos relendo as vagas. false se houve TRUNCATE
+     * (nesse caso as projeções foram reconstruídas do zero).
+     */
+    private boolean applyEvents(List<VagaEvento> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (VagaEvento event : events) {
+            if (event.op() == 'T') {
+                log.info("[Projeções] TRUNCATE em vaga (seq {}); rebuild completo", event.seq());
+                projections.forEach(Projection::reset);
+                Header header = rebuild(projections, Map.of());
+                appliedSeq = header.eventSeq();
+                appliedXmin = header.eventXmin();
+                appliedAt = header.takenAt();
+                return false;
+            }
+            ids.add(event.vagaId());
+        }
+        Map<Long, VagaRow> current = new HashMap<>();
+        for (VagaRow row : eventos.findRows(ids)) {
+            current.put(row.id(), row);
+        }
+        for (Long id : ids) {
+            VagaRow row = current.get(id);
+            for (Projection projection : projections) {
+                if (row != null) {
+                    projection.apply(row);
+                } else {
+                    projection.remove(id);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<String> names(List<Projection> list) {
+        return list.stream().map(Projection::name).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Snapshots das projeções em disco ({snapshot-dir}/{projeção}.snap).
+ *
+ * Arquivo gzip com cabeçalho + estado da projeção:
+ *
+ *   int     MAGIC ("SBP2")
+ *   int     versão do formato da projeção
+ *   long    seq do vaga_evento já refletido
+ *   long    xmin do snapshot do banco nesse seq (eventos de transações
+ *           com txid >= xmin podem ter comitado depois, com seq menor)
+ *   long    instante do snapshot (epoch ms)
+ *   long    último id lido (rebuild parcial) ou Long.MAX_VALUE (completo)
+ *   ...     estado (Projection.writeSnapshot)
+ *
+ * Gravado em arquivo temporário e movido de forma atômica: uma queda no
+ * meio da escrita deixa o snapshot anterior intacto.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.projection.enabled", havingValue = "true")
+public class ProjectionSnapshotStore {
+
+    private static final int MAGIC = 0x53425032; // "SBP2" (antes "SBPJ", sem o xmin)
+
+    public static final long COMPLETE = Long.MAX_VALUE;
+
+    /**
+     * Cabeçalho de um snapshot.
+     */
+    public record Header(long eventSeq, long eventXmin, Instant takenAt, long lastId) {
+
+        public boolean complete() {
+            return lastId == COMPLETE;
+        }
+    }
+
+    private final Path dir;
+
+    public ProjectionSnapshotStore(@Value("${app.projection.snapshot-dir:data/projections}") Path dir) {
+        this.dir = dir;
+    }
+
+    public void write(Projection projection, Header header) {
+        try {
+            Files.createDirectories(dir);
+            Path target = dir.resolve(projection.name() + ".snap");
+            Path tmp = Files.createTempFile(dir, projection.name(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(projection.snapshotVersion());
+                out.writeLong(header.eventSeq());
+                out.writeLong(header.eventXmin());
+                out.writeLong(header.takenAt().toEpochMilli());
+                out.writeLong(header.lastId());
+                projection.writeSnapshot(out);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar snapshot da projeção " + projection.name(), e);
+        }
+    }
+
+    /**
+     * Carrega o snapshot na projeção. Vazio se não existe, está corrompido
+     * ou é de outra versão de formato (a projeção fica zerada).
+     */
+    public Optional<Header> read(Projection projection) {
+        Path file = dir.resolve(projection.name() + ".snap");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024)))) {
+            if (in.readInt() != MAGIC || in.readInt() != projection.snapshotVersion()) {
+                log.info("[Projeções] Snapshot de '{}' em formato antigo; descartado", projection.name());
+                return Optional.empty();
+            }
+            Header header = new Header(in.readLong(), in.readLong(),
+                    Instant.ofEpochMilli(in.readLong()), in.readLong());
+            projection.reset();
+            projection.readSnapshot(in);
+            return Optional.of(header);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[Projeções] Snapshot de '{}' ilegível; descartado", projection.name(), e);
+            projection.reset();
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import br.com.fiap.SkillBridge.repositorys.VagaEventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Retenção do log vaga_evento.
+ *
+ * Os triggers da V8 gravam o log em toda escrita de vaga, com ou sem
+ * projeções ligadas; por isso a limpeza não depende do ProjectionEngine
+ * (app.projection.enabled) e existe sempre. O DELETE é idempotente:
+ * rodar em vários nós ao mesmo tempo é inofensivo.
+ */
+@Slf4j
+@Component
+public class VagaEventoRetention {
+
+    private final VagaEventoRepository eventos;
+    private final Duration eventRetention;
+
+    public VagaEventoRetention(VagaEventoRepository eventos,
+                               @Value("${app.projection.event-retention:7d}") Duration eventRetention) {
+        this.eventos = eventos;
+        this.eventRetention = eventRetention;
+    }
+
+    @Scheduled(cron = "${app.projection.purge-cron:0 45 3 * * *}")
+    public void purgeEvents() {
+        int removed = eventos.purgeOlderThan(Instant.now().minus(eventRetention));
+        log.info("[Projeções] {} eventos antigos removidos de vaga_evento", removed);
+    }
+}
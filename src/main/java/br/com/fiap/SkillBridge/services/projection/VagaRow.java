@@ -0,0 +1,7 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+/**
+ * Linha de vaga lida direto do banco (sem entidade JPA) para as projeções.
+ */
+public record VagaRow(long id, long version, String titulo, String requisitos, String empresa, String local) {
+}
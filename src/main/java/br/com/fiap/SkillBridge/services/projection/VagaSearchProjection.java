@@ -0,0 +1,120 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória de título/empresa das vagas, usado pela busca do chat
+ * (VagaTool) no lugar das duas consultas LIKE '%termo%' por mensagem.
+ *
+ * Guarda só id, versão e os textos já em minúsculas; a busca mantém a
+ * semântica de "contém" do LIKE (títulos primeiro, depois empresas).
+ * Entre uma escrita e o próximo replay (app.projection.replay-interval-ms)
+ * o índice pode estar atrasado.
+ */
+@Component
+@ConditionalOnProperty(name = "app.projection.enabled", havingValue = "true")
+public class VagaSearchProjection implements Projection {
+
+    private record Entry(long version, String titulo, String empresa) {
+    }
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "vaga-search";
+    }
+
+    @Override
+    public int snapshotVersion() {
+        return 1;
+    }
+
+    @Override
+    public void reset() {
+        entries.clear();
+    }
+
+    @Override
+    public void apply(VagaRow row) {
+        Entry entry = new Entry(row.version(), fold(row.titulo()), fold(row.empresa()));
+        // nunca volta para uma versão mais antiga (snapshot velho + replay)
+        entries.merge(row.id(), entry, (old, neu) -> neu.version() >= old.version() ? neu : old);
+    }
+
+    @Override
+    public void remove(long vagaId) {
+        entries.remove(vagaId);
+    }
+
+    /**
+     * Ids das vagas cujo título (primeiro) ou empresa contém o termo,
+     * em ordem de id dentro de cada grupo.
+     */
+    public List<Long> search(String term, int limit) {
+        String folded = fold(term);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        List<Long> byTitulo = new ArrayList<>();
+        List<Long> byEmpresa = new ArrayList<>();
+        entries.forEach((id, e) -> {
+            if (e.titulo().contains(folded)) {
+                byTitulo.add(id);
+            } else if (e.empresa().contains(folded)) {
+                byEmpresa.add(id);
+            }
+        });
+        byTitulo.sort(null);
+        byEmpresa.sort(null);
+        List<Long> result = new ArrayList<>(Math.min(limit, byTitulo.size() + byEmpresa.size()));
+        for (List<Long> group : List.of(byTitulo, byEmpresa)) {
+            for (Long id : group) {
+                if (result.size() == limit) {
+                    return result;
+                }
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        List<Map.Entry<Long, Entry>> copy = new ArrayList<>(entries.entrySet());
+        out.writeInt(copy.size());
+        for (Map.Entry<Long, Entry> e : copy) {
+            out.writeLong(e.getKey());
+            out.writeLong(e.getValue().version());
+            out.writeUTF(e.getValue().titulo());
+            out.writeUTF(e.getValue().empresa());
+        }
+    }
+
+    @Override
+    public void readSnapshot(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long id = in.readLong();
+            entries.put(id, new Entry(in.readLong(), in.readUTF(), in.readUTF()));
+        }
+    }
+
+    private static String fold(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.fiap.SkillBridge.services.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Porta de concorrência com fila justa ponderada (WFQ) na frente do LLM.
+ *
+ * - No máximo maxConcurrent chamadas executam ao mesmo tempo.
+ * - Quem não consegue vaga entra na fila com uma "etiqueta de término"
+ *   virtual: max(tempo virtual, último término do mesmo usuário) + 1/peso.
+ *   A próxima vaga vai sempre para a menor etiqueta, então um usuário com
+ *   100 perguntas na fila não passa na frente de quem tem 1: as vezes são
+ *   intercaladas na proporção dos pesos.
+ * - Fila limitada e espera máxima: acima disso, RateLimitExceededException
+ *   (quem chama decide entre 429 ou resposta degradada).
+ */
+public final class FairShareGate {
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final Map<String, Integer> weights;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+    private final Map<String, Double> lastFinish = new HashMap<>();
+    private int inFlight;
+    private double virtualTime;
+    private long sequence;
+
+    public FairShareGate(int maxConcurrent, int queueCapacity, Duration maxWait, Map<String, Integer> weights) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.weights = Map.copyOf(weights);
+    }
+
+    /**
+     * Executa "work" quando houver vaga, respeitando a fila justa.
+     */
+    public <T> T call(String principal, Supplier<T> work) {
+        Waiter waiter = null;
+        lock.lock();
+        try {
+            if (inFlight < maxConcurrent && queue.isEmpty()) {
+                inFlight++;
+            } else {
+                if (queue.size() >= queueCapacity) {
+                    throw new RateLimitExceededException("Fila do assistente cheia", Duration.ofNanos(maxWaitNanos));
+                }
+                double start = Math.max(virtualTime, lastFinish.getOrDefault(principal, 0d));
+                double finish = start + 1d / weights.getOrDefault(principal, 1);
+                lastFinish.put(principal, finish);
+                waiter = new Waiter(finish, sequence++);
+                queue.add(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (waiter != null) {
+            awaitTurn(waiter);
+        }
+        try {
+            return work.get();
+        } finally {
+            release();
+        }
+    }
+
+    public int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitTurn(Waiter waiter) {
+        boolean granted;
+        try {
+            granted = waiter.granted.await(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            granted = false;
+        }
+        if (granted) {
+            return;
+        }
+        lock.lock();
+        try {
+            // ainda na fila → desiste; senão a vaga chegou junto com o timeout e é usada
+            if (queue.remove(waiter)) {
+                throw new RateLimitExceededException("Tempo de espera na fila excedido", Duration.ofNanos(maxWaitNanos));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            Waiter next = queue.poll();
+            if (next != null) {
+                // a vaga passa direto para o próximo (inFlight não muda)
+                virtualTime = next.finishTag;
+                next.granted.countDown();
+            } else {
+                inFlight--;
+                if (inFlight == 0) {
+                    // ocioso: etiquetas antigas não importam mais
+                    lastFinish.clear();
+                    virtualTime = 0d;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        final double finishTag;
+        final long seq;
+        final CountDownLatch granted = new CountDownLatch(1);
+
+        Waiter(double finishTag, long seq) {
+            this.finishTag = finishTag;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Waiter o) {
+            int byTag = Double.compare(finishTag, o.finishTag);
+            return byTag != 0 ? byTag : Long.compare(seq, o.seq);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.SkillBridge.services.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Requisição recusada por limite de taxa ou fila cheia.
+ * Carrega a sugestão de espera usada no header Retry-After.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message, null, false, false); // sem stack trace: caminho quente e esperado
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.fiap.SkillBridge.services.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por chave (ex.: principal do usuário), em memória.
+ *
+ * - Cada chave tem um balde de "capacity" fichas, reabastecido
+ *   continuamente a "refillPerSecond" fichas/s; cada requisição gasta uma.
+ * - Sem thread de reabastecimento: o saldo é recalculado na hora a partir
+ *   do tempo desde o último acesso (aritmética em nanossegundos).
+ * - Striping: as chaves são espalhadas em N stripes (potência de 2), cada
+ *   uma com seu próprio lock e mapa; threads de usuários diferentes quase
+ *   nunca disputam o mesmo lock.
+ * - Memória limitada: cada stripe guarda no máximo maxKeysPerStripe baldes
+ *   (LRU). Um balde descartado por inatividade já estaria cheio de novo.
+ */
+public final class TokenBucketRateLimiter {
+
+    /**
+     * Resultado de uma tentativa: liberada ou, se não, quanto esperar.
+     */
+    public record Decision(boolean allowed, long retryAfterNanos) {
+        private static final Decision ALLOWED = new Decision(true, 0L);
+    }
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier clock;
+
+    public TokenBucketRateLimiter(double capacity, double refillPerSecond, int stripes, int maxKeysPerStripe) {
+        this(capacity, refillPerSecond, stripes, maxKeysPerStripe, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double capacity, double refillPerSecond, int stripes,
+                           int maxKeysPerStripe, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1 e refillPerSecond > 0");
+        }
+        int n = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1; // próxima potência de 2
+        this.stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            this.stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.mask = n - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.clock = clock;
+    }
+
+    public Decision tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        long now = clock.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * tokensPerNano);
+                bucket.updatedAt = now;
+            }
+            if (bucket.tokens >= 1d) {
+                bucket.tokens -= 1d;
+                return Decision.ALLOWED;
+            }
+            return new Decision(false, (long) Math.ceil((1d - bucket.tokens) / tokensPerNano));
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxKeys;
+
+        Stripe(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxKeys;
+        }
+    }
+}
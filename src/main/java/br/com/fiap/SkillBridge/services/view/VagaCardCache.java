@@ -0,0 +1,161 @@
+package br.com.fiap.SkillBridge.services.view;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidation;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache do HTML dos cards de vaga (templates/fragments/vaga-card.html).
+ *
+ * Chave: id da vaga + versão + idioma. Uma vaga alterada tem versão nova,
+ * então um card antigo nunca é servido mesmo antes da invalidação; a
+ * invalidação (escritas no VagaService, e dos outros nós via
+ * {@link CacheInvalidationBus}) só libera memória.
+ *
+ * O card fica guardado já dividido no marcador do token CSRF
+ * ({@link #CSRF_MARKER}): quem escreve a página junta as partes com o
+ * campo hidden da sessão atual.
+ *
+ * Limite: app.vagas.cards.max-entries vagas; acima disso o cache é
+ * esvaziado e reconstruído sob demanda.
+ */
+@Component
+public class VagaCardCache {
+
+    static final String TEMPLATE = "fragments/vaga-card";
+    public static final String CSRF_MARKER = "<!--csrf-token-->";
+
+    private final ITemplateEngine templateEngine;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public VagaCardCache(ITemplateEngine templateEngine,
+                         CacheInvalidationBus invalidationBus,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.vagas.cards.max-entries:20000}") int maxEntries) {
+        this.templateEngine = templateEngine;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("skillbridge.vagas.cards")
+                .description("Cards de vaga servidos do cache de fragmentos")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("skillbridge.vagas.cards")
+                .description("Cards de vaga servidos do cache de fragmentos")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("skillbridge.vagas.cards.entries", entries, Map::size)
+                .description("Vagas com card em cache")
+                .register(meterRegistry);
+        invalidationBus.subscribe(CacheInvalidation.Type.ENTITY, message -> {
+            if (Vaga.class.getName().equals(message.region())) {
+                if (message.key() == null) {
+                    clear();
+                } else {
+                    evict(Long.valueOf(message.key()));
+                }
+            }
+        });
+    }
+
+    // =========================================================================
+    // 1. Leitura
+    // =========================================================================
+
+    /**
+     * HTML do card dividido no marcador CSRF (renderiza na primeira vez
+     * para cada id/versão/idioma).
+     */
+    public String[] card(Vaga vaga, Locale locale) {
+        Long version = vaga.getVersion();
+        Entry entry = entries.get(vaga.getId());
+        if (entry != null && Objects.equals(entry.version, version)) {
+            String[] parts = entry.byLocale.get(locale);
+            if (parts != null) {
+                hits.increment();
+                return parts;
+            }
+        }
+
+        misses.increment();
+        String[] parts = render(vaga, locale);
+        if (entry == null || !Objects.equals(entry.version, version)) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entry = new Entry(version);
+            entries.put(vaga.getId(), entry);
+        }
+        entry.byLocale.put(locale, parts);
+        return parts;
+    }
+
+    // =========================================================================
+    // 2. Invalidação
+    // =========================================================================
+
+    /**
+     * Descarta o card depois do commit da transação atual
+     * (ou imediatamente, se não houver transação).
+     */
+    public void evictAfterCommit(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        } else {
+            evict(id);
+        }
+    }
+
+    public void evict(Long id) {
+        if (id != null) {
+            entries.remove(id);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private String[] render(Vaga vaga, Locale locale) {
+        Context context = new Context(locale);
+        context.setVariable("vaga", vaga);
+        String html = templateEngine.process(TEMPLATE, context);
+        int marker = html.indexOf(CSRF_MARKER);
+        if (marker < 0) {
+            return new String[]{html};
+        }
+        return new String[]{html.substring(0, marker), html.substring(marker + CSRF_MARKER.length())};
+    }
+
+    /**
+     * Cards de uma versão da vaga, um por idioma já exibido.
+     */
+    private static final class Entry {
+        final Long version;
+        final Map<Locale, String[]> byLocale = new ConcurrentHashMap<>(4);
+
+        Entry(Long version) {
+            this.version = version;
+        }
+    }
+}
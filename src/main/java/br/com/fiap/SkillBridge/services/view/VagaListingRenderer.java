@@ -0,0 +1,200 @@
+package br.com.fiap.SkillBridge.services.view;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Escrita da listagem de vagas (templates/index.html) em streaming.
+ *
+ * Fluxo por requisição:
+ *  1) ETag da página (vagas id/versão + usuário + sessão + idioma + build);
+ *     se o navegador já tem essa versão, responde 304 sem renderizar nada.
+ *     O build entra porque o HTML muda a cada deploy (template e URLs dos
+ *     assets com hash), mesmo sem mudança nas vagas.
+ *  2) Renderiza só a "casca" da página (cabeçalho, busca, mensagem),
+ *     sem a lista, e divide no marcador {@link #CARDS_MARKER}.
+ *  3) Envia o início e faz flush (primeiros bytes saem antes da lista);
+ *     depois escreve os cards do {@link VagaCardCache} com o token CSRF da
+ *     sessão, com flush a cada app.vagas.cards.flush-every cards
+ *     (resposta chunked), e por fim o restante da página.
+ *
+ * Com mensagem de flash (após criar/editar/excluir) a página não recebe
+ * ETag: ela só deve aparecer uma vez.
+ */
+@Component
+public class VagaListingRenderer {
+
+    public static final String VIEW = "index";
+    static final String CARDS_MARKER = "<!--vaga-cards-->";
+
+    private final ThymeleafViewResolver viewResolver;
+    private final VagaCardCache cardCache;
+    private final int flushEvery;
+    private final String build;
+
+    public VagaListingRenderer(ThymeleafViewResolver viewResolver,
+                               VagaCardCache cardCache,
+                               ObjectProvider<BuildProperties> buildProperties,
+                               @Value("${app.vagas.cards.flush-every:50}") int flushEvery) {
+        this.viewResolver = viewResolver;
+        this.cardCache = cardCache;
+        this.flushEvery = Math.max(1, flushEvery);
+        // sem build-info.properties (ex.: execução pela IDE) o ETag ignora o build
+        BuildProperties info = buildProperties.getIfAvailable();
+        this.build = info != null && info.getTime() != null ? info.getTime().toString() : "";
+    }
+
+    public void render(List<Vaga> vagas,
+                       Map<String, Object> model,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws Exception {
+        Locale locale = RequestContextUtils.getLocale(request);
+
+        // -----------------------------------------------------
+        //  1) Requisição condicional
+        // -----------------------------------------------------
+        boolean cacheable = model.get("message") == null;
+        if (cacheable) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            ServletWebRequest webRequest = new ServletWebRequest(request, response);
+            if (webRequest.checkNotModified(etag(vagas, request, locale, build))) {
+                return;
+            }
+        } else {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        }
+
+        // -----------------------------------------------------
+        //  2) Casca da página
+        // -----------------------------------------------------
+        Map<String, Object> shellModel = new HashMap<>(model);
+        shellModel.put("semVagas", vagas.isEmpty());
+        String shell = renderShell(shellModel, locale, request, response);
+        int marker = shell.indexOf(CARDS_MARKER);
+        if (marker < 0) {
+            throw new IllegalStateException("Marcador " + CARDS_MARKER + " não encontrado em " + VIEW + ".html");
+        }
+
+        String csrfField = csrfField(request);
+
+        // -----------------------------------------------------
+        //  3) Streaming
+        // -----------------------------------------------------
+        response.setContentType("text/html;charset=UTF-8");
+        Writer out = response.getWriter();
+        out.write(shell, 0, marker);
+        out.flush();
+
+        int written = 0;
+        for (Vaga vaga : vagas) {
+            String[] parts = cardCache.card(vaga, locale);
+            out.write(parts[0]);
+            if (parts.length > 1) {
+                out.write(csrfField);
+                out.write(parts[1]);
+            }
+            if (++written % flushEvery == 0) {
+                out.flush();
+            }
+        }
+
+        out.write(shell, marker + CARDS_MARKER.length(), shell.length() - marker - CARDS_MARKER.length());
+        out.flush();
+    }
+
+    /**
+     * ETag fraca: muda quando a lista (ids/versões), o usuário, a sessão
+     * (token CSRF embutido nos forms), o idioma ou o build mudam.
+     */
+    static String etag(List<Vaga> vagas, HttpServletRequest request, Locale locale, String build) {
+        long h = 1125899906842597L;
+        for (Vaga vaga : vagas) {
+            h = 31 * h + (vaga.getId() != null ? vaga.getId() : 0);
+            h = 31 * h + (vaga.getVersion() != null ? vaga.getVersion() : 0);
+        }
+        h = 31 * h + vagas.size();
+        h = 31 * h + hash(request.getUserPrincipal() != null ? request.getUserPrincipal().getName() : null);
+        HttpSession session = request.getSession(false);
+        h = 31 * h + hash(session != null ? session.getId() : null);
+        h = 31 * h + hash(locale.toLanguageTag());
+        h = 31 * h + hash(request.getQueryString());
+        h = 31 * h + hash(build);
+        return "W/\"v-" + Long.toHexString(h) + "\"";
+    }
+
+    private String renderShell(Map<String, Object> model, Locale locale,
+                               HttpServletRequest request, HttpServletResponse response) throws Exception {
+        View view = viewResolver.resolveViewName(VIEW, locale);
+        if (view == null) {
+            throw new IllegalStateException("View " + VIEW + " não encontrada");
+        }
+        BufferedResponse buffered = new BufferedResponse(response);
+        view.render(model, request, buffered);
+        return buffered.content();
+    }
+
+    private static String csrfField(HttpServletRequest request) {
+        CsrfToken token = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        if (token == null) {
+            return "";
+        }
+        return "<input type=\"hidden\" name=\"" + HtmlUtils.htmlEscape(token.getParameterName())
+                + "\" value=\"" + HtmlUtils.htmlEscape(token.getToken()) + "\"/>";
+    }
+
+    private static int hash(String value) {
+        return value != null ? value.hashCode() : 0;
+    }
+
+    /**
+     * Captura o HTML da view em memória (a casca é pequena: sem a lista).
+     */
+    private static final class BufferedResponse extends HttpServletResponseWrapper {
+
+        private final StringWriter buffer = new StringWriter(8 * 1024);
+        private final PrintWriter writer = new PrintWriter(buffer);
+
+        BufferedResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() {
+            writer.flush();
+        }
+
+        String content() {
+            writer.flush();
+            return buffer.toString();
+        }
+    }
+}
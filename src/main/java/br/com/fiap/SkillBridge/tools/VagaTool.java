@@ -3,8 +3,11 @@ package br.com.fiap.SkillBridge.tools;
 import br.com.fiap.SkillBridge.dto.response.VagaResponse;
 import br.com.fiap.SkillBridge.models.Vaga;
 import br.com.fiap.SkillBridge.services.VagaService;
+import br.com.fiap.SkillBridge.services.projection.ProjectionEngine;
+import br.com.fiap.SkillBridge.services.projection.VagaSearchProjection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -19,7 +22,8 @@ import java.util.stream.Collectors;
  *  - Interpretar a pergunta em linguagem natural do usuário
  *    (ex: "me mostre vagas de Java", "fale sobre vagas para analista")
  *  - Extrair um termo de busca relevante a partir da frase
- *  - Consultar o VagaService por título e empresa
+ *  - Consultar o VagaService por título e empresa (ou o índice
+ *    VagaSearchProjection, quando as projeções estão ativas e carregadas)
  *  - Mesclar resultados e devolver uma lista reduzida (top 5)
  *
  * Este componente é usado principalmente pelo AIService
@@ -31,9 +35,15 @@ public class VagaTool {
     private static final Logger log = LoggerFactory.getLogger(VagaTool.class);
 
     private final VagaService vagaService;
+    private final ObjectProvider<VagaSearchProjection> searchProjection;
+    private final ObjectProvider<ProjectionEngine> projectionEngine;
 
-    public VagaTool(VagaService vagaService) {
+    public VagaTool(VagaService vagaService,
+                    ObjectProvider<VagaSearchProjection> searchProjection,
+                    ObjectProvider<ProjectionEngine> projectionEngine) {
         this.vagaService = vagaService;
+        this.searchProjection = searchProjection;
+        this.projectionEngine = projectionEngine;
     }
 
     /**
@@ -59,27 +69,35 @@ public class VagaTool {
             return Collections.emptyList();
         }
 
-        // Busca por título e por empresa separadamente
-        List<Vaga> byTitulo = vagaService.findByTituloContainingIgnoreCase(term);
-        List<Vaga> byEmpresa = vagaService.findByEmpresaContainingIgnoreCase(term);
-
-        // Mescla removendo duplicados (key = id)
-        Map<Long, Vaga> merged = new LinkedHashMap<>();
-        for (Vaga v : byTitulo) {
-            if (v.getId() != null) {
-                merged.put(v.getId(), v);
+        List<Vaga> result;
+        VagaSearchProjection index = searchProjection.getIfAvailable();
+        ProjectionEngine engine = projectionEngine.getIfAvailable();
+        if (index != null && engine != null && engine.isReady()) {
+            // Índice em memória: uma consulta por id só das vagas encontradas
+            result = vagaService.findAllById(index.search(term, 5));
+        } else {
+            // Busca por título e por empresa separadamente
+            List<Vaga> byTitulo = vagaService.findByTituloContainingIgnoreCase(term);
+            List<Vaga> byEmpresa = vagaService.findByEmpresaContainingIgnoreCase(term);
+
+            // Mescla removendo duplicados (key = id)
+            Map<Long, Vaga> merged = new LinkedHashMap<>();
+            for (Vaga v : byTitulo) {
+                if (v.getId() != null) {
+                    merged.put(v.getId(), v);
+                }
             }
-        }
-        for (Vaga v : byEmpresa) {
-            if (v.getId() != null) {
-                merged.put(v.getId(), v);
+            for (Vaga v : byEmpresa) {
+                if (v.getId() != null) {
+                    merged.put(v.getId(), v);
+                }
             }
-        }
 
-        List<Vaga> result = merged.values()
-                .stream()
-                .limit(5) // limita para evitar resposta gigante no chat
-                .collect(Collectors.toList());
+            result = merged.values()
+                    .stream()
+                    .limit(5) // limita para evitar resposta gigante no chat
+                    .collect(Collectors.toList());
+        }
 
         log.info("searchVagas - resultados={}", result.size());
 
@@ -0,0 +1,19 @@
+-- =========================================================
+-- Mudanças do CDC que nenhum retry conseguiu entregar
+-- =========================================================
+-- Quando um listener falha app.cdc.max-attempts vezes no mesmo lote, o
+-- leitor grava as mudanças aqui e segue adiante (o slot não fica preso).
+-- Para reprocessar: reler a linha atual pela tabela/id (ou invalidar os
+-- caches) e apagar o registro.
+CREATE TABLE cdc_dead_letter
+(
+    id        BIGINT GENERATED ALWAYS AS IDENTITY,
+    slot_name VARCHAR(64)              NOT NULL,
+    lsn       BIGINT                   NOT NULL,
+    tabela    VARCHAR(64)              NOT NULL,
+    op        VARCHAR(8)               NOT NULL,
+    row_id    BIGINT,
+    erro      TEXT,
+    criado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_cdc_dead_letter PRIMARY KEY (id)
+);
@@ -0,0 +1,11 @@
+-- =========================================================
+-- Transação de cada evento de vaga (replay das projeções)
+-- =========================================================
+-- O seq é reservado no INSERT, mas o evento só fica visível no commit:
+-- uma transação longa comita com seq menor que eventos já aplicados.
+-- Com o txid, o replay relê os eventos das transações que ainda não
+-- tinham terminado na leitura anterior (txid >= xmin do snapshot dela),
+-- sem depender de uma janela de tempo.
+ALTER TABLE vaga_evento ADD COLUMN txid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_vaga_evento_txid ON vaga_evento (txid);
@@ -0,0 +1,3 @@
+ALTER TABLE vaga ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE candidatura ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
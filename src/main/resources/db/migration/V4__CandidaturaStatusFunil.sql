@@ -0,0 +1,59 @@
+-- Status restrito ao funil (StatusCandidatura)
+UPDATE candidatura SET status = 'PENDENTE'
+WHERE status IS NULL OR status NOT IN ('PENDENTE', 'APROVADO', 'REJEITADO');
+
+ALTER TABLE candidatura ALTER COLUMN status SET NOT NULL;
+ALTER TABLE candidatura
+    ADD CONSTRAINT ck_candidatura_status CHECK (status IN ('PENDENTE', 'APROVADO', 'REJEITADO'));
+
+-- Índice composto: filtros por vaga + status, ordenados por data
+-- (substitui o índice simples em vaga_id, que é prefixo deste)
+CREATE INDEX idx_candidatura_vaga_status_data ON candidatura (vaga_id, status, data_aplicacao);
+DROP INDEX idx_candidatura_vaga_id;
+
+-- Contagem por vaga/status mantida incrementalmente
+CREATE TABLE candidatura_status_count
+(
+    vaga_id BIGINT      NOT NULL,
+    status  VARCHAR(50) NOT NULL,
+    total   BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_candidatura_status_count PRIMARY KEY (vaga_id, status),
+    CONSTRAINT fk_candidatura_status_count_vaga FOREIGN KEY (vaga_id) REFERENCES vaga (id) ON DELETE CASCADE
+);
+
+INSERT INTO candidatura_status_count (vaga_id, status, total)
+SELECT vaga_id, status, COUNT(*)
+FROM candidatura
+GROUP BY vaga_id, status;
+
+-- Trigger: cobre o JPA, o UPDATE direto (bulk) e o ON DELETE CASCADE da vaga
+CREATE FUNCTION candidatura_status_count_sync() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE candidatura_status_count
+        SET total = total - 1
+        WHERE vaga_id = OLD.vaga_id
+          AND status = OLD.status;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO candidatura_status_count (vaga_id, status, total)
+        VALUES (NEW.vaga_id, NEW.status, 1)
+        ON CONFLICT (vaga_id, status) DO UPDATE SET total = candidatura_status_count.total + 1;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_candidatura_status_count_ins_del
+    AFTER INSERT OR DELETE ON candidatura
+    FOR EACH ROW
+EXECUTE FUNCTION candidatura_status_count_sync();
+
+CREATE TRIGGER trg_candidatura_status_count_upd
+    AFTER UPDATE OF vaga_id, status ON candidatura
+    FOR EACH ROW
+    WHEN (OLD.vaga_id IS DISTINCT FROM NEW.vaga_id OR OLD.status IS DISTINCT FROM NEW.status)
+EXECUTE FUNCTION candidatura_status_count_sync();
@@ -0,0 +1,85 @@
+-- Particionamento mensal de candidatura por data_aplicacao (RANGE).
+-- A tabela antiga é renomeada, os dados são copiados e ela é removida.
+
+ALTER TABLE candidatura RENAME TO candidatura_legacy;
+ALTER TABLE candidatura_legacy RENAME CONSTRAINT pk_candidatura TO pk_candidatura_legacy;
+ALTER TABLE candidatura_legacy RENAME CONSTRAINT fk_candidatura_vaga TO fk_candidatura_legacy_vaga;
+ALTER TABLE candidatura_legacy RENAME CONSTRAINT ck_candidatura_status TO ck_candidatura_legacy_status;
+ALTER INDEX idx_candidatura_vaga_status_data RENAME TO idx_candidatura_legacy_vaga_status_data;
+
+UPDATE candidatura_legacy SET data_aplicacao = CURRENT_TIMESTAMP WHERE data_aplicacao IS NULL;
+
+-- Sequence própria: o id continua gerado pelo banco (IDENTITY no JPA)
+CREATE SEQUENCE candidatura_id_seq;
+SELECT setval('candidatura_id_seq', COALESCE((SELECT MAX(id) FROM candidatura_legacy), 0) + 1, false);
+
+CREATE TABLE candidatura
+(
+    id               BIGINT                   NOT NULL DEFAULT nextval('candidatura_id_seq'),
+    vaga_id          BIGINT                   NOT NULL,
+    nome             VARCHAR(150)             NOT NULL,
+    email            VARCHAR(200),
+    telefone         VARCHAR(50),
+    curriculo        TEXT,
+    status           VARCHAR(50)              NOT NULL DEFAULT 'PENDENTE',
+    data_aplicacao   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version          BIGINT                   NOT NULL DEFAULT 0,
+    -- a chave de partição precisa fazer parte da PK
+    CONSTRAINT pk_candidatura PRIMARY KEY (id, data_aplicacao),
+    CONSTRAINT fk_candidatura_vaga FOREIGN KEY (vaga_id) REFERENCES vaga (id) ON DELETE CASCADE,
+    CONSTRAINT ck_candidatura_status CHECK (status IN ('PENDENTE', 'APROVADO', 'REJEITADO'))
+) PARTITION BY RANGE (data_aplicacao);
+
+ALTER SEQUENCE candidatura_id_seq OWNED BY candidatura.id;
+
+CREATE INDEX idx_candidatura_vaga_status_data ON candidatura (vaga_id, status, data_aplicacao);
+CREATE INDEX idx_candidatura_id ON candidatura (id);
+
+-- Recebe só o que cair fora das partições mensais (deve ficar vazia)
+CREATE TABLE candidatura_default PARTITION OF candidatura DEFAULT;
+
+-- Cria as partições mensais (candidatura_pAAAAMM) de "desde" até o mês
+-- atual + meses_a_frente. Idempotente; usada também pelo job agendado.
+CREATE FUNCTION candidatura_ensure_partitions(desde DATE, meses_a_frente INT) RETURNS INT AS
+$$
+DECLARE
+    mes     DATE := date_trunc('month', desde)::DATE;
+    ate     DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => meses_a_frente))::DATE;
+    nome    TEXT;
+    criadas INT  := 0;
+BEGIN
+    WHILE mes <= ate
+        LOOP
+            nome := 'candidatura_p' || to_char(mes, 'YYYYMM');
+            IF to_regclass(nome) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF candidatura FOR VALUES FROM (%L) TO (%L)',
+                               nome, mes, (mes + INTERVAL '1 month')::DATE);
+                criadas := criadas + 1;
+            END IF;
+            mes := (mes + INTERVAL '1 month')::DATE;
+        END LOOP;
+    RETURN criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT candidatura_ensure_partitions(
+               COALESCE((SELECT MIN(data_aplicacao) FROM candidatura_legacy)::DATE, CURRENT_DATE), 3);
+
+INSERT INTO candidatura (id, vaga_id, nome, email, telefone, curriculo, status, data_aplicacao, version)
+SELECT id, vaga_id, nome, email, telefone, curriculo, status, data_aplicacao, version
+FROM candidatura_legacy;
+
+DROP TABLE candidatura_legacy;
+
+-- Triggers do funil (V4) recriados na tabela particionada, depois da cópia
+-- (a contagem já reflete as linhas copiadas)
+CREATE TRIGGER trg_candidatura_status_count_ins_del
+    AFTER INSERT OR DELETE ON candidatura
+    FOR EACH ROW
+EXECUTE FUNCTION candidatura_status_count_sync();
+
+CREATE TRIGGER trg_candidatura_status_count_upd
+    AFTER UPDATE OF vaga_id, status ON candidatura
+    FOR EACH ROW
+    WHEN (OLD.vaga_id IS DISTINCT FROM NEW.vaga_id OR OLD.status IS DISTINCT FROM NEW.status)
+EXECUTE FUNCTION candidatura_status_count_sync();
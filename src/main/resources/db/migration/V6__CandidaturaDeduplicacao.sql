@@ -0,0 +1,61 @@
+-- =========================================================
+-- Currículos endereçados por conteúdo (SHA-256 do texto em UTF-8)
+-- =========================================================
+CREATE TABLE curriculo
+(
+    hash      VARCHAR(64)              NOT NULL,
+    conteudo  TEXT                     NOT NULL,
+    criado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_curriculo PRIMARY KEY (hash)
+);
+
+INSERT INTO curriculo (hash, conteudo)
+SELECT DISTINCT encode(sha256(convert_to(curriculo, 'UTF8')), 'hex'), curriculo
+FROM candidatura
+WHERE curriculo IS NOT NULL
+ON CONFLICT (hash) DO NOTHING;
+
+ALTER TABLE candidatura ADD COLUMN curriculo_hash VARCHAR(64);
+UPDATE candidatura
+SET curriculo_hash = encode(sha256(convert_to(curriculo, 'UTF8')), 'hex')
+WHERE curriculo IS NOT NULL;
+ALTER TABLE candidatura DROP COLUMN curriculo;
+ALTER TABLE candidatura
+    ADD CONSTRAINT fk_candidatura_curriculo FOREIGN KEY (curriculo_hash) REFERENCES curriculo (hash);
+CREATE INDEX idx_candidatura_curriculo_hash ON candidatura (curriculo_hash);
+
+-- =========================================================
+-- Unicidade (vaga_id, email)
+-- =========================================================
+-- candidatura é particionada por data_aplicacao, e um UNIQUE nela teria que
+-- incluir a data; a unicidade fica nesta tabela de inscrições.
+CREATE TABLE candidatura_inscricao
+(
+    vaga_id        BIGINT       NOT NULL,
+    email          VARCHAR(200) NOT NULL, -- minúsculo, sem espaços nas pontas
+    candidatura_id BIGINT,
+    CONSTRAINT pk_candidatura_inscricao PRIMARY KEY (vaga_id, email),
+    CONSTRAINT fk_candidatura_inscricao_vaga FOREIGN KEY (vaga_id) REFERENCES vaga (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_candidatura_inscricao_candidatura ON candidatura_inscricao (candidatura_id);
+
+-- duplicatas já existentes: a candidatura mais recente vira a canônica
+INSERT INTO candidatura_inscricao (vaga_id, email, candidatura_id)
+SELECT DISTINCT ON (vaga_id, lower(trim(email))) vaga_id, lower(trim(email)), id
+FROM candidatura
+WHERE email IS NOT NULL
+ORDER BY vaga_id, lower(trim(email)), data_aplicacao DESC, id DESC;
+
+-- =========================================================
+-- Chaves de idempotência das submissões
+-- =========================================================
+CREATE TABLE candidatura_idempotencia
+(
+    chave          VARCHAR(100)             NOT NULL,
+    candidatura_id BIGINT,
+    criado_em      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_candidatura_idempotencia PRIMARY KEY (chave)
+);
+
+CREATE INDEX idx_candidatura_idempotencia_criado_em ON candidatura_idempotencia (criado_em);
@@ -0,0 +1,21 @@
+-- =========================================================
+-- Change data capture (replicação lógica, plugin pgoutput)
+-- =========================================================
+-- Requer wal_level = logical no servidor e um usuário com REPLICATION
+-- para o leitor (o slot é criado pela aplicação no primeiro start).
+--
+-- candidatura é particionada: publish_via_partition_root faz as mudanças
+-- chegarem como "candidatura" (e não candidatura_pAAAAMM).
+CREATE PUBLICATION skillbridge_cdc
+    FOR TABLE vaga, candidatura
+    WITH (publish_via_partition_root = true);
+
+-- Último LSN aplicado por slot: o leitor retoma daqui e descarta
+-- transações já entregues aos consumidores.
+CREATE TABLE cdc_checkpoint
+(
+    slot_name     VARCHAR(64)              NOT NULL,
+    lsn           BIGINT                   NOT NULL,
+    atualizado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_cdc_checkpoint PRIMARY KEY (slot_name)
+);
@@ -0,0 +1,39 @@
+-- =========================================================
+-- Log de eventos de vaga (replay das projeções derivadas)
+-- =========================================================
+-- Toda mudança em vaga, inclusive SQL direto e seeds, grava uma linha
+-- aqui. As projeções guardam o último seq aplicado no snapshot e, ao
+-- subir, reaplicam só o que veio depois (relendo a linha atual da vaga).
+CREATE TABLE vaga_evento
+(
+    seq       BIGINT GENERATED ALWAYS AS IDENTITY,
+    vaga_id   BIGINT                   NOT NULL,
+    op        CHAR(1)                  NOT NULL,
+    criado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT pk_vaga_evento PRIMARY KEY (seq),
+    CONSTRAINT ck_vaga_evento_op CHECK (op IN ('I', 'U', 'D', 'T'))
+);
+
+CREATE INDEX idx_vaga_evento_criado_em ON vaga_evento (criado_em);
+
+CREATE FUNCTION vaga_evento_log() RETURNS trigger AS
+$$
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        INSERT INTO vaga_evento (vaga_id, op) VALUES (0, 'T');
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO vaga_evento (vaga_id, op) VALUES (OLD.id, 'D');
+    ELSE
+        INSERT INTO vaga_evento (vaga_id, op) VALUES (NEW.id, left(TG_OP, 1));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vaga_evento
+    AFTER INSERT OR UPDATE OR DELETE ON vaga
+    FOR EACH ROW EXECUTE FUNCTION vaga_evento_log();
+
+CREATE TRIGGER trg_vaga_evento_truncate
+    AFTER TRUNCATE ON vaga
+    FOR EACH STATEMENT EXECUTE FUNCTION vaga_evento_log();
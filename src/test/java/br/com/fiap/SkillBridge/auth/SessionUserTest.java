@@ -0,0 +1,111 @@
+package br.com.fiap.SkillBridge.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redução do usuário do provedor (GitHub/Google) ao principal compacto
+ * guardado na sessão.
+ */
+class SessionUserTest {
+
+    @Test
+    void keepsFieldsUsedByTheApplication() {
+        SessionUser user = SessionUser.from(githubUser("Maria Silva"));
+
+        assertThat(user.getName()).isEqualTo("583");
+        assertThat(user.getDisplayName()).isEqualTo("Maria Silva");
+        assertThat(user.getLogin()).isEqualTo("mariasilva");
+        assertThat(user.getAvatarUrl()).isEqualTo("https://avatars.githubusercontent.com/u/583?v=4");
+        assertThat((String) user.getAttribute("email")).isEqualTo("maria@example.com");
+        assertThat(user.getAttributes()).doesNotContainKey("bio");
+        assertThat(user.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("OAUTH2_USER", "SCOPE_read:user");
+    }
+
+    @Test
+    void oversizedProfileFieldsAreTruncated() {
+        SessionUser user = SessionUser.from(githubUser("x".repeat(10_000)));
+
+        assertThat(user.getDisplayName()).hasSize(SessionUser.MAX_NAME);
+    }
+
+    @Test
+    void googleUserUsesPictureAndFallsBackToEmailForDisplayName() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("sub", "1098");
+        attributes.put("email", "ana@example.com");
+        attributes.put("picture", "https://lh3.googleusercontent.com/a/ana");
+        SessionUser user = SessionUser.from(new DefaultOAuth2User(
+                List.of(new SimpleGrantedAuthority("OAUTH2_USER")), attributes, "sub"));
+
+        assertThat(user.getName()).isEqualTo("1098");
+        assertThat(user.getLogin()).isNull();
+        assertThat(user.getDisplayName()).isEqualTo("ana@example.com");
+        assertThat(user.getAvatarUrl()).isEqualTo("https://lh3.googleusercontent.com/a/ana");
+        assertThat((String) user.getAttribute("picture")).isEqualTo("https://lh3.googleusercontent.com/a/ana");
+    }
+
+    @Test
+    void compactUserIsReturnedAsIs() {
+        SessionUser user = SessionUser.from(githubUser("Maria Silva"));
+
+        assertThat(SessionUser.from(user)).isSameAs(user);
+    }
+
+    @Test
+    void survivesJavaSerialization() throws Exception {
+        SessionUser user = SessionUser.from(githubUser("Maria Silva"));
+
+        SessionUser copy = (SessionUser) deserialize(serialize(user));
+
+        assertThat(copy.getName()).isEqualTo(user.getName());
+        assertThat(copy.getAttributes()).isEqualTo(user.getAttributes());
+        assertThat(copy.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("OAUTH2_USER", "SCOPE_read:user");
+    }
+
+    private static OAuth2User githubUser(String name) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("login", "mariasilva");
+        attributes.put("id", 583);
+        attributes.put("avatar_url", "https://avatars.githubusercontent.com/u/583?v=4");
+        attributes.put("name", name);
+        attributes.put("email", "maria@example.com");
+        attributes.put("bio", "Desenvolvedora backend em busca de novas oportunidades.");
+
+        List<GrantedAuthority> authorities = List.of(
+                new OAuth2UserAuthority(attributes),
+                new SimpleGrantedAuthority("SCOPE_read:user"));
+        return new DefaultOAuth2User(authorities, attributes, "id");
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
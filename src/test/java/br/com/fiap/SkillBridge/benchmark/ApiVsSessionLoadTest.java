@@ -0,0 +1,167 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.auth.ApiTokenService;
+import br.com.fiap.SkillBridge.auth.SessionUser;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesma consulta (typeahead de vagas, servida do snapshot em memória) pelos
+ * dois caminhos de segurança, com o servidor real:
+ *  - sessão: GET /candidatura/vagas com cookie SESSION (lookup no store de
+ *    sessões + desserialização do SecurityContext a cada requisição);
+ *  - API:    GET /api/vagas/options com Bearer JWT (validação local).
+ *
+ * Mede vazão e latência p50/p99 com vários clientes concorrentes.
+ *
+ * Roda com ./gradlew benchmark (precisa do banco: docker compose up -d).
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiVsSessionLoadTest {
+
+    private static final int CLIENTS = 32;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(15);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    @Autowired
+    private ApiTokenService apiTokenService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void statelessApiOutperformsSessionPath() throws Exception {
+        SessionUser user = SessionUser.from(new DefaultOAuth2User(
+                List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("id", "bench-1", "login", "bench", "email", "bench@example.com"),
+                "id"));
+
+        String cookie = "SESSION=" + Base64.getEncoder()
+                .encodeToString(createSession(sessionRepository, user).getBytes(StandardCharsets.UTF_8));
+        HttpRequest sessionRequest = HttpRequest.newBuilder(uri("/candidatura/vagas?q=d"))
+                .header("Cookie", cookie)
+                .GET().build();
+        HttpRequest apiRequest = HttpRequest.newBuilder(uri("/api/vagas/options?q=d"))
+                .header("Authorization", "Bearer " + apiTokenService.issue(user).getAccessToken())
+                .GET().build();
+
+        run(sessionRequest, WARMUP);
+        run(apiRequest, WARMUP);
+        Result session = run(sessionRequest, DURATION);
+        Result api = run(apiRequest, DURATION);
+
+        System.out.printf("%n[ApiVsSessionLoadTest] %d clientes, %d s por caminho%n", CLIENTS, DURATION.toSeconds());
+        System.out.printf("%-8s %10s %10s %10s %8s%n", "caminho", "req/s", "p50 ms", "p99 ms", "erros");
+        for (Result r : new Result[]{session.named("sessão"), api.named("api")}) {
+            System.out.printf("%-8s %10.0f %10.2f %10.2f %8d%n", r.name, r.rps, r.p50Ms, r.p99Ms, r.errors);
+        }
+
+        assertThat(session.errors).isZero();
+        assertThat(api.errors).isZero();
+        assertThat(api.rps).isGreaterThan(session.rps);
+    }
+
+    private static <S extends Session> String createSession(SessionRepository<S> repository, SessionUser user) {
+        S session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(new OAuth2AuthenticationToken(user, user.getAuthorities(), "github")));
+        repository.save(session);
+        return session.getId();
+    }
+
+    private Result run(HttpRequest request, Duration duration) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(pool.submit(() -> {
+                long[] latencies = new long[1 << 16];
+                int n = 0;
+                start.await();
+                long end = System.nanoTime() + duration.toNanos();
+                while (System.nanoTime() < end) {
+                    long t0 = System.nanoTime();
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    long elapsed = System.nanoTime() - t0;
+                    if (response.statusCode() != 200) {
+                        errors.increment();
+                    }
+                    if (n == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, n * 2);
+                    }
+                    latencies[n++] = elapsed;
+                }
+                return Arrays.copyOf(latencies, n);
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        List<long[]> all = new ArrayList<>();
+        for (Future<long[]> f : futures) {
+            all.add(f.get());
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        pool.shutdown();
+
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(null, merged.length / seconds,
+                percentile(merged, 0.50), percentile(merged, 0.99), errors.sum());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Result(String name, double rps, double p50Ms, double p99Ms, long errors) {
+
+        Result named(String newName) {
+            return new Result(newName, rps, p50Ms, p99Ms, errors);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.services.ratelimit.FairShareGate;
+import br.com.fiap.SkillBridge.services.ratelimit.RateLimitExceededException;
+import br.com.fiap.SkillBridge.services.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gerador de carga sintético multiusuário para a proteção do chat
+ * (sem Spring nem LLM: só TokenBucketRateLimiter e FairShareGate).
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class ChatRateLimitLoadTest {
+
+    /**
+     * Muito acima de 10k RPS oferecidos: cada usuário deve ter aceitas
+     * ~ capacity + refill * duração, independentemente da pressão.
+     */
+    @Test
+    void tokenBucketStaysAccurateUnderLoad() throws Exception {
+        int users = 1_000;
+        int threads = 16;
+        double capacity = 5;
+        double refillPerSecond = 10;
+        long durationNanos = Duration.ofSeconds(3).toNanos();
+
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, refillPerSecond, 64, 4096);
+        Map<String, LongAdder> accepted = new ConcurrentHashMap<>();
+        LongAdder offered = new LongAdder();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                long end = System.nanoTime() + durationNanos;
+                int i = seed;
+                while (System.nanoTime() < end) {
+                    String user = "user-" + (i++ % users);
+                    offered.increment();
+                    if (limiter.tryAcquire(user).allowed()) {
+                        accepted.computeIfAbsent(user, k -> new LongAdder()).increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        pool.shutdown();
+
+        double expected = capacity + refillPerSecond * seconds;
+        long min = accepted.values().stream().mapToLong(LongAdder::sum).min().orElse(0);
+        long max = accepted.values().stream().mapToLong(LongAdder::sum).max().orElse(0);
+
+        System.out.printf("%n[ChatRateLimitLoadTest] %,.0f req/s oferecidas, %d usuários%n",
+                offered.sum() / seconds, users);
+        System.out.printf("  aceitas por usuário: min=%d max=%d esperado≈%.1f%n", min, max, expected);
+
+        assertThat(offered.sum() / seconds).isGreaterThan(10_000);
+        assertThat((double) max).isLessThanOrEqualTo(expected + 1);
+        assertThat((double) min).isGreaterThanOrEqualTo(expected * 0.9);
+    }
+
+    /**
+     * Um usuário "pesado" enfileira 200 perguntas de uma vez; 5 usuários
+     * leves fazem 10 cada. Com fila justa, os leves não esperam o pesado
+     * terminar: todos concluem antes do fim da fila do pesado.
+     */
+    @Test
+    void fairQueueDoesNotStarveLightUsers() throws Exception {
+        FairShareGate gate = new FairShareGate(2, 1_000, Duration.ofSeconds(30), Map.of());
+        AtomicInteger order = new AtomicInteger();
+        Map<String, AtomicLong> lastCompletion = new ConcurrentHashMap<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(pool.submit(() -> ask(gate, "pesado", order, lastCompletion)));
+        }
+        Thread.sleep(20); // o pesado chega primeiro e lota a fila
+        for (int u = 0; u < 5; u++) {
+            String user = "leve-" + u;
+            for (int i = 0; i < 10; i++) {
+                futures.add(pool.submit(() -> ask(gate, user, order, lastCompletion)));
+            }
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        int total = order.get();
+        System.out.printf("%n[ChatRateLimitLoadTest] fila justa: %d chamadas%n", total);
+        lastCompletion.forEach((user, pos) ->
+                System.out.printf("  %-8s última concluída na posição %d%n", user, pos.get()));
+
+        for (int u = 0; u < 5; u++) {
+            assertThat(lastCompletion.get("leve-" + u).get()).isLessThan(total - 50);
+        }
+    }
+
+    private static Object ask(FairShareGate gate, String user, AtomicInteger order,
+                              Map<String, AtomicLong> lastCompletion) {
+        try {
+            return gate.call(user, () -> {
+                sleepQuietly(2); // "chamada ao LLM"
+                lastCompletion.computeIfAbsent(user, k -> new AtomicLong()).set(order.incrementAndGet());
+                return null;
+            });
+        } catch (RateLimitExceededException e) {
+            throw new AssertionError("não deveria recusar com fila grande", e);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
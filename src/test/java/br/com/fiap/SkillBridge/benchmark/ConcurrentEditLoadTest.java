@@ -0,0 +1,117 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.repositorys.VagaRepository;
+import br.com.fiap.SkillBridge.services.VagaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Muitos editores alterando a MESMA vaga ao mesmo tempo.
+ *
+ * Cada edição lê a vaga (valor + versão), soma 1 ao contador guardado em
+ * "requisitos" e grava com VagaService.update; em conflito, relê e tenta de
+ * novo (o que a tela faz quando recebe 409). Ao final:
+ *  - o contador é exatamente EDITORS * EDITS_PER_EDITOR (nenhuma edição perdida);
+ *  - a versão avançou o mesmo número de vezes.
+ *
+ * Também imprime a vazão e a quantidade de conflitos. Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ConcurrentEditLoadTest {
+
+    private static final int EDITORS = 32;
+    private static final int EDITS_PER_EDITOR = 50;
+
+    @Autowired
+    private VagaService vagaService;
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    private Long id;
+
+    @BeforeEach
+    void createVaga() {
+        id = vagaRepository.save(Vaga.builder()
+                .titulo("Edição concorrente")
+                .requisitos("0")
+                .empresa("Bench")
+                .local("Remoto")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void deleteVaga() {
+        vagaRepository.deleteById(id);
+    }
+
+    @Test
+    void noLostUpdates() throws Exception {
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int e = 0; e < EDITORS; e++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int n = 0; n < EDITS_PER_EDITOR; n++) {
+                    while (true) {
+                        // leitura comum (pode vir do cache de 2º nível; se estiver
+                        // desatualizada, o UPDATE falha pela versão e relemos)
+                        Vaga lida = vagaRepository.findById(id).orElseThrow();
+                        Vaga edit = Vaga.builder()
+                                .version(lida.getVersion())
+                                .titulo(lida.getTitulo())
+                                .requisitos(String.valueOf(Long.parseLong(lida.getRequisitos()) + 1))
+                                .empresa(lida.getEmpresa())
+                                .local(lida.getLocal())
+                                .build();
+                        try {
+                            vagaService.update(id, edit);
+                            break;
+                        } catch (ObjectOptimisticLockingFailureException conflict) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        pool.shutdown();
+
+        int total = EDITORS * EDITS_PER_EDITOR;
+        Vaga fim = vagaRepository.findById(id).orElseThrow();
+
+        System.out.printf("%n[ConcurrentEditLoadTest] %d editores x %d edições na mesma vaga%n", EDITORS, EDITS_PER_EDITOR);
+        System.out.printf("  edições aplicadas : %,d em %.2f s (%,.0f edições/s)%n", total, seconds, total / seconds);
+        System.out.printf("  conflitos (409)   : %,d%n", conflicts.get());
+
+        assertThat(Long.parseLong(fim.getRequisitos())).isEqualTo(total);
+        assertThat(fim.getVersion()).isEqualTo(total);
+    }
+}
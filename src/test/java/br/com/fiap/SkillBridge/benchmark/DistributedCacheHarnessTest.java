@@ -0,0 +1,138 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.services.cache.BroadcastingCacheManager;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidation;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.cache.InvalidationTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vários "nós" SkillBridge no mesmo JVM: cada um com seu CacheManager local
+ * decorado pelo {@link BroadcastingCacheManager} e seu {@link CacheInvalidationBus},
+ * ligados por um transporte em memória assíncrono (papel do RabbitMQ).
+ *
+ * Mede o tempo até todos os outros nós descartarem a entrada escrita por um nó.
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class DistributedCacheHarnessTest {
+
+    private static final int NODES = 4;
+    private static final long MAX_PROPAGATION_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Loopback hub = new Loopback();
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stop() {
+        hub.executor.shutdownNow();
+    }
+
+    @Test
+    void evictOnOneNodeReachesAllOthers() throws Exception {
+        startNodes();
+        int rounds = 500;
+        long[] worst = new long[rounds];
+
+        for (int round = 0; round < rounds; round++) {
+            for (Node node : nodes) {
+                node.vagas().put("all", "v" + round);
+            }
+            Node writer = nodes.get(round % NODES);
+            long start = System.nanoTime();
+            writer.vagas().evict("all");
+
+            for (Node node : nodes) {
+                while (node.vagas().get("all") != null) {
+                    assertThat(System.nanoTime() - start)
+                            .as("propagação para o nó %s", node.bus.nodeId())
+                            .isLessThan(MAX_PROPAGATION_NANOS);
+                    Thread.onSpinWait();
+                }
+            }
+            worst[round] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(worst);
+        System.out.printf("Invalidação entre %d nós: p50=%d µs, p99=%d µs, máx=%d µs%n",
+                NODES,
+                worst[rounds / 2] / 1_000,
+                worst[rounds * 99 / 100] / 1_000,
+                worst[rounds - 1] / 1_000);
+    }
+
+    @Test
+    void snapshotInvalidationSkipsOrigin() throws Exception {
+        startNodes();
+        List<AtomicInteger> received = new ArrayList<>();
+        for (Node node : nodes) {
+            AtomicInteger count = new AtomicInteger();
+            node.bus.subscribe(CacheInvalidation.Type.SNAPSHOT, m -> count.incrementAndGet());
+            received.add(count);
+        }
+
+        nodes.get(0).bus.publish(CacheInvalidation.Type.SNAPSHOT, "vaga-options", null);
+
+        long deadline = System.nanoTime() + MAX_PROPAGATION_NANOS;
+        while (received.stream().skip(1).anyMatch(c -> c.get() == 0) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(received.get(0)).hasValue(0);
+        received.stream().skip(1).forEach(c -> assertThat(c).hasValue(1));
+    }
+
+    private void startNodes() {
+        for (int i = 0; i < NODES; i++) {
+            CacheInvalidationBus bus = new CacheInvalidationBus(hub.connect(), () -> null);
+            nodes.add(new Node(bus, new BroadcastingCacheManager(new ConcurrentMapCacheManager("vagas"), bus)));
+        }
+    }
+
+    private record Node(CacheInvalidationBus bus, BroadcastingCacheManager cacheManager) {
+        Cache vagas() {
+            return cacheManager.getCache("vagas");
+        }
+    }
+
+    /**
+     * "Exchange" em memória: entrega cada mensagem a todos os nós conectados
+     * (inclusive o de origem, como o fanout do RabbitMQ), em outra thread.
+     */
+    private static final class Loopback {
+        final ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        final List<Consumer<CacheInvalidation>> receivers = new CopyOnWriteArrayList<>();
+
+        InvalidationTransport connect() {
+            return new InvalidationTransport() {
+                @Override
+                public void publish(CacheInvalidation invalidation) {
+                    for (Consumer<CacheInvalidation> receiver : receivers) {
+                        executor.execute(() -> receiver.accept(invalidation));
+                    }
+                }
+
+                @Override
+                public void setReceiver(Consumer<CacheInvalidation> receiver) {
+                    receivers.add(receiver);
+                }
+            };
+        }
+    }
+}
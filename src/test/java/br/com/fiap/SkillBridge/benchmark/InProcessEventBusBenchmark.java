@@ -0,0 +1,108 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventHandler;
+import br.com.fiap.SkillBridge.services.messaging.InProcessEventBus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão do barramento de eventos em processo (ring buffer).
+ *
+ * Vários produtores publicam VagaEventDto pré-alocados; dois handlers
+ * recebem todos os eventos. Verifica que nenhum evento se perde e mede
+ * eventos/s ponta a ponta (da primeira publicação ao último handler).
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class InProcessEventBusBenchmark {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 2_000_000;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Test
+    void deliversEveryEventToEveryHandlerAtMillionsPerSecond() throws Exception {
+        long total = (long) PRODUCERS * EVENTS_PER_PRODUCER;
+        CountingHandler first = new CountingHandler(total);
+        CountingHandler second = new CountingHandler(total);
+        InProcessEventBus bus = new InProcessEventBus(BUFFER_SIZE, 5_000, List.of(first, second), null);
+        bus.start();
+
+        VagaEventDto[][] events = new VagaEventDto[PRODUCERS][1_024];
+        for (int p = 0; p < PRODUCERS; p++) {
+            for (int i = 0; i < events[p].length; i++) {
+                events[p][i] = new VagaEventDto((long) p, "UPDATED");
+            }
+        }
+
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            VagaEventDto[] mine = events[p];
+            producers[p] = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                    bus.publish(mine[i & (mine.length - 1)]);
+                }
+            }, "producer-" + p);
+            producers[p].start();
+        }
+
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertThat(first.done.await(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.done.await(60, TimeUnit.SECONDS)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        bus.stop();
+
+        double perSecond = total / seconds;
+        System.out.printf("in-process bus: %,d eventos, %d produtores, 2 handlers -> %,.0f eventos/s (lotes médios: %.1f)%n",
+                total, PRODUCERS, perSecond, (double) total / first.batches.get());
+
+        assertThat(first.received.get()).isEqualTo(total);
+        assertThat(second.received.get()).isEqualTo(total);
+        assertThat(bus.backlog()).isZero();
+        assertThat(perSecond).isGreaterThan(1_000_000);
+    }
+
+    private static final class CountingHandler implements VagaEventHandler {
+
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong batches = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(1);
+        private final long expected;
+
+        CountingHandler(long expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public void onEvent(VagaEventDto event, boolean endOfBatch) {
+            // só a thread do consumidor escreve; AtomicLong apenas para a leitura final
+            long n = received.get() + 1;
+            received.lazySet(n);
+            if (endOfBatch) {
+                batches.lazySet(batches.get() + 1);
+            }
+            if (n == expected) {
+                done.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.config.PrecompiledMessageSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resolução de mensagens i18n no caminho da requisição:
+ * ResourceBundleMessageSource (configuração anterior) x PrecompiledMessageSource.
+ *
+ * Mede ns/op e bytes alocados por lookup (ThreadMXBean da HotSpot) com os
+ * códigos reais de messages_* e ValidationMessages_*, em pt-BR e en-US.
+ * A equivalência dos textos fica no PrecompiledMessageSourceTest.
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class MessageSourceLookupBenchmark {
+
+    private static final int WARMUP = 500_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final String[] BASENAMES = {"messages", "ValidationMessages"};
+    private static final Locale[] LOCALES = {Locale.forLanguageTag("pt-BR"), Locale.forLanguageTag("en-US")};
+
+    private static volatile Object sink;
+
+    @Test
+    void precompiledLookupDoesNotAllocate() throws IOException {
+        MessageSource bundles = resourceBundleSource();
+        PrecompiledMessageSource precompiled = precompiledSource();
+        List<String> codes = codes();
+
+        Result bundleResult = measure("resource-bundle", bundles, codes);
+        Result precompiledResult = measure("precompiled", precompiled, codes);
+
+        System.out.printf("%n%-16s %10s %12s%n", "source", "ns/op", "bytes/op");
+        for (Result r : new Result[]{bundleResult, precompiledResult}) {
+            System.out.printf("%-16s %10.1f %12.2f%n", r.name, r.nanosPerOp, r.bytesPerOp);
+        }
+
+        assertThat(precompiledResult.bytesPerOp).isLessThan(1.0);
+        assertThat(precompiledResult.nanosPerOp).isLessThan(bundleResult.nanosPerOp);
+    }
+
+    private static Result measure(String name, MessageSource source, List<String> codes) {
+        String[] lookups = codes.toArray(new String[0]);
+        int mask = Integer.highestOneBit(lookups.length) - 1;
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink = source.getMessage(lookups[i & mask], null, null, LOCALES[i & 1]);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        Object last = null;
+
+        long bytes0 = threads.getThreadAllocatedBytes(thread);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            last = source.getMessage(lookups[i & mask], null, null, LOCALES[i & 1]);
+        }
+        long elapsed = System.nanoTime() - t0;
+        long allocated = threads.getThreadAllocatedBytes(thread) - bytes0;
+        sink = last;
+
+        return new Result(name, (double) elapsed / ITERATIONS, (double) allocated / ITERATIONS);
+    }
+
+    private static MessageSource resourceBundleSource() {
+        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
+        source.setBasenames(BASENAMES);
+        return source;
+    }
+
+    private static PrecompiledMessageSource precompiledSource() {
+        return new PrecompiledMessageSource(List.of(BASENAMES), LOCALES[0], new SimpleMeterRegistry());
+    }
+
+    private static List<String> codes() throws IOException {
+        List<String> codes = new ArrayList<>();
+        for (String basename : BASENAMES) {
+            try (InputStream in = MessageSourceLookupBenchmark.class.getResourceAsStream("/" + basename + "_pt_BR.properties")) {
+                codes.addAll(Collections.list(new PropertyResourceBundle(in).getKeys()));
+            }
+        }
+        Collections.sort(codes);
+        return codes;
+    }
+
+    private record Result(String name, double nanosPerOp, double bytesPerOp) {
+    }
+}
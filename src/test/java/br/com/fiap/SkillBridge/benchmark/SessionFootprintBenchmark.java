@@ -0,0 +1,119 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.auth.SessionUser;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Custo por sessão do contexto de segurança gravado no store de sessões:
+ * OAuth2User completo do GitHub x {@link SessionUser}.
+ *
+ * Mede os bytes da serialização Java do SecurityContext (o que o Spring
+ * Session grava em spring_session_attributes). Sem banco.
+ *
+ * Os campos mantidos e o truncamento são conferidos no SessionUserTest.
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class SessionFootprintBenchmark {
+
+    private static final int MAX_COMPACT_CONTEXT_BYTES = 2_048;
+
+    @Test
+    void compactPrincipalShrinksAndBoundsTheSessionContext() throws IOException {
+        OAuth2User github = githubUser("a".repeat(10));
+        int full = serializedSize(context(github));
+        int compact = serializedSize(context(SessionUser.from(github)));
+
+        System.out.printf("security context: completo=%,d bytes, compacto=%,d bytes (%.1fx menor)%n",
+                full, compact, (double) full / compact);
+        System.out.printf("1.000.000 sessões: %,d MB -> %,d MB%n",
+                full * 1_000_000L >> 20, compact * 1_000_000L >> 20);
+
+        assertThat(compact).isLessThan(full / 2);
+        assertThat(compact).isLessThanOrEqualTo(MAX_COMPACT_CONTEXT_BYTES);
+    }
+
+    @Test
+    void oversizedProfileFieldsKeepTheContextBounded() throws IOException {
+        OAuth2User huge = githubUser("x".repeat(10_000));
+        int compact = serializedSize(context(SessionUser.from(huge)));
+
+        assertThat(compact).isLessThanOrEqualTo(MAX_COMPACT_CONTEXT_BYTES);
+    }
+
+    private static SecurityContextImpl context(OAuth2User user) {
+        return new SecurityContextImpl(new OAuth2AuthenticationToken(user, user.getAuthorities(), "github"));
+    }
+
+    /**
+     * Atributos no formato devolvido por https://api.github.com/user.
+     */
+    private static OAuth2User githubUser(String name) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("login", "mariasilva");
+        attributes.put("id", 583);
+        attributes.put("node_id", "MDQ6VXNlcjU4Mw==");
+        attributes.put("avatar_url", "https://avatars.githubusercontent.com/u/583?v=4");
+        attributes.put("gravatar_id", "");
+        String api = "https://api.github.com/users/mariasilva";
+        attributes.put("url", api);
+        attributes.put("html_url", "https://github.com/mariasilva");
+        attributes.put("followers_url", api + "/followers");
+        attributes.put("following_url", api + "/following{/other_user}");
+        attributes.put("gists_url", api + "/gists{/gist_id}");
+        attributes.put("starred_url", api + "/starred{/owner}{/repo}");
+        attributes.put("subscriptions_url", api + "/subscriptions");
+        attributes.put("organizations_url", api + "/orgs");
+        attributes.put("repos_url", api + "/repos");
+        attributes.put("events_url", api + "/events{/privacy}");
+        attributes.put("received_events_url", api + "/received_events");
+        attributes.put("type", "User");
+        attributes.put("user_view_type", "public");
+        attributes.put("site_admin", false);
+        attributes.put("name", name);
+        attributes.put("company", "FIAP");
+        attributes.put("blog", "https://mariasilva.dev");
+        attributes.put("location", "São Paulo, Brasil");
+        attributes.put("email", "maria@example.com");
+        attributes.put("hireable", true);
+        attributes.put("bio", "Desenvolvedora backend em busca de novas oportunidades.");
+        attributes.put("twitter_username", "mariasilva");
+        attributes.put("public_repos", 42);
+        attributes.put("public_gists", 3);
+        attributes.put("followers", 120);
+        attributes.put("following", 80);
+        attributes.put("created_at", "2015-03-14T12:00:00Z");
+        attributes.put("updated_at", "2026-09-30T18:30:00Z");
+
+        List<GrantedAuthority> authorities = List.of(
+                new OAuth2UserAuthority(attributes),
+                new SimpleGrantedAuthority("SCOPE_read:user"));
+        return new DefaultOAuth2User(authorities, attributes, "id");
+    }
+
+    private static int serializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+}
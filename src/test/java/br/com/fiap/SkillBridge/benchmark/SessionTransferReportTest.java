@@ -0,0 +1,225 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.auth.SessionUser;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes transferidos numa sessão típica, com o servidor real:
+ * listagem de vagas aberta várias vezes (com a folha de estilo) e buscas
+ * no typeahead JSON de vagas da candidatura.
+ *
+ * Dois clientes contra a mesma instância:
+ *  - "antes":  sem Accept-Encoding e sem cache — equivale à entrega
+ *    anterior (sem compressão e com no-store em todas as respostas);
+ *  - "depois": navegador que aceita gzip/br e respeita Cache-Control,
+ *    ETag (If-None-Match) e Last-Modified (If-Modified-Since).
+ *
+ * Conta status line + headers + corpo como recebidos (comprimidos).
+ * Relatório em build/reports/session-transfer.md.
+ *
+ * Roda com ./gradlew benchmark (precisa do banco: docker compose up -d).
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SessionTransferReportTest {
+
+    private static final int PAGE_VIEWS = 10;
+    private static final List<String> SEARCHES = List.of("d", "de", "dev", "j", "ja", "jav");
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"([^\"]+\\.css)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void cachingAndCompressionCutBytesPerSession() throws Exception {
+        SessionUser user = SessionUser.from(new DefaultOAuth2User(
+                List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("id", "bench-1", "login", "bench", "email", "bench@example.com"),
+                "id"));
+
+        Browser before = new Browser(false, cookie(user));
+        Browser after = new Browser(true, cookie(user));
+        browse(before);
+        browse(after);
+
+        String report = String.join("\n",
+                "# Bytes transferidos por sessão",
+                "",
+                "Sessão: " + PAGE_VIEWS + " aberturas de /vaga (+ CSS) e " + SEARCHES.size()
+                        + " buscas em /candidatura/vagas.",
+                "",
+                "| Cliente | requisições | 304 / cache local | bytes |",
+                "|---------|------------:|------------------:|------:|",
+                before.row("antes"),
+                after.row("depois"),
+                "",
+                String.format("Redução: %.1f%%", 100.0 * (before.bytes - after.bytes) / before.bytes),
+                "");
+        Path path = Path.of("build", "reports", "session-transfer.md");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, report);
+        System.out.printf("%n[SessionTransferReportTest]%n%s%n", report);
+
+        assertThat(before.errors).isZero();
+        assertThat(after.errors).isZero();
+        assertThat(after.bytes * 2).isLessThan(before.bytes);
+    }
+
+    private void browse(Browser browser) throws Exception {
+        for (int i = 0; i < PAGE_VIEWS; i++) {
+            String html = browser.get("/vaga");
+            Matcher css = STYLESHEET.matcher(html);
+            while (css.find()) {
+                browser.get(css.group(1));
+            }
+        }
+        for (String q : SEARCHES) {
+            browser.get("/candidatura/vagas?q=" + q);
+        }
+    }
+
+    private String cookie(SessionUser user) {
+        return "SESSION=" + Base64.getEncoder()
+                .encodeToString(createSession(sessionRepository, user).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <S extends Session> String createSession(SessionRepository<S> repository, SessionUser user) {
+        S session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(new OAuth2AuthenticationToken(user, user.getAuthorities(), "github")));
+        repository.save(session);
+        return session.getId();
+    }
+
+    /**
+     * Cliente HTTP que conta bytes; no modo "cache" guarda as respostas
+     * como um navegador (immutable/max-age sem nova requisição, resto revalidado).
+     */
+    private final class Browser {
+
+        private final boolean cache;
+        private final String cookie;
+        private final Map<String, Cached> entries = new HashMap<>();
+
+        long requests;
+        long reused;
+        long bytes;
+        long errors;
+
+        Browser(boolean cache, String cookie) {
+            this.cache = cache;
+            this.cookie = cookie;
+        }
+
+        String get(String path) throws Exception {
+            Cached cached = cache ? entries.get(path) : null;
+            if (cached != null && cached.fresh()) {
+                reused++;
+                return cached.body();
+            }
+
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Cookie", cookie)
+                    .GET();
+            if (cache) {
+                request.header("Accept-Encoding", "gzip, br");
+                if (cached != null && cached.etag() != null) {
+                    request.header("If-None-Match", cached.etag());
+                }
+                if (cached != null && cached.lastModified() != null) {
+                    request.header("If-Modified-Since", cached.lastModified());
+                }
+            }
+
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            requests++;
+            bytes += wireSize(response);
+
+            if (response.statusCode() == 304 && cached != null) {
+                reused++;
+                return cached.body();
+            }
+            if (response.statusCode() != 200) {
+                errors++;
+                return "";
+            }
+
+            String body = decode(response);
+            if (cache) {
+                String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+                entries.put(path, new Cached(body,
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null),
+                        cacheControl.contains("immutable")
+                                || (cacheControl.contains("max-age=") && !cacheControl.contains("max-age=0"))));
+            }
+            return body;
+        }
+
+        String row(String name) {
+            return String.format("| %s | %d | %d | %,d |", name, requests, reused, bytes);
+        }
+
+        private static long wireSize(HttpResponse<byte[]> response) {
+            long size = 17 + response.body().length;
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                for (String value : header.getValue()) {
+                    size += header.getKey().length() + 2 + value.length() + 2;
+                }
+            }
+            return size + 2;
+        }
+
+        private static String decode(HttpResponse<byte[]> response) throws IOException {
+            String encoding = response.headers().firstValue("Content-Encoding").orElse("");
+            if (encoding.equals("gzip")) {
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+            // br só aparece nos assets (.css), que não precisam ser lidos
+            return encoding.isEmpty() ? new String(response.body(), StandardCharsets.UTF_8) : "";
+        }
+    }
+
+    private record Cached(String body, String etag, String lastModified, boolean fresh) {
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.services.messaging.VagaEventMessageConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Custo de serialização de VagaEventDto: conversor JSON atual x binário.
+ *
+ * Mede ns/op de encode e decode (toMessage/fromMessage) e bytes por
+ * mensagem (corpo + content-type + headers de tipo). Sem broker.
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class VagaEventCodecBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final String[] ACTIONS = {"CREATED", "UPDATED", "DELETED"};
+
+    private static volatile Object sink;
+
+    @Test
+    void binaryIsSmallerAndFasterThanJson() {
+        MessageConverter json = new Jackson2JsonMessageConverter();
+        MessageConverter binary = new VagaEventMessageConverter(new Jackson2JsonMessageConverter(), true);
+
+        VagaEventDto[] events = sampleEvents(1_024);
+        Result jsonResult = measure("json", json, events);
+        Result binaryResult = measure("binary", binary, events);
+
+        System.out.printf("%-7s %12s %12s %14s%n", "codec", "encode ns/op", "decode ns/op", "bytes/message");
+        for (Result r : new Result[]{jsonResult, binaryResult}) {
+            System.out.printf("%-7s %12.1f %12.1f %14.1f%n", r.name, r.encodeNs, r.decodeNs, r.bytesPerMessage);
+        }
+
+        assertThat(binaryResult.bytesPerMessage).isLessThan(jsonResult.bytesPerMessage / 2);
+        assertThat(binaryResult.encodeNs).isLessThan(jsonResult.encodeNs);
+        assertThat(binaryResult.decodeNs).isLessThan(jsonResult.decodeNs);
+    }
+
+    @Test
+    void binaryConverterStillReadsJson() {
+        VagaEventDto event = new VagaEventDto(42L, "UPDATED");
+        event.setTimestamp(event.getTimestamp().truncatedTo(ChronoUnit.MICROS));
+        Message legacy = new Jackson2JsonMessageConverter().toMessage(event, new MessageProperties());
+        legacy.getMessageProperties().setInferredArgumentType(VagaEventDto.class);
+
+        Object decoded = new VagaEventMessageConverter(new Jackson2JsonMessageConverter(), true).fromMessage(legacy);
+
+        assertSameEvent((VagaEventDto) decoded, event);
+    }
+
+    private Result measure(String name, MessageConverter converter, VagaEventDto[] events) {
+        Message[] messages = new Message[events.length];
+        for (int i = 0; i < events.length; i++) {
+            messages[i] = converter.toMessage(events[i], new MessageProperties());
+            messages[i].getMessageProperties().setInferredArgumentType(VagaEventDto.class);
+            assertSameEvent((VagaEventDto) converter.fromMessage(messages[i]), events[i]);
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink = converter.toMessage(events[i & 1023], new MessageProperties());
+            sink = converter.fromMessage(messages[i & 1023]);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = converter.toMessage(events[i & 1023], new MessageProperties());
+        }
+        double encodeNs = (double) (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = converter.fromMessage(messages[i & 1023]);
+        }
+        double decodeNs = (double) (System.nanoTime() - start) / ITERATIONS;
+
+        long bytes = 0;
+        for (Message message : messages) {
+            bytes += wireSize(message);
+        }
+        return new Result(name, encodeNs, decodeNs, (double) bytes / messages.length);
+    }
+
+    /**
+     * Corpo + content-type + headers (o que o conversor adiciona à mensagem AMQP).
+     */
+    private static long wireSize(Message message) {
+        MessageProperties props = message.getMessageProperties();
+        long size = message.getBody().length;
+        if (props.getContentType() != null) {
+            size += props.getContentType().getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (props.getContentEncoding() != null) {
+            size += props.getContentEncoding().getBytes(StandardCharsets.UTF_8).length;
+        }
+        for (Map.Entry<String, Object> header : props.getHeaders().entrySet()) {
+            size += header.getKey().getBytes(StandardCharsets.UTF_8).length
+                    + String.valueOf(header.getValue()).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    private static VagaEventDto[] sampleEvents(int count) {
+        VagaEventDto[] events = new VagaEventDto[count];
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < count; i++) {
+            VagaEventDto event = new VagaEventDto((long) (i * 37 + 1), ACTIONS[i % ACTIONS.length]);
+            event.setTimestamp(now.plusMillis(i));
+            events[i] = event;
+        }
+        return events;
+    }
+
+    private static void assertSameEvent(VagaEventDto actual, VagaEventDto expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getAction()).isEqualTo(expected.getAction());
+        assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private record Result(String name, double encodeNs, double decodeNs, double bytesPerMessage) {
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.view.VagaCardCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CPU de renderização da lista de cards por page view:
+ *  - "th:each": todos os cards processados pelo Thymeleaf a cada página
+ *    (como o index.html fazia);
+ *  - "cache":   cards do VagaCardCache (já renderizados) concatenados com
+ *    o campo CSRF da sessão, como o VagaListingRenderer escreve.
+ *
+ * Mesmo template de card e mesmas mensagens i18n; sem Spring MVC nem banco.
+ *
+ * Chave, versão e invalidação do cache são conferidas no VagaCardCacheTest.
+ *
+ * Roda com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class VagaListingRenderBenchmark {
+
+    private static final int VAGAS = 300;
+    private static final int WARMUP = 300;
+    private static final int PAGE_VIEWS = 1_000;
+    private static final Locale LOCALE = Locale.forLanguageTag("pt-BR");
+    private static final String CSRF_FIELD = "<input type=\"hidden\" name=\"_csrf\" value=\"token\"/>";
+    private static final String LIST_TEMPLATE =
+            "<main><th:block th:each=\"vaga : ${vagas}\" th:insert=\"~{fragments/vaga-card}\"></th:block></main>";
+
+    private static volatile int sink;
+
+    @Test
+    void cachedCardsRenderAnOrderOfMagnitudeFaster() {
+        SpringTemplateEngine engine = templateEngine();
+        VagaCardCache cache = new VagaCardCache(engine, new CacheInvalidationBus(null, () -> null),
+                new SimpleMeterRegistry(), 20_000);
+        List<Vaga> vagas = sampleVagas();
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink += renderFull(engine, vagas).length();
+            sink += renderCached(cache, vagas).length();
+        }
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < PAGE_VIEWS; i++) {
+            sink += renderFull(engine, vagas).length();
+        }
+        double fullUs = (System.nanoTime() - t0) / 1e3 / PAGE_VIEWS;
+
+        t0 = System.nanoTime();
+        for (int i = 0; i < PAGE_VIEWS; i++) {
+            sink += renderCached(cache, vagas).length();
+        }
+        double cachedUs = (System.nanoTime() - t0) / 1e3 / PAGE_VIEWS;
+
+        System.out.printf("%n[VagaListingRenderBenchmark] %d vagas por página%n", VAGAS);
+        System.out.printf("th:each: %,10.1f us/página%n", fullUs);
+        System.out.printf("cache:   %,10.1f us/página (%.1fx)%n", cachedUs, fullUs / cachedUs);
+
+        assertThat(renderCached(cache, vagas)).contains("Vaga 299").contains(CSRF_FIELD);
+        assertThat(cachedUs * 10).isLessThan(fullUs);
+    }
+
+    private static String renderFull(SpringTemplateEngine engine, List<Vaga> vagas) {
+        Context context = new Context(LOCALE);
+        context.setVariable("vagas", vagas);
+        return engine.process(LIST_TEMPLATE, context);
+    }
+
+    private static String renderCached(VagaCardCache cache, List<Vaga> vagas) {
+        StringBuilder out = new StringBuilder(vagas.size() * 1_500);
+        for (Vaga vaga : vagas) {
+            String[] parts = cache.card(vaga, LOCALE);
+            out.append(parts[0]);
+            if (parts.length > 1) {
+                out.append(CSRF_FIELD).append(parts[1]);
+            }
+        }
+        return out.toString();
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver files = new ClassLoaderTemplateResolver();
+        files.setPrefix("templates/");
+        files.setSuffix(".html");
+        files.setTemplateMode(TemplateMode.HTML);
+        files.setCharacterEncoding("UTF-8");
+        files.setCheckExistence(true);
+        files.setOrder(1);
+
+        StringTemplateResolver inline = new StringTemplateResolver();
+        inline.setTemplateMode(TemplateMode.HTML);
+        inline.setOrder(2);
+
+        ResourceBundleMessageSource messages = new ResourceBundleMessageSource();
+        messages.setBasename("messages");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.addTemplateResolver(files);
+        engine.addTemplateResolver(inline);
+        engine.setTemplateEngineMessageSource(messages);
+        return engine;
+    }
+
+    private static List<Vaga> sampleVagas() {
+        List<Vaga> vagas = new ArrayList<>(VAGAS);
+        for (int i = 0; i < VAGAS; i++) {
+            vagas.add(vaga((long) i, 3L, "Vaga " + i));
+        }
+        return vagas;
+    }
+
+    private static Vaga vaga(Long id, Long version, String titulo) {
+        return Vaga.builder()
+                .id(id)
+                .version(version)
+                .titulo(titulo)
+                .empresa("Empresa " + id)
+                .local("Remoto")
+                .requisitos("Java, Spring Boot, PostgreSQL, RabbitMQ, Docker e boas práticas de testes")
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.fiap.SkillBridge.benchmark;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.repositorys.VagaRepository;
+import br.com.fiap.SkillBridge.services.VagaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão de escrita de vagas com vários editores simultâneos.
+ *
+ * Compara:
+ *  - "load-then-save": fluxo antigo (findById + cópia de campos + save/merge);
+ *  - "update-direto": VagaService.update (UPDATE ... WHERE id = ? AND version = ?).
+ *
+ * Cada editor altera a própria vaga, então não há conflitos: mede só o custo
+ * do caminho de escrita. Roda fora do "test" padrão:
+ *
+ *   ./gradlew benchmark
+ *
+ * Precisa do mesmo banco usado pela aplicação (docker compose up -d).
+ */
+@Tag("benchmark")
+@SpringBootTest
+class VagaUpdateBenchmark {
+
+    private static final int EDITORS = 16;
+    private static final int EDITS_PER_EDITOR = 200;
+
+    @Autowired
+    private VagaService vagaService;
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void createVagas() {
+        for (int i = 0; i < EDITORS; i++) {
+            Vaga vaga = vagaRepository.save(Vaga.builder()
+                    .titulo("Benchmark " + i)
+                    .requisitos("Java")
+                    .empresa("Bench")
+                    .local("Remoto")
+                    .build());
+            ids.add(vaga.getId());
+        }
+    }
+
+    @AfterEach
+    void deleteVagas() {
+        vagaRepository.deleteAllById(ids);
+        ids.clear();
+    }
+
+    @Test
+    void writeThroughput() throws Exception {
+        // aquecimento do JIT/pool antes das medições
+        run((id, n) -> loadThenSave(id, n));
+        run((id, n) -> vagaService.update(id, edit(n)));
+
+        double legacy = run((id, n) -> loadThenSave(id, n));
+        double direct = run((id, n) -> vagaService.update(id, edit(n)));
+
+        System.out.printf("%n[VagaUpdateBenchmark] %d editores x %d edições%n", EDITORS, EDITS_PER_EDITOR);
+        System.out.printf("  load-then-save : %,10.0f edições/s%n", legacy);
+        System.out.printf("  update-direto  : %,10.0f edições/s (%.2fx)%n", direct, direct / legacy);
+
+        for (Long id : ids) {
+            assertThat(vagaRepository.findById(id).orElseThrow().getTitulo())
+                    .isEqualTo("Editada " + (EDITS_PER_EDITOR - 1));
+        }
+    }
+
+    private void loadThenSave(Long id, int n) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Vaga existente = vagaRepository.findById(id).orElseThrow();
+            Vaga edit = edit(n);
+            existente.setTitulo(edit.getTitulo());
+            existente.setRequisitos(edit.getRequisitos());
+            existente.setEmpresa(edit.getEmpresa());
+            existente.setLocal(edit.getLocal());
+            vagaRepository.save(existente);
+        });
+    }
+
+    private static Vaga edit(int n) {
+        return Vaga.builder()
+                .titulo("Editada " + n)
+                .requisitos("Java " + n)
+                .empresa("Bench")
+                .local("Remoto")
+                .build();
+    }
+
+    private interface Editor {
+        void edit(Long id, int n);
+    }
+
+    /**
+     * Executa EDITORS threads, cada uma com EDITS_PER_EDITOR edições
+     * na sua vaga, e devolve edições por segundo.
+     */
+    private double run(Editor editor) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long id : ids) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int n = 0; n < EDITS_PER_EDITOR; n++) {
+                    editor.edit(id, n);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        pool.shutdown();
+        return EDITORS * EDITS_PER_EDITOR / seconds;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.fiap.SkillBridge.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * O PrecompiledMessageSource resolve os mesmos textos que o
+ * ResourceBundleMessageSource (configuração anterior) com os bundles
+ * reais de messages_* e ValidationMessages_*.
+ */
+class PrecompiledMessageSourceTest {
+
+    private static final String[] BASENAMES = {"messages", "ValidationMessages"};
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+
+    private final MessageSource bundles = resourceBundleSource();
+    private final PrecompiledMessageSource precompiled =
+            new PrecompiledMessageSource(List.of(BASENAMES), PT_BR, new SimpleMeterRegistry());
+
+    @Test
+    void resolvesTheSameTextsAsResourceBundles() throws IOException {
+        for (Locale locale : new Locale[]{PT_BR, EN_US}) {
+            for (String code : codes()) {
+                assertThat(precompiled.getMessage(code, null, locale))
+                        .as("%s [%s]", code, locale)
+                        .isEqualTo(bundles.getMessage(code, null, locale));
+            }
+        }
+    }
+
+    @Test
+    void unknownCodeFallsBackToDefaultMessageOrFails() {
+        assertThat(precompiled.getMessage("nao.existe", null, "padrão", PT_BR)).isEqualTo("padrão");
+        assertThat(precompiled.getMessage("nao.existe", null, null, PT_BR)).isNull();
+        assertThatThrownBy(() -> precompiled.getMessage("nao.existe", null, PT_BR))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+
+    @Test
+    void resolvableUsesTheFirstKnownCode() {
+        assertThat(precompiled.getMessage(new DefaultMessageSourceResolvable(
+                new String[]{"nao.existe", "btn.edit"}, null, "x"), EN_US))
+                .isEqualTo(bundles.getMessage("btn.edit", null, EN_US));
+        assertThat(precompiled.getMessage(new DefaultMessageSourceResolvable(
+                new String[]{"nao.existe"}, null, "x"), EN_US))
+                .isEqualTo("x");
+    }
+
+    @Test
+    void reloadWithoutChangesKeepsTheSnapshot() {
+        assertThat(precompiled.reload()).isFalse();
+    }
+
+    @Test
+    void localeIsTakenFromTheFileSuffix() {
+        assertThat(PrecompiledMessageSource.localeOf("messages", "messages_pt_BR.properties"))
+                .isEqualTo(new Locale("pt", "BR"));
+        assertThat(PrecompiledMessageSource.localeOf("messages", "messages.properties")).isEqualTo(Locale.ROOT);
+        assertThat(PrecompiledMessageSource.localeOf("messages", "messagesFoo.properties")).isNull();
+    }
+
+    private static MessageSource resourceBundleSource() {
+        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
+        source.setBasenames(BASENAMES);
+        return source;
+    }
+
+    private static List<String> codes() throws IOException {
+        List<String> codes = new ArrayList<>();
+        for (String basename : BASENAMES) {
+            try (InputStream in = PrecompiledMessageSourceTest.class.getResourceAsStream("/" + basename + "_pt_BR.properties")) {
+                codes.addAll(Collections.list(new PropertyResourceBundle(in).getKeys()));
+            }
+        }
+        Collections.sort(codes);
+        return codes;
+    }
+}
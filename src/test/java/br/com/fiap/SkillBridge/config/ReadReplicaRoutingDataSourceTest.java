@@ -0,0 +1,88 @@
+package br.com.fiap.SkillBridge.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Escolha do pool por transação: escrita/sem transação no primário,
+ * readOnly nas réplicas em round-robin, leituras que alimentam caches
+ * (onPrimary) no primário.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesAndNonTransactionalCallsGoToThePrimary() {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(2);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverTheReplicas() {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(3);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            keys.add(routing.determineCurrentLookupKey());
+        }
+
+        assertThat(keys).containsExactly(
+                "replica-1", "replica-2", "replica-3",
+                "replica-1", "replica-2", "replica-3");
+    }
+
+    @Test
+    void readOnlyWithoutReplicasStaysOnThePrimary() {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void cacheFillingReadsSkipALaggingReplica() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource laggingReplica = mock(DataSource.class);
+        Connection afterTheWrite = mock(Connection.class);
+        Connection beforeTheWrite = mock(Connection.class);
+        given(primary.getConnection()).willReturn(afterTheWrite);
+        given(laggingReplica.getConnection()).willReturn(beforeTheWrite);
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(1);
+        routing.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.PRIMARY, primary,
+                "replica-1", laggingReplica));
+        routing.afterPropertiesSet();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReadReplicaRoutingDataSource.onPrimary(() -> connection(routing))).isSameAs(afterTheWrite);
+        // fora do escopo as demais leituras readOnly continuam na réplica
+        assertThat(routing.getConnection()).isSameAs(beforeTheWrite);
+    }
+
+    private static Connection connection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.fiap.SkillBridge.services;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.repositorys.VagaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Atualização direta da vaga (VagaService.update) x leitor concorrente que
+ * perde o cache de 2º nível: o leitor lê a linha entre o UPDATE e o commit
+ * (snapshot REPEATABLE READ) e só carrega a entidade depois do commit.
+ * A linha antiga não pode ficar na região "vaga".
+ *
+ * Usa o banco da aplicação, como o SkillBridgeApplicationTests.
+ */
+@SpringBootTest
+class VagaUpdateCacheRaceTest {
+
+    @Autowired
+    private VagaService vagaService;
+
+    @Autowired
+    private VagaRepository vagaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long id;
+
+    @BeforeEach
+    void createVaga() {
+        id = vagaRepository.save(Vaga.builder()
+                .titulo("Antes")
+                .requisitos("Java")
+                .empresa("Teste")
+                .local("Remoto")
+                .build()).getId();
+        entityManagerFactory.getCache().evict(Vaga.class, id);
+    }
+
+    @AfterEach
+    void deleteVaga() {
+        vagaRepository.deleteById(id);
+    }
+
+    @Test
+    void readerBetweenUpdateAndCommitDoesNotCacheTheOldRow() throws Exception {
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch readerHasSnapshot = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = pool.submit(() -> {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    vagaService.update(id, Vaga.builder()
+                            .version(0L)
+                            .titulo("Depois")
+                            .requisitos("Java")
+                            .empresa("Teste")
+                            .local("Remoto")
+                            .build());
+                    updated.countDown();
+                    await(readerHasSnapshot);
+                });
+                committed.countDown();
+            });
+
+            TransactionTemplate readerTransaction = new TransactionTemplate(transactionManager);
+            readerTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            Future<Vaga> reader = pool.submit(() -> readerTransaction.execute(status -> {
+                await(updated);
+                // fixa o snapshot antes do commit da edição (consulta escalar, sem cache)
+                vagaRepository.findVersionById(id);
+                readerHasSnapshot.countDown();
+                await(committed);
+                // cache vazio/travado → lê a linha antiga do snapshot e tenta gravá-la na região
+                return vagaRepository.findById(id).orElseThrow();
+            }));
+
+            writer.get(30, TimeUnit.SECONDS);
+            assertThat(reader.get(30, TimeUnit.SECONDS).getTitulo()).isEqualTo("Antes");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Vaga atual = vagaRepository.findById(id).orElseThrow();
+        assertThat(atual.getTitulo()).isEqualTo("Depois");
+        assertThat(atual.getVersion()).isEqualTo(1L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Tempo esgotado esperando a outra transação");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
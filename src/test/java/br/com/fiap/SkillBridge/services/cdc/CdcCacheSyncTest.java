@@ -0,0 +1,78 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.VagaOptionService;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.view.VagaCardCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Invalidações locais feitas pelo CDC (o barramento não entrega ao próprio
+ * nó): cache de 2º nível e cards de vaga, por id ou inteiros no TRUNCATE.
+ */
+class CdcCacheSyncTest {
+
+    private final Cache l2 = mock(Cache.class);
+    private final VagaCardCache cardCache = mock(VagaCardCache.class);
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+    private CdcCacheSync sync;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory emf = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        given(emf.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(l2);
+        sync = new CdcCacheSync(emf, mock(CacheManager.class), mock(VagaOptionService.class),
+                invalidationBus, cardCache);
+    }
+
+    @Test
+    void changedVagaLeavesTheCardCacheOfThisNode() {
+        // UPDATE por SQL direto, sem incrementar "version"
+        sync.onChanges(List.of(
+                change("vaga", CdcChange.Op.UPDATE, 7L),
+                change("vaga", CdcChange.Op.DELETE, 8L)));
+
+        verify(cardCache).evict(7L);
+        verify(cardCache).evict(8L);
+        verify(l2).evictEntityData(Vaga.class, 7L);
+        verify(invalidationBus).evictEntity(Vaga.class, 7L);
+    }
+
+    @Test
+    void truncateClearsAllCards() {
+        sync.onChanges(List.of(change("vaga", CdcChange.Op.TRUNCATE, null)));
+
+        verify(cardCache).clear();
+        verify(l2).evictEntityData(Vaga.class);
+    }
+
+    @Test
+    void candidaturaChangesKeepTheCards() {
+        sync.onChanges(List.of(change("candidatura", CdcChange.Op.INSERT, 3L)));
+
+        verify(cardCache, never()).evict(anyLong());
+        verify(cardCache, never()).clear();
+        verify(invalidationBus).evictQueries();
+    }
+
+    private static CdcChange change(String table, CdcChange.Op op, Long id) {
+        return new CdcChange(1L, Instant.EPOCH, table, op, id, Map.of());
+    }
+}
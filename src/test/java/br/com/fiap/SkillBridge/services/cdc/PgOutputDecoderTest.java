@@ -0,0 +1,203 @@
+package br.com.fiap.SkillBridge.services.cdc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Decodificação de mensagens pgoutput (proto_version 1).
+ *
+ * As mensagens são montadas byte a byte no formato do protocolo
+ * ("Logical Replication Message Formats" da documentação do Postgres),
+ * com os mesmos campos que o servidor envia para vaga/candidatura.
+ */
+class PgOutputDecoderTest {
+
+    private static final int VAGA_OID = 16_401;
+    private static final int CANDIDATURA_OID = 16_420;
+    /** 2024-01-01T00:00:00Z em microssegundos desde 2000-01-01. */
+    private static final long COMMIT_MICROS = 757_382_400_000_000L;
+
+    @Test
+    void transactionIsReturnedOnlyOnCommitWithChangesInOrder() {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+
+        assertThat(decoder.decode(begin(0x1_0000_0200L))).isNull();
+        assertThat(decoder.decode(vagaRelation())).isNull();
+        assertThat(decoder.decode(new Frame('I').i32(VAGA_OID).u8('N')
+                .tuple(text("7"), text("0"), text("Dev Java"), text("Spring"), text("FIAP"), text("Remoto"))
+                .buffer())).isNull();
+        // UPDATE com chave antiga ('K') e requisitos em TOAST não alterado ('u')
+        assertThat(decoder.decode(new Frame('U').i32(VAGA_OID)
+                .u8('K').tuple(text("7"), nul(), nul(), nul(), nul(), nul())
+                .u8('N').tuple(text("7"), text("1"), text("Dev Kotlin"), unchanged(), text("FIAP"), text("Remoto"))
+                .buffer())).isNull();
+        assertThat(decoder.decode(new Frame('D').i32(VAGA_OID)
+                .u8('K').tuple(text("8"), nul(), nul(), nul(), nul(), nul())
+                .buffer())).isNull();
+
+        PgOutputDecoder.Transaction tx = decoder.decode(commit(0x1_0000_0100L, 0x1_0000_0200L));
+
+        assertThat(tx).isNotNull();
+        assertThat(tx.endLsn()).isEqualTo(0x1_0000_0200L);
+        assertThat(tx.changes()).extracting(CdcChange::op)
+                .containsExactly(CdcChange.Op.INSERT, CdcChange.Op.UPDATE, CdcChange.Op.DELETE);
+        assertThat(tx.changes()).extracting(CdcChange::id).containsExactly(7L, 7L, 8L);
+        assertThat(tx.changes()).allSatisfy(change -> {
+            assertThat(change.table()).isEqualTo("vaga");
+            assertThat(change.lsn()).isEqualTo(0x1_0000_0100L);
+            assertThat(change.commitTime()).isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+        });
+
+        Map<String, String> updated = tx.changes().get(1).columns();
+        assertThat(updated).containsEntry("titulo", "Dev Kotlin").containsEntry("version", "1");
+        assertThat(updated).doesNotContainKey("requisitos");
+        assertThat(tx.changes().get(2).columns()).containsEntry("id", "8").containsEntry("titulo", null);
+    }
+
+    @Test
+    void truncateProducesOneChangePerRelationWithoutId() {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        decoder.decode(begin(0x2000L));
+        decoder.decode(vagaRelation());
+        decoder.decode(new Frame('R').i32(CANDIDATURA_OID).str("public").str("candidatura").u8('d')
+                .i16(1).column("id", 20).buffer());
+        decoder.decode(new Frame('T').i32(2).u8(1).i32(VAGA_OID).i32(CANDIDATURA_OID).buffer());
+
+        PgOutputDecoder.Transaction tx = decoder.decode(commit(0x1F00L, 0x2000L));
+
+        assertThat(tx.changes()).extracting(CdcChange::table).containsExactly("vaga", "candidatura");
+        assertThat(tx.changes()).allSatisfy(change -> {
+            assertThat(change.op()).isEqualTo(CdcChange.Op.TRUNCATE);
+            assertThat(change.id()).isNull();
+        });
+    }
+
+    @Test
+    void ignoresOriginAndTypeMessages() {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        decoder.decode(begin(0x3000L));
+        assertThat(decoder.decode(new Frame('O').i64(0x10L).str("origem").buffer())).isNull();
+        assertThat(decoder.decode(new Frame('Y').i32(16_500).str("public").str("status").buffer())).isNull();
+
+        assertThat(decoder.decode(commit(0x2F00L, 0x3000L)).changes()).isEmpty();
+    }
+
+    @Test
+    void rowForUnknownRelationFails() {
+        PgOutputDecoder decoder = new PgOutputDecoder();
+        decoder.decode(begin(0x4000L));
+
+        assertThatThrownBy(() -> decoder.decode(new Frame('I').i32(VAGA_OID).u8('N').tuple(text("1")).buffer()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(Integer.toString(VAGA_OID));
+    }
+
+    // -------------------------------------------------------------------------
+    // Mensagens
+    // -------------------------------------------------------------------------
+
+    private static ByteBuffer begin(long finalLsn) {
+        return new Frame('B').i64(finalLsn).i64(COMMIT_MICROS).i32(742).buffer();
+    }
+
+    private static ByteBuffer commit(long commitLsn, long endLsn) {
+        return new Frame('C').u8(0).i64(commitLsn).i64(endLsn).i64(COMMIT_MICROS).buffer();
+    }
+
+    private static ByteBuffer vagaRelation() {
+        return new Frame('R').i32(VAGA_OID).str("public").str("vaga").u8('d').i16(6)
+                .column("id", 20).column("version", 20).column("titulo", 1043)
+                .column("requisitos", 1043).column("empresa", 1043).column("local", 1043)
+                .buffer();
+    }
+
+    private static byte[] text(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(5 + bytes.length).put((byte) 't').putInt(bytes.length).put(bytes).array();
+    }
+
+    private static byte[] nul() {
+        return new byte[]{'n'};
+    }
+
+    private static byte[] unchanged() {
+        return new byte[]{'u'};
+    }
+
+    /**
+     * Escrita big-endian no formato das mensagens do protocolo.
+     */
+    private static final class Frame {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        Frame(char type) {
+            u8(type);
+        }
+
+        Frame u8(int value) {
+            return write(() -> out.writeByte(value));
+        }
+
+        Frame i16(int value) {
+            return write(() -> out.writeShort(value));
+        }
+
+        Frame i32(int value) {
+            return write(() -> out.writeInt(value));
+        }
+
+        Frame i64(long value) {
+            return write(() -> out.writeLong(value));
+        }
+
+        Frame str(String value) {
+            return write(() -> {
+                out.write(value.getBytes(StandardCharsets.UTF_8));
+                out.writeByte(0);
+            });
+        }
+
+        Frame column(String name, int typeOid) {
+            return u8(0).str(name).i32(typeOid).i32(-1);
+        }
+
+        Frame tuple(byte[]... columns) {
+            i16(columns.length);
+            for (byte[] column : columns) {
+                write(() -> out.write(column));
+            }
+            return this;
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+
+        private Frame write(IoAction action) {
+            try {
+                action.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,215 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Retry com backoff, DLQ e contagem de tentativas no consumo de eventos de
+ * vaga, com o TestRabbitTemplate do spring-rabbit-test (sem broker): as
+ * mensagens vão direto para o listener, e as republicações do
+ * FailedMessageHandler são capturadas num RabbitTemplate mock.
+ */
+@SpringJUnitConfig
+class FailedMessageHandlerTest {
+
+    private static final String QUEUE = "vaga.events.queue";
+    private static final long POISON_ID = 13L;
+
+    @Autowired
+    private TestRabbitTemplate template;
+
+    @Autowired
+    @Qualifier("republisher")
+    private RabbitTemplate republisher;
+
+    @Autowired
+    private FlakyListener listener;
+
+    @BeforeEach
+    void reset() {
+        clearInvocations(republisher);
+        listener.processed.set(0);
+    }
+
+    @Test
+    void firstFailureGoesToFirstRetryQueue() {
+        template.convertAndSend(QUEUE, new VagaEventDto(POISON_ID, "UPDATED"));
+
+        Message retried = captureSend("", QUEUE + ".retry.1000ms");
+        assertThat(retried.getMessageProperties().<Object>getHeader(FailedMessageHandler.ATTEMPTS)).isEqualTo(1);
+        assertThat(retried.getMessageProperties().<Object>getHeader(FailedMessageHandler.LAST_ERROR).toString())
+                .contains("falha simulada");
+        assertThat(retried.getMessageProperties().getMessageId()).isNotNull();
+    }
+
+    @Test
+    void backoffGrowsWithAttempts() {
+        send(POISON_ID, 2);
+
+        Message retried = captureSend("", QUEUE + ".retry.4000ms");
+        assertThat(retried.getMessageProperties().<Object>getHeader(FailedMessageHandler.ATTEMPTS)).isEqualTo(3);
+    }
+
+    @Test
+    void exhaustedMessageIsDeadLettered() {
+        send(POISON_ID, 4);
+
+        Message dead = captureSend("vaga.events.dlx", QUEUE);
+        assertThat(dead.getMessageProperties().<Object>getHeader(FailedMessageHandler.ATTEMPTS)).isEqualTo(5);
+        assertThat(dead.getMessageProperties().<Object>getHeader(FailedMessageHandler.DEAD_LETTERED_AT)).isNotNull();
+    }
+
+    @Test
+    void unreadableMessageIsDeadLetteredWithoutRetry() {
+        MessageProperties props = new MessageProperties();
+        props.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        template.send(QUEUE, new Message("{nao-e-json".getBytes(StandardCharsets.UTF_8), props));
+
+        Message dead = captureSend("vaga.events.dlx", QUEUE);
+        assertThat(dead.getMessageProperties().<Object>getHeader(FailedMessageHandler.ATTEMPTS)).isEqualTo(1);
+    }
+
+    @Test
+    void badMessageDoesNotBlockTheRest() {
+        int good = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < good; i++) {
+            if (i % 1_000 == 0) {
+                template.convertAndSend(QUEUE, new VagaEventDto(POISON_ID, "UPDATED"));
+            }
+            template.convertAndSend(QUEUE, new VagaEventDto((long) i + 100, "CREATED"));
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(listener.processed).hasValue(good);
+        verify(republisher, times(good / 1_000)).send(anyString(), anyString(), any(Message.class));
+        System.out.printf("%d eventos válidos + %d com falha em %d ms%n", good, good / 1_000, elapsedMs);
+    }
+
+    @Test
+    void goodMessageIsNotRepublished() {
+        template.convertAndSend(QUEUE, new VagaEventDto(1L, "CREATED"));
+
+        assertThat(listener.processed).hasValue(1);
+        verify(republisher, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    private void send(long id, int previousAttempts) {
+        Message message = new Jackson2JsonMessageConverter().toMessage(new VagaEventDto(id, "UPDATED"), new MessageProperties());
+        message.getMessageProperties().setHeader(FailedMessageHandler.ATTEMPTS, previousAttempts);
+        template.send(QUEUE, message);
+    }
+
+    private Message captureSend(String exchange, String routingKey) {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(republisher).send(org.mockito.ArgumentMatchers.eq(exchange),
+                org.mockito.ArgumentMatchers.eq(routingKey), captor.capture());
+        return captor.getValue();
+    }
+
+    static class FlakyListener {
+
+        final AtomicInteger processed = new AtomicInteger();
+
+        @RabbitListener(queues = QUEUE, errorHandler = "failedMessageHandler")
+        public void handle(VagaEventDto event) {
+            if (event.getId() == POISON_ID) {
+                throw new IllegalStateException("falha simulada no processamento");
+            }
+            processed.incrementAndGet();
+        }
+    }
+
+    @Configuration
+    @EnableRabbit
+    static class Config {
+
+        @Bean
+        ConnectionFactory connectionFactory() throws Exception {
+            ConnectionFactory factory = mock(ConnectionFactory.class);
+            Connection connection = mock(Connection.class);
+            Channel channel = mock(Channel.class);
+            willReturn(connection).given(factory).createConnection();
+            willReturn(channel).given(connection).createChannel(anyBoolean());
+            given(channel.isOpen()).willReturn(true);
+            return factory;
+        }
+
+        @Bean
+        MessageConverter messageConverter() {
+            return new VagaEventMessageConverter(new Jackson2JsonMessageConverter(), false);
+        }
+
+        @Bean
+        TestRabbitTemplate template(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+            TestRabbitTemplate template = new TestRabbitTemplate(connectionFactory);
+            template.setMessageConverter(messageConverter);
+            return template;
+        }
+
+        @Bean
+        RabbitTemplate republisher() {
+            return mock(RabbitTemplate.class);
+        }
+
+        @Bean
+        RetryPolicy retryPolicy() {
+            return RetryPolicy.exponential(QUEUE, Duration.ofSeconds(1), 2.0, 5, "vaga.events.dlx", "vaga.events.dlq");
+        }
+
+        @Bean
+        FailedMessageHandler failedMessageHandler(@Qualifier("republisher") RabbitTemplate republisher, RetryPolicy retryPolicy) {
+            return new FailedMessageHandler(republisher, retryPolicy, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                           MessageConverter messageConverter) {
+            SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+            factory.setConnectionFactory(connectionFactory);
+            factory.setMessageConverter(messageConverter);
+            return factory;
+        }
+
+        @Bean
+        FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.fiap.SkillBridge.services.messaging;
+
+import br.com.fiap.SkillBridge.events.VagaEventDto;
+import br.com.fiap.SkillBridge.events.VagaEventHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Ciclo de vida do barramento em processo: ordem de parada em relação ao
+ * servidor web e publicação sem consumidores ativos (não pode travar nem
+ * deixar sequência reservada sem evento).
+ */
+class InProcessEventBusTest {
+
+    private final List<Long> received = new CopyOnWriteArrayList<>();
+    private final VagaEventHandler handler = (event, endOfBatch) -> received.add(event.getId());
+
+    @Test
+    void stopsAfterTheWebServerGracefulShutdown() {
+        InProcessEventBus bus = new InProcessEventBus(4, 1_000, List.of(handler), null);
+
+        assertThat(bus.getPhase()).isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+    }
+
+    @Test
+    void eventsPublishedBeforeStartAreDeliveredOnStart() {
+        InProcessEventBus bus = new InProcessEventBus(4, 1_000, List.of(handler), null);
+        bus.publish(new VagaEventDto(1L, "CREATED"));
+        bus.publish(new VagaEventDto(2L, "UPDATED"));
+
+        bus.start();
+        bus.stop(1, TimeUnit.SECONDS);
+
+        assertThat(received).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void fullBufferBeforeStartIsRejectedInsteadOfBlocking() {
+        InProcessEventBus bus = new InProcessEventBus(2, 1_000, List.of(handler), null);
+        bus.publish(new VagaEventDto(1L, "CREATED"));
+        bus.publish(new VagaEventDto(2L, "CREATED"));
+
+        assertThatThrownBy(() -> bus.publish(new VagaEventDto(3L, "CREATED")))
+                .isInstanceOf(IllegalStateException.class);
+
+        bus.start();
+        bus.stop(1, TimeUnit.SECONDS);
+        assertThat(received).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void publishAfterStopIsRejected() {
+        InProcessEventBus bus = new InProcessEventBus(2, 1_000, List.of(handler), null);
+        bus.start();
+        bus.stop(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> bus.publish(new VagaEventDto(1L, "DELETED")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(bus.isRunning()).isFalse();
+    }
+
+    @Test
+    void producerWaitingOnAFullBufferDuringShutdownLeavesNoHole() throws Exception {
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VagaEventHandler slow = (event, endOfBatch) -> {
+            received.add(event.getId());
+            if (event.getId() == 1L) {
+                firstEntered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        InProcessEventBus bus = new InProcessEventBus(2, 5_000, List.of(slow), null);
+        bus.start();
+        bus.publish(new VagaEventDto(1L, "CREATED"));
+        assertThat(firstEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.publish(new VagaEventDto(2L, "CREATED"));
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            // buffer cheio: o terceiro produtor espera por espaço
+            Future<?> waiting = threads.submit(() -> bus.publish(new VagaEventDto(3L, "CREATED")));
+            Thread.sleep(50);
+            assertThat(waiting.isDone()).isFalse();
+
+            Future<?> stopping = threads.submit(() -> bus.stop(5, TimeUnit.SECONDS));
+            assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            release.countDown();
+            stopping.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            threads.shutdownNow();
+        }
+        // o produtor recusado não reservou sequência: nada pendente, consumidor drenou tudo
+        assertThat(received).containsExactly(1L, 2L);
+        assertThat(bus.backlog()).isZero();
+    }
+}
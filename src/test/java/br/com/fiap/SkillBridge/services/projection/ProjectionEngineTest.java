@@ -0,0 +1,210 @@
+package br.com.fiap.SkillBridge.services.projection;
+
+import br.com.fiap.SkillBridge.repositorys.VagaEventoRepository;
+import br.com.fiap.SkillBridge.repositorys.VagaEventoRepository.VagaEvento;
+import br.com.fiap.SkillBridge.services.projection.ProjectionSnapshotStore.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Retomada do rebuild a partir de snapshot parcial e retenção do log
+ * vaga_evento, sem banco: repositório mock, snapshots em diretório
+ * temporário e uma projeção que só guarda os ids.
+ */
+class ProjectionEngineTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final List<VagaRow> VAGAS = List.of(
+            row(1), row(2), row(3), row(4));
+
+    @TempDir
+    Path snapshots;
+
+    private VagaEventoRepository eventos;
+    private ProjectionSnapshotStore store;
+    private IdsProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        eventos = mock(VagaEventoRepository.class);
+        store = new ProjectionSnapshotStore(snapshots);
+        projection = new IdsProjection();
+        given(eventos.currentSeq()).willReturn(50L);
+        given(eventos.snapshotXmin()).willReturn(1_000L);
+        willAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Consumer<List<VagaRow>> consumer = invocation.getArgument(2);
+            List<VagaRow> rest = VAGAS.stream().filter(r -> r.id() > afterId).toList();
+            if (!rest.isEmpty()) {
+                consumer.accept(rest);
+            }
+            return null;
+        }).given(eventos).streamVagas(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void recentPartialSnapshotResumesAfterLastId() {
+        projection.ids.addAll(Set.of(1L, 2L));
+        store.write(projection, new Header(40L, 900L, Instant.now().minus(Duration.ofHours(1)), 2L));
+
+        engine().initialize();
+
+        verify(eventos).streamVagas(eq(2L), anyInt(), any());
+        assertThat(projection.ids).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(store.read(new IdsProjection())).get().extracting(Header::eventSeq).isEqualTo(40L);
+    }
+
+    @Test
+    void partialSnapshotOlderThanRetentionIsRebuiltFromScratch() {
+        projection.ids.addAll(Set.of(1L, 2L, 99L));
+        store.write(projection, new Header(40L, 900L, Instant.now().minus(RETENTION).minusSeconds(60), 2L));
+
+        engine().initialize();
+
+        verify(eventos).streamVagas(eq(0L), anyInt(), any());
+        assertThat(projection.ids).containsExactly(1L, 2L, 3L, 4L);
+        Header written = store.read(new IdsProjection()).orElseThrow();
+        assertThat(written.complete()).isTrue();
+        assertThat(written.eventSeq()).isEqualTo(50L);
+        assertThat(written.eventXmin()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void eventCommittedLateBehindTheAppliedSeqIsReplayed() {
+        projection.ids.addAll(Set.of(1L, 2L));
+        store.write(projection, new Header(40L, 900L, Instant.now().minus(Duration.ofHours(1)),
+                ProjectionSnapshotStore.COMPLETE));
+        // seq 35 reservado antes do snapshot, transação (txid >= 900) comitada depois
+        given(eventos.findLateEvents(40L, 900L))
+                .willReturn(List.of(new VagaEvento(35L, 7L, 'U', Instant.now().minus(Duration.ofHours(2)))));
+        given(eventos.findEventsAfter(anyLong(), anyInt())).willReturn(List.of());
+        given(eventos.findRows(any())).willReturn(List.of(row(7)));
+
+        ProjectionEngine engine = engine();
+        engine.initialize();
+        engine.replay();
+        engine.snapshot();
+
+        assertThat(projection.ids).containsExactly(1L, 2L, 7L);
+        // a leitura seguinte parte do xmin da anterior, não de uma janela de tempo
+        verify(eventos).findLateEvents(40L, 1_000L);
+        assertThat(store.read(new IdsProjection())).get().extracting(Header::eventXmin).isEqualTo(1_000L);
+    }
+
+    @Test
+    void commonPartialRejectsMismatchedOrStaleHeaders() {
+        Instant oldestUsable = Instant.now().minus(RETENTION);
+        IdsProjection other = new IdsProjection("outra");
+        Header recent = new Header(10L, 900L, Instant.now(), 5L);
+
+        assertThat(ProjectionEngine.commonPartial(List.of(projection, other),
+                Map.of(projection, recent, other, recent), oldestUsable)).isEqualTo(recent);
+        assertThat(ProjectionEngine.commonPartial(List.of(projection, other),
+                Map.of(projection, recent, other, new Header(10L, 900L, Instant.now(), 7L)), oldestUsable)).isNull();
+        assertThat(ProjectionEngine.commonPartial(List.of(projection),
+                Map.of(projection, new Header(10L, 900L, oldestUsable.minusSeconds(1), 5L)), oldestUsable)).isNull();
+    }
+
+    @Test
+    void retentionPurgesEventsOlderThanTheWindow() {
+        new VagaEventoRetention(eventos, RETENTION).purgeEvents();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(eventos).purgeOlderThan(cutoff.capture());
+        assertThat(cutoff.getValue()).isCloseTo(Instant.now().minus(RETENTION), within(Duration.ofSeconds(5)));
+    }
+
+    private ProjectionEngine engine() {
+        return new ProjectionEngine(List.of(projection), eventos, store, mock(PlatformTransactionManager.class),
+                2, 1, 100, 1000, RETENTION, false);
+    }
+
+    private static VagaRow row(long id) {
+        return new VagaRow(id, 0L, "Vaga " + id, "Java", "Empresa", "Remoto");
+    }
+
+    /**
+     * Projeção mínima: o conjunto de ids aplicados.
+     */
+    private static final class IdsProjection implements Projection {
+
+        private final String name;
+        final Set<Long> ids = new ConcurrentSkipListSet<>();
+
+        IdsProjection() {
+            this("ids");
+        }
+
+        IdsProjection(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int snapshotVersion() {
+            return 1;
+        }
+
+        @Override
+        public void reset() {
+            ids.clear();
+        }
+
+        @Override
+        public void apply(VagaRow row) {
+            ids.add(row.id());
+        }
+
+        @Override
+        public void remove(long vagaId) {
+            ids.remove(vagaId);
+        }
+
+        @Override
+        public void writeSnapshot(DataOutputStream out) throws IOException {
+            out.writeInt(ids.size());
+            for (long id : new TreeSet<>(ids)) {
+                out.writeLong(id);
+            }
+        }
+
+        @Override
+        public void readSnapshot(DataInputStream in) throws IOException {
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                ids.add(in.readLong());
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.fiap.SkillBridge.services.view;
+
+import br.com.fiap.SkillBridge.models.Curriculo;
+import br.com.fiap.SkillBridge.models.Vaga;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidation;
+import br.com.fiap.SkillBridge.services.cache.CacheInvalidationBus;
+import br.com.fiap.SkillBridge.services.cache.InvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Cache de cards de vaga: chave id + versão + idioma, divisão no marcador
+ * CSRF e invalidação local e vinda dos outros nós. O template é simulado;
+ * a renderização real é medida no VagaListingRenderBenchmark.
+ */
+class VagaCardCacheTest {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final Locale EN_US = Locale.forLanguageTag("en-US");
+
+    private ITemplateEngine engine;
+    private Consumer<CacheInvalidation> fromOtherNodes;
+    private VagaCardCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        engine = mock(ITemplateEngine.class);
+        given(engine.process(eq(VagaCardCache.TEMPLATE), any(IContext.class)))
+                .willAnswer(invocation -> {
+                    IContext context = invocation.getArgument(1);
+                    Vaga vaga = (Vaga) context.getVariable("vaga");
+                    return "<form>" + vaga.getTitulo() + "@" + context.getLocale()
+                            + VagaCardCache.CSRF_MARKER + "</form>";
+                });
+
+        InvalidationTransport transport = mock(InvalidationTransport.class);
+        CacheInvalidationBus bus = new CacheInvalidationBus(transport, () -> null);
+        ArgumentCaptor<Consumer<CacheInvalidation>> receiver = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).setReceiver(receiver.capture());
+        fromOtherNodes = receiver.getValue();
+
+        cache = new VagaCardCache(engine, bus, new SimpleMeterRegistry(), 3);
+    }
+
+    @Test
+    void cardIsSplitAtTheCsrfMarker() {
+        assertThat(cache.card(vaga(1L, 0L, "Dev Java"), PT_BR))
+                .containsExactly("<form>Dev Java@pt_BR", "</form>");
+    }
+
+    @Test
+    void sameIdVersionAndLocaleIsRenderedOnce() {
+        String[] first = cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+
+        assertThat(cache.card(vaga(1L, 0L, "Dev Java"), PT_BR)).isSameAs(first);
+        assertThat(cache.card(vaga(1L, 0L, "Dev Java"), EN_US)[0]).endsWith("@en_US");
+        verify(engine, times(2)).process(eq(VagaCardCache.TEMPLATE), any(IContext.class));
+    }
+
+    @Test
+    void newVersionIsRenderedAgain() {
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+
+        assertThat(cache.card(vaga(1L, 1L, "Dev Kotlin"), PT_BR)[0]).contains("Dev Kotlin");
+    }
+
+    @Test
+    void localAndRemoteEvictionDropTheCard() {
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+        cache.card(vaga(2L, 0L, "Dev Go"), PT_BR);
+
+        cache.evictAfterCommit(1L);
+        fromOtherNodes.accept(entity("outro-no", Vaga.class, "2"));
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+        cache.card(vaga(2L, 0L, "Dev Go"), PT_BR);
+
+        verify(engine, times(4)).process(eq(VagaCardCache.TEMPLATE), any(IContext.class));
+    }
+
+    @Test
+    void remoteInvalidationWithoutKeyClearsAllCards() {
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+        cache.card(vaga(2L, 0L, "Dev Go"), PT_BR);
+
+        fromOtherNodes.accept(entity("outro-no", Vaga.class, null));
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+        cache.card(vaga(2L, 0L, "Dev Go"), PT_BR);
+
+        verify(engine, times(4)).process(eq(VagaCardCache.TEMPLATE), any(IContext.class));
+    }
+
+    @Test
+    void invalidationOfOtherEntitiesIsIgnored() {
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+
+        fromOtherNodes.accept(entity("outro-no", Curriculo.class, null));
+        cache.card(vaga(1L, 0L, "Dev Java"), PT_BR);
+
+        verify(engine, times(1)).process(eq(VagaCardCache.TEMPLATE), any(IContext.class));
+    }
+
+    @Test
+    void exceedingMaxEntriesStartsOver() {
+        for (long id = 1; id <= 4; id++) {
+            cache.card(vaga(id, 0L, "Vaga " + id), PT_BR);
+        }
+        cache.card(vaga(4L, 0L, "Vaga 4"), PT_BR);
+        cache.card(vaga(1L, 0L, "Vaga 1"), PT_BR);
+
+        verify(engine, times(5)).process(eq(VagaCardCache.TEMPLATE), any(IContext.class));
+    }
+
+    private static CacheInvalidation entity(String origin, Class<?> type, String key) {
+        return new CacheInvalidation(origin, CacheInvalidation.Type.ENTITY, type.getName(), key);
+    }
+
+    private static Vaga vaga(Long id, Long version, String titulo) {
+        return Vaga.builder()
+                .id(id)
+                .version(version)
+                .titulo(titulo)
+                .empresa("Empresa " + id)
+                .local("Remoto")
+                .requisitos("Java")
+                .build();
+    }
+}